@@ -2,12 +2,14 @@ package com.ruchira.murex;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
 @SpringBootApplication
 @EnableTransactionManagement
 @EnableAsync
+@EnableCaching
 public class InstructionProcessorApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,58 @@
+package com.ruchira.murex.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static com.ruchira.murex.constant.Constants.*;
+
+/**
+ * Configuration for the in-process reference data caches
+ * Each cache is bounded by size and expires entries after a fixed time since load
+ * <p>
+ * Caches are registered up front so their hit/miss/eviction statistics are bound to the
+ * actuator {@code metrics} endpoint (cache.gets, cache.evictions, cache.size) at startup.
+ * Entries can be invalidated through the actuator {@code caches} endpoint
+ * ({@code DELETE /actuator/caches} or {@code DELETE /actuator/caches/{name}}).
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.cache")
+@Data
+public class CacheConfig {
+
+    private Map<String, CacheSpec> specs = defaultSpecs();
+
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setAllowNullValues(false);
+        specs.forEach((name, spec) -> cacheManager.registerCustomCache(name, Caffeine.newBuilder()
+                .expireAfterWrite(spec.getTtl())
+                .maximumSize(spec.getMaximumSize())
+                .recordStats()
+                .build()));
+        return cacheManager;
+    }
+
+    private static Map<String, CacheSpec> defaultSpecs() {
+        Map<String, CacheSpec> defaults = new LinkedHashMap<>();
+        defaults.put(INSTRUCTION_EVENT_RULES_CACHE, new CacheSpec());
+        defaults.put(CURRENCY_CONFIGS_CACHE, new CacheSpec());
+        defaults.put(BOOKING_PLANS_CACHE, new CacheSpec());
+        return defaults;
+    }
+
+    @Data
+    public static class CacheSpec {
+        private Duration ttl = Duration.ofMinutes(30);
+        private long maximumSize = 500;
+    }
+}
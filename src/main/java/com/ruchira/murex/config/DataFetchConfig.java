@@ -0,0 +1,39 @@
+package com.ruchira.murex.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for reading aggregated trade data
+ * Controls how the apportionment join result is pulled from the database
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.fetch")
+@Data
+public class DataFetchConfig {
+
+    /**
+     * Rows requested per round trip when streaming the aggregated fetch.
+     * A positive value makes the MariaDB driver stream the result set instead of buffering it.
+     */
+    private int streamingFetchSize = 1000;
+
+    /**
+     * Maximum number of contracts bound into a single fetch statement.
+     * Larger externalTradeIds lists are split into chunks of this size and fetched concurrently.
+     */
+    private int chunkSize = 500;
+
+    /**
+     * Maximum number of chunk queries running at the same time.
+     * Each running chunk holds a pooled connection, so keep this below the pool size.
+     */
+    private int chunkParallelism = 4;
+
+    /**
+     * Rows per columnar batch the streamed rows are stored in.
+     * A batch is released once none of its rows is referenced by a grouped record still in use.
+     */
+    private int columnarBatchSize = 1024;
+}
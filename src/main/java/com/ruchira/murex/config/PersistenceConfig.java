@@ -0,0 +1,63 @@
+package com.ruchira.murex.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for writing generated bookings
+ * Controls how many rows are written per statement batch and per transaction
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.persistence")
+@Data
+public class PersistenceConfig {
+
+    /**
+     * Trades written and committed together by the bulk booking writer.
+     * Their bookings, legs and components each go out as one batch, and the chunk commits in its own transaction.
+     */
+    private int bookingChunkSize = 200;
+
+    /**
+     * Ids reserved from h_id_allocation per round trip, for each of the booking, leg and component sequences.
+     * Ids left in a block when the application stops are never used; larger blocks mean fewer reservations and wider gaps.
+     */
+    private int idBlockSize = 1000;
+
+    /**
+     * DMC rows written per multi-row INSERT into h_stg_mrx_ext_dmc.
+     * Capped so a statement never exceeds the 65535 placeholders a prepared statement can carry.
+     */
+    private int dmcChunkSize = 500;
+
+    /**
+     * Whether large DMC runs are written with LOAD DATA LOCAL INFILE instead of multi-row INSERTs.
+     * The datasource URL enables allowLocalInfile only when this is set; local_infile must be enabled on the server and,
+     * when the load fails, the rows are inserted in chunks instead.
+     */
+    private boolean dmcBulkLoadEnabled = false;
+
+    /**
+     * Minimum number of DMC rows in one write for the bulk load to be used. With write-behind enabled, the stage
+     * holds back rows until this many are pending (or the run ends) before writing them.
+     */
+    private int dmcBulkLoadThreshold = 20000;
+
+    /**
+     * Whether DMC rows are written while the run is still transforming, instead of after all groups are done.
+     * Rows go to h_stg_mrx_ext_dmc_pending first and are moved into h_stg_mrx_ext_dmc in the run's transaction.
+     */
+    private boolean dmcWriteBehindEnabled = true;
+
+    /**
+     * Age after which rows in h_stg_mrx_ext_dmc_pending are treated as left over from a crashed run and purged.
+     * Must be longer than the longest run.
+     */
+    private int dmcPendingRetentionHours = 24;
+
+    /**
+     * Group results the write-behind stage buffers before transformation tasks block on handing over more
+     */
+    private int dmcWriteBehindQueueCapacity = 64;
+}
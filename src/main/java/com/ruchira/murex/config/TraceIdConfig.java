@@ -0,0 +1,35 @@
+package com.ruchira.murex.config;
+
+import com.ruchira.murex.util.TraceIdGenerator;
+import jakarta.annotation.PostConstruct;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for trace ID generation
+ * The node id keeps trace IDs of concurrently running instances apart, so it must be unique per instance
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.trace-id")
+@Data
+@Slf4j
+public class TraceIdConfig {
+
+    /**
+     * Node id of this instance, between 0 and 1023.
+     * When unset, an id derived from host name and process id is used.
+     */
+    private Integer nodeId;
+
+    @PostConstruct
+    public void applyNodeId() {
+        if (nodeId != null) {
+            TraceIdGenerator.setNodeId(nodeId);
+        } else {
+            log.warn("app.trace-id.node-id is not set, using derived node id {}; set it when running more than one instance",
+                    TraceIdGenerator.getNodeId());
+        }
+    }
+}
@@ -45,7 +45,26 @@ public final class Constants {
     public static final String FETCH_MUREX_BOOK_CODES_FTL_FILE = "fetchMurexBookCodes.ftl";
     public static final String FETCH_CURRENCY_CONFIG_FTL_FILE = "fetchCurrencyConfig.ftl";
     public static final String INSERT_DATA_TO_STG_MTX_EXT_DMC_FTL_FILE = "stgMrxExtDmcInsertData.ftl";
+    public static final String DELETE_STG_MTX_EXT_DMC_PENDING_BY_RUN_FTL_FILE = "stgMrxExtDmcPendingDeleteByRun.ftl";
+    public static final String PURGE_STG_MTX_EXT_DMC_PENDING_FTL_FILE = "stgMrxExtDmcPendingPurge.ftl";
+    public static final String FETCH_PROCESSED_CONTRACT_LEDGER_FTL_FILE = "fetchProcessedContractLedger.ftl";
+    public static final String UPSERT_PROCESSED_CONTRACT_LEDGER_FTL_FILE = "processedContractLedgerUpsert.ftl";
     public static final String INSERT_DATA_TO_MUREX_BOOKING_FTL_FILE = "murexBookingInsert.ftl";
     public static final String INSERT_DATA_TO_MUREX_BOOK_TRADE_LEG_FTL_FILE = "murexBookingTradeLegInsert.ftl";
     public static final String INSERT_DATA_TO_MUREX_BOOK_TRADE_LEG_COMPONENTS_FTL_FILE = "murexBookingTradeLegComponentInsert.ftl";
+    public static final String FETCH_ID_ALLOCATION_FOR_UPDATE_FTL_FILE = "idAllocationSelectForUpdate.ftl";
+    public static final String ADVANCE_ID_ALLOCATION_FTL_FILE = "idAllocationAdvance.ftl";
+
+    // Work table the DMC write-behind stage writes into before a run is moved into h_stg_mrx_ext_dmc
+    public static final String STG_MRX_EXT_DMC_PENDING_TABLE = "h_stg_mrx_ext_dmc_pending";
+
+    // ID sequences in h_id_allocation
+    public static final String MUREX_BOOKING_ID_SEQUENCE = "h_murex_booking";
+    public static final String MUREX_TRADE_LEG_ID_SEQUENCE = "h_murex_trade_leg";
+    public static final String MUREX_TRADE_LEG_COMPONENT_ID_SEQUENCE = "h_murex_trade_leg_component";
+
+    // Cache names
+    public static final String INSTRUCTION_EVENT_RULES_CACHE = "instructionEventRules";
+    public static final String CURRENCY_CONFIGS_CACHE = "currencyConfigs";
+    public static final String BOOKING_PLANS_CACHE = "murexBookingPlans";
 }
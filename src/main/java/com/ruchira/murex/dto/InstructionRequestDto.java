@@ -11,4 +11,9 @@ public class InstructionRequestDto {
     private String currency;
     private String hedgeInstrumentType;
     private String externalTradeIds;
+
+    /**
+     * Skip groups already processed with unchanged input for the same business date, event and currency
+     */
+    private boolean incremental;
 }
@@ -107,6 +107,7 @@ public class StgMrxExtDmcDto {
     private String traceId;
     private String instructionRuleId;
     private String murexBookCode;
+    private String runId;
 
     // Audit Fields
     private LocalDateTime createdAt;
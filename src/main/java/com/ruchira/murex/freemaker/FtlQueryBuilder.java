@@ -7,4 +7,6 @@ public interface FtlQueryBuilder {
      void init();
 
      String buildQuery(Map<String, Object> params, String ftlFileName);
+
+     ParameterizedQuery buildParameterizedQuery(Map<String, Object> params, String ftlFileName);
 }
@@ -10,6 +10,7 @@ import freemarker.template.TemplateExceptionHandler;
 import io.micrometer.core.instrument.util.IOUtils;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.stereotype.Component;
 
 import java.io.*;
@@ -67,4 +68,21 @@ public class FtlSqlQueryBuilder implements FtlQueryBuilder {
             throw new FTLException(message, exception);
         }
     }
+
+    /**
+     * Renders a template that uses named placeholders ({@code :name}) instead of inlined values
+     * and returns the SQL together with the bind parameters.
+     *
+     * <p>The payload is still passed to the template so that structural directives
+     * (e.g. {@code <#if businessEvent??>}) keep working, but the values themselves are only bound.</p>
+     *
+     * @param payload     template model, also used as the bind parameter values
+     * @param ftlFileName template file name under {@code /ftl/}
+     * @return the rendered SQL and its {@link org.springframework.jdbc.core.namedparam.SqlParameterSource}
+     */
+    @Override
+    public ParameterizedQuery buildParameterizedQuery(Map<String, Object> payload, String ftlFileName) {
+        final String sql = buildQuery(payload, ftlFileName);
+        return new ParameterizedQuery(sql, new MapSqlParameterSource(payload));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.ruchira.murex.freemaker;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+/**
+ * SQL rendered from an FTL template that only contains named placeholders,
+ * together with the values bound to those placeholders.
+ *
+ * <p>Because values are never inlined into the statement text, the SQL string
+ * stays stable across instruction runs and can be reused as a prepared statement.
+ * List values (e.g. {@code contractList}) are expanded into IN-lists at execution time.</p>
+ */
+@Getter
+@AllArgsConstructor
+public class ParameterizedQuery {
+    private final String sql;
+    private final SqlParameterSource parameters;
+}
@@ -0,0 +1,23 @@
+package com.ruchira.murex.kafka.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * A {@link HAWKMurexBookingRecord} serialized once to UTF-8 JSON
+ * <p>
+ * The same bytes are stored in {@code h_murex_booking.murex_booking_record} and sent as the Kafka record value
+ * through {@code PassThroughJsonSerializer}, so a booking record is never serialized twice.
+ */
+@Getter
+@RequiredArgsConstructor
+public final class SerializedBookingRecord {
+
+    private final String tradeReference;
+    private final byte[] json;
+
+    @Override
+    public String toString() {
+        return String.format("SerializedBookingRecord(tradeReference=%s, bytes=%d)", tradeReference, json.length);
+    }
+}
@@ -3,8 +3,10 @@ package com.ruchira.murex.kafka.producer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.CompletableFuture;
 
 @Component
 @RequiredArgsConstructor
@@ -13,9 +15,12 @@ public class KafkaPublisherHandler {
 
     private final KafkaTemplate<String, Object> kafkaTemplate;
 
-    public void publish(final String topic, final Object payload) {
+    /**
+     * @return Send result, completed exceptionally if the broker did not acknowledge the message
+     */
+    public CompletableFuture<SendResult<String, Object>> publish(final String topic, final Object payload) {
 
-        kafkaTemplate.send(topic, payload).whenCompleteAsync((result, exception) -> {
+        return kafkaTemplate.send(topic, payload).whenCompleteAsync((result, exception) -> {
             if (exception == null) {
                 log.info("Event Published Successfully with Offset: {}", result.getRecordMetadata().offset());
                 return;
@@ -0,0 +1,31 @@
+package com.ruchira.murex.kafka.producer;
+
+import com.ruchira.murex.kafka.model.SerializedBookingRecord;
+import org.apache.kafka.common.header.Headers;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+/**
+ * Value serializer that sends already serialized booking records as is
+ * <p>
+ * {@link SerializedBookingRecord} payloads are written without another JSON pass and without type headers;
+ * consumers resolve them through their default value type. Any other payload is serialized by
+ * {@link JsonSerializer} as before.
+ */
+public class PassThroughJsonSerializer extends JsonSerializer<Object> {
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, Object data) {
+        if (data instanceof SerializedBookingRecord serialized) {
+            return serialized.getJson();
+        }
+        return super.serialize(topic, headers, data);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Object data) {
+        if (data instanceof SerializedBookingRecord serialized) {
+            return serialized.getJson();
+        }
+        return super.serialize(topic, data);
+    }
+}
@@ -0,0 +1,153 @@
+package com.ruchira.murex.mapper;
+
+import com.ruchira.murex.kafka.model.HAWKMurexBookingRecord;
+import com.ruchira.murex.kafka.model.HAWKMurexBookingTradeLeg;
+import com.ruchira.murex.kafka.model.HawkMurexBookingTradeLegAdditionalFields;
+import com.ruchira.murex.kafka.model.HawkMurexBookingTradeLegComponent;
+import com.ruchira.murex.model.TransformedMurexTrade;
+import com.ruchira.murex.model.trade.BookedTrade;
+import com.ruchira.murex.model.trade.MurexTrade;
+import com.ruchira.murex.model.trade.MurexTradeLeg;
+import com.ruchira.murex.model.trade.MurexTradeLegAdditionalFields;
+import com.ruchira.murex.model.trade.MurexTradeLegComponent;
+import com.ruchira.murex.util.MurexTradingHelper;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.ruchira.murex.constant.Constants.NEAR_LEG_TYPE;
+
+/**
+ * Builds the persisted {@link MurexTrade} tree and the downstream {@link HAWKMurexBookingRecord} from the
+ * transformed legs in a single pass
+ * <p>
+ * Every output value is read or derived once from the {@link TransformedMurexTrade} and written to both trees,
+ * replacing the chain {@code MurexTradeRecordMapper} then {@code HawkMurexBookingMapper}. Field mapping follows
+ * those two mappers exactly, which remain in place as the reference path for parity checks. Properties neither
+ * mapper populates (e.g. murexShortLabel, clientForwardRate, executionVenue) are left at their defaults.
+ */
+@Component
+public class FusedBookingMapper {
+
+    /**
+     * Maps a single-leg trade; the leg is booked as the near leg
+     */
+    public BookedTrade mapSingleLeg(TransformedMurexTrade trade) {
+        BookedTrade bookedTrade = mapHeader(trade);
+        addLeg(bookedTrade, trade, true);
+        return bookedTrade;
+    }
+
+    /**
+     * Maps a two-leg trade; the header is taken from the first leg and each leg is placed by its leg identification type
+     */
+    public BookedTrade mapLegs(List<TransformedMurexTrade> trades) {
+        BookedTrade bookedTrade = mapHeader(trades.getFirst());
+        trades.forEach(tradeLeg -> addLeg(bookedTrade, tradeLeg, NEAR_LEG_TYPE.equals(tradeLeg.getLegIdentificationType())));
+        return bookedTrade;
+    }
+
+    private BookedTrade mapHeader(TransformedMurexTrade source) {
+        final String tradeReference = source.getTraceId();
+        final LocalDate executionDate = source.getTransDte();
+        final String dealType = source.getOutboundProduct();
+        final String sourcePortfolio = source.getTradingPortf();
+        final String destinationPortfolio = source.getCtpy();
+        final String familyGrpType = source.getFamilyGrpType();
+
+        MurexTrade murexTrade = new MurexTrade();
+        murexTrade.setTradeReference(tradeReference);
+        murexTrade.setTradeExecutionDate(executionDate);
+        murexTrade.setTradeExecutionTime(source.getDealTime());
+        murexTrade.setDealType(dealType);
+        murexTrade.setSourcePortfolio(sourcePortfolio);
+        murexTrade.setDestinationPortfolio(destinationPortfolio);
+        murexTrade.setFamilyGrpType(familyGrpType);
+
+        HAWKMurexBookingRecord hawkRecord = new HAWKMurexBookingRecord();
+        hawkRecord.setExternalReference(tradeReference);
+        hawkRecord.setTransDate(executionDate);
+        hawkRecord.setDealTime(murexTrade.getTradeExecutionTime());
+        hawkRecord.setDealType(dealType);
+        hawkRecord.setTradingPortf(sourcePortfolio);
+        hawkRecord.setDestinationPortfolio(destinationPortfolio);
+        hawkRecord.setInternal(murexTrade.getInternal());
+        hawkRecord.setFamilyGrpType(familyGrpType);
+
+        return new BookedTrade(murexTrade, hawkRecord);
+    }
+
+    private void addLeg(BookedTrade bookedTrade, TransformedMurexTrade source, boolean nearLeg) {
+        final String dealCcy = MurexTradingHelper.determineDealCurrency(source);
+        final BigDecimal dealAmount = MurexTradingHelper.determineDealAmount(source);
+        final BigDecimal clientSpotRate = MurexTradingHelper.determineClientSpotRate(source);
+        final BigDecimal clientRate = MurexTradingHelper.determineClientRate(source);
+        final String fwswPoints = source.getFwswPoints() != null ? source.getFwswPoints().toString() : null;
+
+        MurexTradeLeg leg = new MurexTradeLeg();
+        leg.setDealCcy(dealCcy);
+        leg.setDealAmount(dealAmount);
+        leg.setBsIndicator(source.getBsIndicator());
+        leg.setClientSpotRate(clientSpotRate);
+        leg.setInitPrice(source.getInitPrice());
+        leg.setClientRate(clientRate);
+        leg.setFwswPoints(fwswPoints);
+        leg.setValueDate(source.getValueDte());
+        leg.setFixDate(source.getFixDate());
+
+        HAWKMurexBookingTradeLeg hawkLeg = new HAWKMurexBookingTradeLeg();
+        hawkLeg.setDealCcy(dealCcy);
+        hawkLeg.setDealAmount(dealAmount);
+        hawkLeg.setBsIndicator(leg.getBsIndicator());
+        hawkLeg.setSpotRate(clientSpotRate);
+        hawkLeg.setInitPrice(leg.getInitPrice());
+        hawkLeg.setExchRate(clientRate);
+        hawkLeg.setFwswPoints(fwswPoints);
+        hawkLeg.setValueDate(leg.getValueDate());
+        hawkLeg.setFixDate(leg.getFixDate());
+
+        // Component
+        MurexTradeLegComponent component = new MurexTradeLegComponent();
+        component.setCurrencyPair(source.getInstrumentCode());
+        component.setMarketSpotRate(source.getMarketSpotRate1());
+
+        HawkMurexBookingTradeLegComponent hawkComponent = new HawkMurexBookingTradeLegComponent();
+        hawkComponent.setCurrencyPair(component.getCurrencyPair());
+        hawkComponent.setMarketSpotRate(component.getMarketSpotRate());
+
+        leg.setComponents(List.of(component));
+        hawkLeg.setComponents(List.of(hawkComponent));
+
+        // Additional fields
+        MurexTradeLegAdditionalFields additionalFields = new MurexTradeLegAdditionalFields();
+        additionalFields.setSourceSystem(source.getSourceSystem());
+        additionalFields.setTraderId(source.getTraderId());
+        additionalFields.setOrigContractRef(source.getTxnId());
+        additionalFields.setCounterPartyCode(source.getCtpy());
+        additionalFields.setComment0(source.getComment0());
+        additionalFields.setComment1(source.getComment1());
+        additionalFields.setComment2(source.getComment2());
+
+        HawkMurexBookingTradeLegAdditionalFields hawkAdditionalFields = new HawkMurexBookingTradeLegAdditionalFields();
+        hawkAdditionalFields.setSourceSystem(additionalFields.getSourceSystem());
+        hawkAdditionalFields.setTraderId(additionalFields.getTraderId());
+        hawkAdditionalFields.setOrigContractRef(additionalFields.getOrigContractRef());
+        hawkAdditionalFields.setCounterPartyCode(additionalFields.getCounterPartyCode());
+        hawkAdditionalFields.setComment0(additionalFields.getComment0());
+        hawkAdditionalFields.setComment1(additionalFields.getComment1());
+        hawkAdditionalFields.setComment2(additionalFields.getComment2());
+
+        leg.setAdditionalFields(additionalFields);
+        hawkLeg.setAdditionalFields(hawkAdditionalFields);
+
+        if (nearLeg) {
+            bookedTrade.getMurexTrade().setNearLeg(leg);
+            bookedTrade.getHawkBookingRecord().setNearLeg(hawkLeg);
+        } else {
+            bookedTrade.getMurexTrade().setFarLeg(leg);
+            bookedTrade.getHawkBookingRecord().setFarLeg(hawkLeg);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.ruchira.murex.model;
+
+import com.ruchira.murex.model.batch.TradeRow;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.ruchira.murex.constant.Constants.BLENDED_HISTORICAL_EXCHANGE_RATE;
+import static com.ruchira.murex.constant.Constants.REF_TRADE_EXCHANGE_RATE;
+import static java.math.BigDecimal.ZERO;
+
+/**
+ * Exchange rates of one instruction run, keyed by rate type, currency pair and entity, with precomputed reciprocals.
+ *
+ * <p>Populated from the fetched records as they are streamed, so rates shared by every record of a currency family
+ * on the business date are inverted once per run instead of once per flipped booking. The table is safe for
+ * concurrent use by the record processing tasks.</p>
+ *
+ * <p>Results are identical to computing the rate per booking: a reciprocal is only reused when the booking's rate
+ * equals the registered rate, and the reciprocal ({@code 1 / rate}, scale 6, {@code HALF_UP}) depends only on the
+ * numeric value of the rate. Non-flipped bookings always use their own rate instance. Rates not seen while
+ * streaming (e.g. after currency overrides) are registered on first use.</p>
+ */
+public final class ExchangeRateTable {
+
+    private static final int RECIPROCAL_SCALE = 6;
+
+    private final Map<RateKey, RateEntry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Registers the historical and reference trade rates of a fetched record
+     */
+    public void register(TradeRow record) {
+        register(BLENDED_HISTORICAL_EXCHANGE_RATE, record.getCurr1(), record.getCurr2(), record.getEntityId(), record.getHistoricalExchangeRate());
+        register(REF_TRADE_EXCHANGE_RATE, record.getCurr1(), record.getCurr2(), record.getEntityId(), record.getSpotRate());
+    }
+
+    /**
+     * Resolves the rate to apply to a booking
+     *
+     * @param rateType     {@code REF_TRADE} or {@code BLEND_HISTFX}
+     * @param booking      Booking the rate was read from (supplies currency pair and entity)
+     * @param rate         The booking's rate; {@code null} is treated as zero
+     * @param flipCurrency Whether the reciprocal is required
+     * @return The rate, or its reciprocal when flipping a non-zero rate
+     */
+    public BigDecimal resolve(String rateType, TransformedMurexTrade booking, BigDecimal rate, boolean flipCurrency) {
+        final BigDecimal bookingRate = rate == null ? ZERO : rate;
+        if (!flipCurrency || bookingRate.compareTo(ZERO) == 0) {
+            return bookingRate;
+        }
+
+        RateKey key = new RateKey(rateType, booking.getCurr1(), booking.getCurr2(), booking.getEntityId());
+        RateEntry entry = entries.computeIfAbsent(key, k -> new RateEntry(bookingRate));
+        return entry.matches(bookingRate) ? entry.reciprocal() : reciprocal(bookingRate);
+    }
+
+    private void register(String rateType, String curr1, String curr2, String entityId, BigDecimal rate) {
+        if (rate != null && rate.compareTo(ZERO) != 0) {
+            entries.putIfAbsent(new RateKey(rateType, curr1, curr2, entityId), new RateEntry(rate));
+        }
+    }
+
+    private static BigDecimal reciprocal(BigDecimal rate) {
+        return BigDecimal.ONE.divide(rate, RECIPROCAL_SCALE, RoundingMode.HALF_UP);
+    }
+
+    private record RateKey(String rateType, String curr1, String curr2, String entityId) {
+    }
+
+    private record RateEntry(BigDecimal rate, BigDecimal reciprocal) {
+
+        RateEntry(BigDecimal rate) {
+            this(rate, ExchangeRateTable.reciprocal(rate));
+        }
+
+        boolean matches(BigDecimal other) {
+            return rate.compareTo(other) == 0;
+        }
+    }
+}
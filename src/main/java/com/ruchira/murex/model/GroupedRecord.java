@@ -1,5 +1,6 @@
 package com.ruchira.murex.model;
 
+import com.ruchira.murex.model.batch.TradeRow;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -8,6 +9,8 @@ import java.util.List;
 
 /**
  * Represents a group of records sharing the same external_deal_id, comment_0, and nav_type
+ * <p>
+ * Rows are held as views into the columnar fetch batch; {@link #getRecords()} materializes them.
  */
 @Data
 @AllArgsConstructor
@@ -18,5 +21,16 @@ public class GroupedRecord {
     private String comment0;
     private String navType;
     private String typology;
-    private List<AggregatedDataResponse> records;
-}
\ No newline at end of file
+    private List<TradeRow> rows;
+
+    /**
+     * Materializes the full records of the group. Each call builds new instances, so callers read it once.
+     */
+    public List<AggregatedDataResponse> getRecords() {
+        return rows.stream().map(TradeRow::materialize).toList();
+    }
+
+    public int getRecordCount() {
+        return rows.size();
+    }
+}
@@ -1,7 +1,7 @@
 package com.ruchira.murex.model;
 
 import com.ruchira.murex.dto.StgMrxExtDmcDto;
-import com.ruchira.murex.model.trade.MurexTrade;
+import com.ruchira.murex.model.trade.BookedTrade;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 
@@ -11,5 +11,5 @@ import java.util.List;
 @AllArgsConstructor
 public class RecordProcessingResult {
     private List<StgMrxExtDmcDto> allStgMrxExtDmcs;
-    private List<MurexTrade> allMurexTrades;
+    private List<BookedTrade> allBookedTrades;
 }
@@ -0,0 +1,85 @@
+package com.ruchira.murex.model;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.ruchira.murex.constant.Constants.FX_NDF_TYPOLOGY;
+import static com.ruchira.murex.constant.Constants.FX_SPOT_TYPOLOGY;
+import static com.ruchira.murex.constant.Constants.FX_SWAP_TYPOLOGY;
+
+/**
+ * Symbol table of one instruction run, sharing a single instance per distinct value of the repeated
+ * string columns of the aggregated fetch.
+ *
+ * <p>Values are canonicalized while rows are mapped, so grouping keys, typology checks and
+ * currency comparisons on equal values resolve on {@code String.equals}' identity check instead of
+ * comparing contents. The typology constants are seeded, so comparisons against them are identity
+ * checks as well. The table is safe for concurrent use by chunked fetches.</p>
+ */
+public final class RunSymbolTable {
+
+    /**
+     * Aggregated data columns whose values are canonicalized
+     */
+    public static final Set<String> SYMBOL_COLUMNS = Set.of(
+            "curr1", "curr2", "typologyMx3", "navType", "entityName", "tradingPortf", "comment0", "dealStatus");
+
+    // Object header and fields of a String plus the header of its backing array, with compressed oops
+    private static final int STRING_OVERHEAD_BYTES = 24 + 16;
+
+    private final Map<String, String> symbols = new ConcurrentHashMap<>();
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder deduplicated = new LongAdder();
+    private final LongAdder bytesSaved = new LongAdder();
+
+    public RunSymbolTable() {
+        for (String typology : new String[]{FX_SPOT_TYPOLOGY, FX_SWAP_TYPOLOGY, FX_NDF_TYPOLOGY}) {
+            symbols.put(typology, typology);
+        }
+    }
+
+    /**
+     * @param value Freshly read value, may be {@code null}
+     * @return The run's canonical instance equal to {@code value}
+     */
+    public String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+        lookups.increment();
+        String symbol = symbols.putIfAbsent(value, value);
+        if (symbol == null) {
+            return value;
+        }
+        if (symbol != value) {
+            deduplicated.increment();
+            bytesSaved.add(estimateSize(value));
+        }
+        return symbol;
+    }
+
+    public int getSymbolCount() {
+        return symbols.size();
+    }
+
+    public long getLookupCount() {
+        return lookups.sum();
+    }
+
+    public long getDeduplicatedCount() {
+        return deduplicated.sum();
+    }
+
+    /**
+     * @return Estimated heap no longer retained by duplicate instances (Latin-1 strings, 8 byte alignment)
+     */
+    public long getEstimatedBytesSaved() {
+        return bytesSaved.sum();
+    }
+
+    private static long estimateSize(String value) {
+        return STRING_OVERHEAD_BYTES + ((value.length() + 7L) & ~7L);
+    }
+}
@@ -1,5 +1,6 @@
 package com.ruchira.murex.model;
 
+import com.ruchira.murex.model.plan.CompiledBookingPlan;
 import lombok.Builder;
 import lombok.Data;
 
@@ -17,8 +18,9 @@ import java.util.List;
  * <ul>
  *   <li>{@code groupedRecord} – The primary grouped record to process</li>
  *   <li>{@code instructionEventRuleId} – Identifier for the instruction event rule</li>
- *   <li>{@code filteredMurexConfigs} – List of Murex book configurations filtered for processing</li>
+ *   <li>{@code bookingPlans} – Compiled booking plans whose configurations match the record typology</li>
  *   <li>{@code inputCurrency} – Input currency used for transformation calculations</li>
+ *   <li>{@code exchangeRateTable} – Run-wide exchange rates with precomputed reciprocals</li>
  *   <li>{@code allGroupedRecords} – (Optional) All grouped records, if the transformation
  *       requires context across multiple records</li>
  * </ul>
@@ -26,9 +28,10 @@ import java.util.List;
 public class TransformationContext {
     private GroupedRecord groupedRecord;
     private String instructionEventRuleId;
-    private List<MurexBookingConfig> filteredMurexConfigs;
+    private List<CompiledBookingPlan> bookingPlans;
     private String inputCurrency;
     private List<String> currenciesInFamily;
+    private ExchangeRateTable exchangeRateTable;
 
     // optional
     private List<GroupedRecord> allGroupedRecords;
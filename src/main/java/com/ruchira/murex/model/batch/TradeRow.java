@@ -0,0 +1,104 @@
+package com.ruchira.murex.model.batch;
+
+import com.ruchira.murex.model.AggregatedDataResponse;
+import com.ruchira.murex.model.batch.TradeRowSchema.Column;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * View of a single row in a {@link TradeRowBatch}.
+ * <p>
+ * Exposes the columns needed for grouping, validation and rate lookup straight from the batch;
+ * the full {@link AggregatedDataResponse} is only built by {@link #materialize()}.
+ */
+public final class TradeRow {
+
+    private final TradeRowBatch batch;
+    private final int index;
+
+    TradeRow(TradeRowBatch batch, int index) {
+        this.batch = batch;
+        this.index = index;
+    }
+
+    Object get(Column column) {
+        return batch.get(column, index);
+    }
+
+    Column[] presentColumns() {
+        return batch.presentColumns();
+    }
+
+    public String getContract() {
+        return (String) batch.get(TradeRowSchema.CONTRACT, index);
+    }
+
+    public String getComment0() {
+        return (String) batch.get(TradeRowSchema.COMMENT_0, index);
+    }
+
+    public String getNavType() {
+        return (String) batch.get(TradeRowSchema.NAV_TYPE, index);
+    }
+
+    public String getTypologyMx3() {
+        return (String) batch.get(TradeRowSchema.TYPOLOGY_MX3, index);
+    }
+
+    public String getCurr1() {
+        return (String) batch.get(TradeRowSchema.CURR_1, index);
+    }
+
+    public String getCurr2() {
+        return (String) batch.get(TradeRowSchema.CURR_2, index);
+    }
+
+    public String getEntityId() {
+        return (String) batch.get(TradeRowSchema.ENTITY_ID, index);
+    }
+
+    public LocalDate getValueDte() {
+        return (LocalDate) batch.get(TradeRowSchema.VALUE_DTE, index);
+    }
+
+    public BigDecimal getHistoricalExchangeRate() {
+        return (BigDecimal) batch.get(TradeRowSchema.HISTORICAL_EXCHANGE_RATE, index);
+    }
+
+    public BigDecimal getSpotRate() {
+        return (BigDecimal) batch.get(TradeRowSchema.SPOT_RATE, index);
+    }
+
+    /**
+     * Appends every selected column as {@code property=value;} ({@code property;} when {@code NULL}) in schema order,
+     * without materializing the row. Rows with equal column values produce equal text; decimals are written in plain notation.
+     */
+    public void appendCanonical(StringBuilder out) {
+        for (Column column : batch.presentColumns()) {
+            Object value = batch.get(column, index);
+            out.append(column.property());
+            if (value instanceof BigDecimal decimal) {
+                out.append('=').append(decimal.toPlainString());
+            } else if (value != null) {
+                out.append('=').append(value);
+            }
+            out.append(';');
+        }
+    }
+
+    /**
+     * Builds a new {@link AggregatedDataResponse} holding every column of the row.
+     * Columns that were not selected, or are SQL {@code NULL}, are left {@code null}.
+     */
+    public AggregatedDataResponse materialize() {
+        AggregatedDataResponse response = new AggregatedDataResponse();
+        for (Column column : batch.presentColumns()) {
+            Object value = batch.get(column, index);
+            if (value != null) {
+                column.accessor().set(response, value);
+            }
+        }
+        return response;
+    }
+}
@@ -0,0 +1,240 @@
+package com.ruchira.murex.model.batch;
+
+import com.ruchira.murex.model.AggregatedDataResponse;
+import com.ruchira.murex.model.batch.TradeRowSchema.Column;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Fixed-capacity, column-oriented store of fetched trade rows (struct of arrays).
+ * <p>
+ * Only the columns present in the query are allocated. Strings are stored as references (repeated values are
+ * already canonicalized by the run's {@code RunSymbolTable}), decimals as unscaled {@code long} plus scale, dates
+ * as epoch days, so a row costs a few primitives instead of an {@link AggregatedDataResponse} with ~90 boxed fields.
+ * Decimals whose unscaled value does not fit a {@code long} are kept as is.
+ * <p>
+ * A batch is filled by a single thread. Storage is allocated at full capacity up front and never resized,
+ * so rows already handed to another thread (with a happens-before edge, e.g. by forking a task) can be read
+ * while later rows are still being appended.
+ */
+public final class TradeRowBatch {
+
+    private static final int NULL_DATE = Integer.MIN_VALUE;
+    private static final long NULL_DATE_TIME = Long.MIN_VALUE;
+    private static final byte NULL_SCALE = Byte.MIN_VALUE;
+    private static final byte OVERFLOW_SCALE = Byte.MAX_VALUE;
+
+    private final int capacity;
+    private final ColumnStore[] stores;
+    private final Column[] presentColumns;
+    private int size;
+
+    /**
+     * @param capacity Maximum number of rows
+     * @param columns  Columns present in the result set; all other columns read as {@code null}
+     */
+    public TradeRowBatch(int capacity, Collection<Column> columns) {
+        this.capacity = capacity;
+        this.stores = new ColumnStore[TradeRowSchema.columnCount()];
+        for (Column column : columns) {
+            stores[column.ordinal()] = switch (column.type()) {
+                case STRING -> new StringStore(capacity);
+                case DECIMAL -> new DecimalStore(capacity);
+                case DATE -> new DateStore(capacity);
+                case DATE_TIME -> new DateTimeStore(capacity);
+            };
+        }
+        this.presentColumns = columns.toArray(new Column[0]);
+    }
+
+    /**
+     * Copies already materialized rows into a batch holding every column
+     *
+     * @return Row views in the order of {@code responses}
+     */
+    public static List<TradeRow> of(List<AggregatedDataResponse> responses) {
+        TradeRowBatch batch = new TradeRowBatch(Math.max(1, responses.size()), TradeRowSchema.columns());
+        return responses.stream()
+                .map(response -> {
+                    int row = batch.appendRow();
+                    for (Column column : batch.presentColumns) {
+                        batch.put(column, row, column.accessor().get(response));
+                    }
+                    return batch.row(row);
+                })
+                .toList();
+    }
+
+    public boolean isFull() {
+        return size == capacity;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Reserves the next row. Its columns are written with {@link #put(Column, int, Object)}.
+     *
+     * @return Index of the new row
+     */
+    public int appendRow() {
+        if (isFull()) {
+            throw new IllegalStateException(String.format("Trade row batch is full (%d rows)", capacity));
+        }
+        return size++;
+    }
+
+    public void put(Column column, int row, Object value) {
+        ColumnStore store = stores[column.ordinal()];
+        if (store == null) {
+            throw new IllegalArgumentException(String.format("Column %s is not part of this batch", column.property()));
+        }
+        store.put(row, value);
+    }
+
+    public Object get(Column column, int row) {
+        ColumnStore store = stores[column.ordinal()];
+        return store == null ? null : store.get(row);
+    }
+
+    public TradeRow row(int row) {
+        return new TradeRow(this, row);
+    }
+
+    /**
+     * Appends a copy of a row of another batch with the same columns
+     *
+     * @return View of the copy in this batch
+     */
+    public TradeRow append(TradeRow source) {
+        int row = appendRow();
+        for (Column column : presentColumns) {
+            put(column, row, source.get(column));
+        }
+        return row(row);
+    }
+
+    Column[] presentColumns() {
+        return presentColumns;
+    }
+
+    private abstract static class ColumnStore {
+        abstract void put(int row, Object value);
+
+        abstract Object get(int row);
+    }
+
+    private static final class StringStore extends ColumnStore {
+        private final String[] values;
+
+        private StringStore(int capacity) {
+            values = new String[capacity];
+        }
+
+        @Override
+        void put(int row, Object value) {
+            values[row] = (String) value;
+        }
+
+        @Override
+        Object get(int row) {
+            return values[row];
+        }
+    }
+
+    private static final class DecimalStore extends ColumnStore {
+        private final long[] unscaledValues;
+        private final byte[] scales;
+        private BigDecimal[] overflow;
+
+        private DecimalStore(int capacity) {
+            unscaledValues = new long[capacity];
+            scales = new byte[capacity];
+        }
+
+        @Override
+        void put(int row, Object value) {
+            if (value == null) {
+                scales[row] = NULL_SCALE;
+                return;
+            }
+            BigDecimal decimal = (BigDecimal) value;
+            int scale = decimal.scale();
+            if (decimal.unscaledValue().bitLength() < Long.SIZE && scale > NULL_SCALE && scale < OVERFLOW_SCALE) {
+                unscaledValues[row] = decimal.unscaledValue().longValue();
+                scales[row] = (byte) scale;
+                return;
+            }
+            if (overflow == null) {
+                overflow = new BigDecimal[scales.length];
+            }
+            overflow[row] = decimal;
+            scales[row] = OVERFLOW_SCALE;
+        }
+
+        @Override
+        Object get(int row) {
+            byte scale = scales[row];
+            if (scale == NULL_SCALE) {
+                return null;
+            }
+            return scale == OVERFLOW_SCALE ? overflow[row] : BigDecimal.valueOf(unscaledValues[row], scale);
+        }
+    }
+
+    private static final class DateStore extends ColumnStore {
+        private final int[] epochDays;
+
+        private DateStore(int capacity) {
+            epochDays = new int[capacity];
+            Arrays.fill(epochDays, NULL_DATE);
+        }
+
+        @Override
+        void put(int row, Object value) {
+            // SQL DATE values (years 1000-9999) always fit an int epoch day
+            epochDays[row] = value == null ? NULL_DATE : Math.toIntExact(((LocalDate) value).toEpochDay());
+        }
+
+        @Override
+        Object get(int row) {
+            int epochDay = epochDays[row];
+            return epochDay == NULL_DATE ? null : LocalDate.ofEpochDay(epochDay);
+        }
+    }
+
+    private static final class DateTimeStore extends ColumnStore {
+        private final long[] epochSeconds;
+        private final int[] nanos;
+
+        private DateTimeStore(int capacity) {
+            epochSeconds = new long[capacity];
+            nanos = new int[capacity];
+            Arrays.fill(epochSeconds, NULL_DATE_TIME);
+        }
+
+        @Override
+        void put(int row, Object value) {
+            if (value == null) {
+                epochSeconds[row] = NULL_DATE_TIME;
+                return;
+            }
+            LocalDateTime dateTime = (LocalDateTime) value;
+            epochSeconds[row] = dateTime.toEpochSecond(ZoneOffset.UTC);
+            nanos[row] = dateTime.getNano();
+        }
+
+        @Override
+        Object get(int row) {
+            long epochSecond = epochSeconds[row];
+            return epochSecond == NULL_DATE_TIME ? null : LocalDateTime.ofEpochSecond(epochSecond, nanos[row], ZoneOffset.UTC);
+        }
+    }
+}
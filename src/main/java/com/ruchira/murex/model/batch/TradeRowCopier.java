@@ -0,0 +1,33 @@
+package com.ruchira.murex.model.batch;
+
+import java.util.List;
+
+/**
+ * Copies rows out of the fetch batches they view, packing the copies densely into batches of its own.
+ * <p>
+ * A {@link TradeRow} keeps its whole {@link TradeRowBatch} reachable, so rows retained for the rest of a run
+ * (e.g. FX Spot groups kept for NDF matching) are copied here and the fetch batches can be released as the
+ * stream moves on. A copier is filled by a single thread, like a batch.
+ */
+public final class TradeRowCopier {
+
+    private final int batchCapacity;
+    private TradeRowBatch batch;
+
+    /**
+     * @param batchCapacity Rows per batch holding the copies
+     */
+    public TradeRowCopier(int batchCapacity) {
+        this.batchCapacity = Math.max(1, batchCapacity);
+    }
+
+    /**
+     * @return View of a copy of {@code row}, independent of the batch {@code row} belongs to
+     */
+    public TradeRow copy(TradeRow row) {
+        if (batch == null || batch.isFull()) {
+            batch = new TradeRowBatch(batchCapacity, List.of(row.presentColumns()));
+        }
+        return batch.append(row);
+    }
+}
@@ -0,0 +1,106 @@
+package com.ruchira.murex.model.batch;
+
+import com.ruchira.murex.model.AggregatedDataResponse;
+import com.ruchira.murex.util.PropertyAccessorTable;
+import com.ruchira.murex.util.PropertyAccessorTable.PropertyAccessor;
+import org.springframework.beans.BeanUtils;
+
+import java.beans.PropertyDescriptor;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Column layout of a {@link TradeRowBatch}, derived once from the properties of {@link AggregatedDataResponse}.
+ * <p>
+ * Every writable {@code String}, {@code BigDecimal}, {@code LocalDate} and {@code LocalDateTime} property becomes
+ * a column with a fixed ordinal. Strings are held as references; decimals and dates are held in primitive arrays.
+ */
+public final class TradeRowSchema {
+
+    private static final List<Column> COLUMNS = buildColumns();
+    private static final Map<String, Column> COLUMNS_BY_PROPERTY = indexByProperty(COLUMNS);
+
+    // Columns read by grouping, validation and rate registration without materializing the row
+    static final Column CONTRACT = column("contract");
+    static final Column COMMENT_0 = column("comment0");
+    static final Column NAV_TYPE = column("navType");
+    static final Column TYPOLOGY_MX3 = column("typologyMx3");
+    static final Column CURR_1 = column("curr1");
+    static final Column CURR_2 = column("curr2");
+    static final Column ENTITY_ID = column("entityId");
+    static final Column VALUE_DTE = column("valueDte");
+    static final Column HISTORICAL_EXCHANGE_RATE = column("historicalExchangeRate");
+    static final Column SPOT_RATE = column("spotRate");
+
+    private TradeRowSchema() {
+    }
+
+    public static List<Column> columns() {
+        return COLUMNS;
+    }
+
+    public static int columnCount() {
+        return COLUMNS.size();
+    }
+
+    public enum ColumnType {
+        STRING, DECIMAL, DATE, DATE_TIME
+    }
+
+    /**
+     * A single column: its ordinal in the batch, the {@link AggregatedDataResponse} property it holds,
+     * its storage type and the accessor used to materialize it
+     */
+    public record Column(int ordinal, String property, ColumnType type, PropertyAccessor accessor) {
+    }
+
+    private static Column column(String property) {
+        Column column = COLUMNS_BY_PROPERTY.get(property);
+        if (column == null) {
+            throw new IllegalStateException(String.format("AggregatedDataResponse has no column property %s", property));
+        }
+        return column;
+    }
+
+    private static List<Column> buildColumns() {
+        PropertyAccessorTable accessors = PropertyAccessorTable.forClass(AggregatedDataResponse.class);
+        List<Column> columns = new ArrayList<>();
+
+        for (PropertyDescriptor descriptor : BeanUtils.getPropertyDescriptors(AggregatedDataResponse.class)) {
+            String property = descriptor.getName();
+            ColumnType type = columnType(property, descriptor.getPropertyType());
+            if (type != null && accessors.isWritable(property)) {
+                columns.add(new Column(columns.size(), property, type, accessors.accessor(property)));
+            }
+        }
+        return Collections.unmodifiableList(columns);
+    }
+
+    private static ColumnType columnType(String property, Class<?> propertyType) {
+        if (String.class == propertyType) {
+            return ColumnType.STRING;
+        }
+        if (BigDecimal.class == propertyType) {
+            return ColumnType.DECIMAL;
+        }
+        if (LocalDate.class == propertyType) {
+            return ColumnType.DATE;
+        }
+        if (LocalDateTime.class == propertyType) {
+            return ColumnType.DATE_TIME;
+        }
+        return null;
+    }
+
+    private static Map<String, Column> indexByProperty(List<Column> columns) {
+        Map<String, Column> index = new LinkedHashMap<>();
+        columns.forEach(column -> index.put(column.property(), column));
+        return Collections.unmodifiableMap(index);
+    }
+}
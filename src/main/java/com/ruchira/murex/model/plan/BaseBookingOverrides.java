@@ -0,0 +1,20 @@
+package com.ruchira.murex.model.plan;
+
+import com.ruchira.murex.model.TransformedMurexTrade;
+import lombok.Value;
+
+/**
+ * Values stamped on every base booking mapped for one booking plan: the plan's murex book code and the trace ID.
+ * <p>
+ * Built once per plan and trace, then applied by {@code DynamicMapper.mapToMurexTradeLeg} through direct setter calls.
+ */
+@Value
+public class BaseBookingOverrides {
+    String murexBookCode;
+    String traceId;
+
+    public void applyTo(TransformedMurexTrade booking) {
+        booking.setMurexBookCode(murexBookCode);
+        booking.setTraceId(traceId);
+    }
+}
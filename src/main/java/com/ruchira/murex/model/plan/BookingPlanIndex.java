@@ -0,0 +1,46 @@
+package com.ruchira.murex.model.plan;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compiled booking plans of one instruction event rule, indexed by the typology they apply to.
+ *
+ * <p>Built once when the rule's configs are loaded, so selecting the plans for a grouped record is a
+ * single map lookup. Plans keep their config order within each typology. Instances are immutable and
+ * shared across concurrently processed records and across runs.</p>
+ */
+public final class BookingPlanIndex {
+
+    private final Map<String, List<CompiledBookingPlan>> plansByTypology;
+
+    private BookingPlanIndex(Map<String, List<CompiledBookingPlan>> plansByTypology) {
+        this.plansByTypology = plansByTypology;
+    }
+
+    public static BookingPlanIndex of(List<CompiledBookingPlan> plans) {
+        Map<String, List<CompiledBookingPlan>> index = new LinkedHashMap<>();
+        for (CompiledBookingPlan plan : plans) {
+            for (String typology : plan.getMatchingTypologies()) {
+                index.computeIfAbsent(typology, key -> new ArrayList<>()).add(plan);
+            }
+        }
+
+        Map<String, List<CompiledBookingPlan>> immutableIndex = new LinkedHashMap<>();
+        index.forEach((typology, typologyPlans) -> immutableIndex.put(typology, List.copyOf(typologyPlans)));
+        return new BookingPlanIndex(Map.copyOf(immutableIndex));
+    }
+
+    /**
+     * @param typology Grouped record typology (e.g., "FX Spot", "FX Swap", "FX NDF")
+     * @return Plans applicable to the typology, empty when none match or the typology is {@code null}
+     */
+    public List<CompiledBookingPlan> plansFor(String typology) {
+        if (typology == null) {
+            return List.of();
+        }
+        return plansByTypology.getOrDefault(typology, List.of());
+    }
+}
@@ -0,0 +1,13 @@
+package com.ruchira.murex.model.plan;
+
+import lombok.Value;
+
+/**
+ * Compiled {@code {"buy": ..., "sell": ...}} flags of a transformation.
+ * A flag is {@code true} only when the key is present and its value reads as {@code true}.
+ */
+@Value
+public class BuySellFlags {
+    boolean buy;
+    boolean sell;
+}
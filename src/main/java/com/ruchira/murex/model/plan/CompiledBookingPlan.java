@@ -0,0 +1,80 @@
+package com.ruchira.murex.model.plan;
+
+import com.ruchira.murex.exception.TransformationException;
+import com.ruchira.murex.model.MurexBookingConfig;
+import com.ruchira.murex.model.TransformedMurexTrade;
+import com.ruchira.murex.util.ProjectionPlan;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static com.ruchira.murex.constant.Constants.*;
+
+/**
+ * Booking plan compiled once from a {@link MurexBookingConfig} when the configs are loaded.
+ *
+ * <p>Holds everything the transformation strategies used to read from the config's JSON columns,
+ * so no JSON is parsed while records are being transformed.</p>
+ *
+ * <ul>
+ *   <li>{@code config} – The source configuration (book code, id, raw JSON)</li>
+ *   <li>{@code transformations} – Compiled transformation steps; empty when the JSON could not be parsed</li>
+ *   <li>{@code outputCustomization} – Compiled tpsOutbound; {@code null} when tpsOutbound is blank</li>
+ *   <li>{@code tpsFieldSet} – tpsFields of the first transformation plus the configured include fields;
+ *       {@code null} when the config has no transformations and the booking is passed through as is</li>
+ *   <li>{@code tpsProjection} – Copy routine projecting a booking onto {@code tpsFieldSet}; {@code null} with it</li>
+ * </ul>
+ */
+@Value
+@Builder
+public class CompiledBookingPlan {
+
+    MurexBookingConfig config;
+    List<TransformationStep> transformations;
+    OutputCustomizationPlan outputCustomization;
+    Set<String> tpsFieldSet;
+    ProjectionPlan<TransformedMurexTrade> tpsProjection;
+
+    public String getMurexBookCode() {
+        return config.getMurexBookCode();
+    }
+
+    public int getTransformationCount() {
+        return transformations.size();
+    }
+
+    public TransformationStep getFirstTransformation() {
+        if (transformations.isEmpty()) {
+            throw new TransformationException("No transformations found in JSON");
+        }
+        return transformations.getFirst();
+    }
+
+    /**
+     * Typologies this plan applies to, using strict typology matching
+     * <p>
+     * Filtering Strategy:
+     * - FX Spot/Swap: ONLY matches single-element arrays where the sole referenceTrade equals typology
+     * - NDF: Matches both single-element NDF arrays AND multi-element arrays containing NDF
+     * - Future typologies: default to single-element exact match
+     * <p>
+     * Plans whose transformations could not be parsed match no typology.
+     *
+     * @return Typologies (e.g., "FX Spot", "FX Swap", "FX NDF") the plan is selected for
+     */
+    public Set<String> getMatchingTypologies() {
+        Set<String> typologies = new LinkedHashSet<>();
+
+        if (transformations.size() == 1 && transformations.getFirst().getReferenceTrade() != null) {
+            typologies.add(transformations.getFirst().getReferenceTrade());
+        }
+        if (transformations.stream().anyMatch(TransformationStep::isNdfReferenceTrade)) {
+            typologies.add(FX_NDF_TYPOLOGY);
+        }
+
+        return typologies;
+    }
+}
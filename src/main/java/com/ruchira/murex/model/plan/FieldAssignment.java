@@ -0,0 +1,12 @@
+package com.ruchira.murex.model.plan;
+
+import lombok.Value;
+
+/**
+ * A single {@code tpsOutbound} field override with its value already extracted from JSON.
+ */
+@Value
+public class FieldAssignment {
+    String fieldName;
+    Object value;
+}
@@ -0,0 +1,33 @@
+package com.ruchira.murex.model.plan;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Typed, immutable form of {@code MurexBookingConfig.tpsOutbound}.
+ * <ul>
+ *   <li>{@code comment0Fields} / {@code comment1Fields} – booking fields concatenated into comment0 / comment1</li>
+ *   <li>{@code fieldAssignments} – remaining field overrides in document order, ignore fields already removed</li>
+ *   <li>{@code failure} – set when tpsOutbound could not be parsed; applying the plan rethrows it</li>
+ * </ul>
+ */
+@Value
+@Builder
+public class OutputCustomizationPlan {
+
+    List<String> comment0Fields;
+    List<String> comment1Fields;
+    List<FieldAssignment> fieldAssignments;
+    Exception failure;
+
+    public static OutputCustomizationPlan failed(Exception failure) {
+        return OutputCustomizationPlan.builder()
+                .comment0Fields(List.of())
+                .comment1Fields(List.of())
+                .fieldAssignments(List.of())
+                .failure(failure)
+                .build();
+    }
+}
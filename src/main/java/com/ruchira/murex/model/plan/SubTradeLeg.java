@@ -0,0 +1,15 @@
+package com.ruchira.murex.model.plan;
+
+import lombok.Value;
+
+/**
+ * Compiled entry of a {@code referenceSubTradeBuySell} array.
+ * {@code nearLeg}/{@code farLeg} record whether the key is present, as the strategies only test for presence.
+ */
+@Value
+public class SubTradeLeg {
+    boolean nearLeg;
+    boolean farLeg;
+    boolean buy;
+    boolean sell;
+}
@@ -0,0 +1,53 @@
+package com.ruchira.murex.model.plan;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+import static com.ruchira.murex.constant.Constants.FX_NDF_TYPOLOGY;
+import static com.ruchira.murex.constant.Constants.REF_TRADE_EXCHANGE_RATE;
+
+/**
+ * Typed, immutable form of one element of {@code MurexBookingConfig.transformations}.
+ */
+@Value
+@Builder
+public class TransformationStep {
+
+    /**
+     * Value of {@code referenceTrade}, or {@code null} when the key is absent
+     */
+    String referenceTrade;
+
+    boolean flipCurrency;
+
+    boolean outboundCurrencyChange;
+
+    /**
+     * Resolved exchange rate type: {@code REF_TRADE} when {@code exchangeRates} starts with it,
+     * otherwise {@code BLEND_HISTFX}
+     */
+    String exchangeRateType;
+
+    /**
+     * Compiled {@code referenceTradeBuySell}, or {@code null} when the key is absent
+     */
+    BuySellFlags referenceTradeBuySell;
+
+    /**
+     * Compiled {@code referenceSubTradeBuySell}, or {@code null} when the key is absent or not an array
+     */
+    List<SubTradeLeg> referenceSubTrades;
+
+    public boolean usesReferenceTradeRate() {
+        return REF_TRADE_EXCHANGE_RATE.equals(exchangeRateType);
+    }
+
+    /**
+     * Matches NDF reference trades the same way the NDF strategy always has ({@code "FX NDF".contains(referenceTrade)})
+     */
+    public boolean isNdfReferenceTrade() {
+        return referenceTrade != null && FX_NDF_TYPOLOGY.contains(referenceTrade);
+    }
+}
@@ -0,0 +1,18 @@
+package com.ruchira.murex.model.trade;
+
+import com.ruchira.murex.kafka.model.HAWKMurexBookingRecord;
+import lombok.Value;
+
+/**
+ * A generated trade in both of its output shapes, produced together by {@code FusedBookingMapper}:
+ * the persisted {@link MurexTrade} tree and the downstream {@link HAWKMurexBookingRecord}.
+ */
+@Value
+public class BookedTrade {
+    MurexTrade murexTrade;
+    HAWKMurexBookingRecord hawkBookingRecord;
+
+    public String getTradeReference() {
+        return murexTrade.getTradeReference();
+    }
+}
@@ -0,0 +1,17 @@
+package com.ruchira.murex.model.trade;
+
+import com.ruchira.murex.kafka.model.SerializedBookingRecord;
+import lombok.Value;
+
+/**
+ * A trade ready to be persisted, together with the serialized booking record stored alongside it
+ */
+@Value
+public class PendingBooking {
+    MurexTrade murexTrade;
+    SerializedBookingRecord serializedBookingRecord;
+
+    public String getTradeReference() {
+        return murexTrade.getTradeReference();
+    }
+}
@@ -0,0 +1,189 @@
+package com.ruchira.murex.parser;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ruchira.murex.config.TransformationFieldConfig;
+import com.ruchira.murex.model.MurexBookingConfig;
+import com.ruchira.murex.model.TransformedMurexTrade;
+import com.ruchira.murex.model.plan.*;
+import com.ruchira.murex.util.CloneUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections.CollectionUtils;
+import org.apache.commons.lang3.ObjectUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+import static com.ruchira.murex.constant.Constants.*;
+
+/**
+ * Compiles {@link MurexBookingConfig} JSON columns into immutable {@link CompiledBookingPlan}s.
+ * <p>
+ * Runs once per config load. The compiled plan keeps the exact semantics the strategies applied to
+ * the raw JSON (key presence checks, {@code asBoolean}/{@code asText} coercion, exchange rate prefix
+ * matching), so transformation results are unchanged.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BookingPlanCompiler {
+
+    private final JsonParser jsonParser;
+    private final ObjectMapper objectMapper;
+    private final DynamicFieldParser fieldMapper;
+    private final TransformationFieldConfig transformationFieldConfig;
+
+    public List<CompiledBookingPlan> compile(List<MurexBookingConfig> configs) {
+        return configs.stream()
+                .map(this::compile)
+                .toList();
+    }
+
+    public CompiledBookingPlan compile(MurexBookingConfig config) {
+        List<JsonNode> transformationNodes = parseTransformations(config);
+        Set<String> tpsFieldSet = compileTpsFieldSet(config, transformationNodes);
+
+        return CompiledBookingPlan.builder()
+                .config(config)
+                .transformations(transformationNodes.stream().map(this::compileStep).toList())
+                .outputCustomization(compileOutputCustomization(config))
+                .tpsFieldSet(tpsFieldSet)
+                .tpsProjection(tpsFieldSet == null
+                        ? null
+                        : CloneUtils.projectionPlan(TransformedMurexTrade.class, TransformedMurexTrade.class, tpsFieldSet))
+                .build();
+    }
+
+    private List<JsonNode> parseTransformations(MurexBookingConfig config) {
+        try {
+            return jsonParser.parseTransformations(config.getTransformations());
+        } catch (Exception e) {
+            // Unparseable configs never match a typology, as before
+            log.error("Error parsing transformations for MurexBookConfig ID {} : ", config.getId(), e);
+            return List.of();
+        }
+    }
+
+    private TransformationStep compileStep(JsonNode transformation) {
+        String exchangeRatesConfig = transformation.has(EXCHANGE_RATE_TYPE_TRANSFORMATION_KEY)
+                ? transformation.get(EXCHANGE_RATE_TYPE_TRANSFORMATION_KEY).asText()
+                : null;
+
+        return TransformationStep.builder()
+                .referenceTrade(transformation.has(REFERENCE_TRADE_FIELD) ? transformation.get(REFERENCE_TRADE_FIELD).asText() : null)
+                .flipCurrency(isTrue(transformation, FLIP_CURRENCY_TRANSFORMATION_KEY))
+                .outboundCurrencyChange(isTrue(transformation, OUTBOUND_CURRENCY_CHANGE_TRANSFORMATION_KEY))
+                .exchangeRateType(exchangeRatesConfig != null && exchangeRatesConfig.startsWith(REF_TRADE_EXCHANGE_RATE)
+                        ? REF_TRADE_EXCHANGE_RATE
+                        : BLENDED_HISTORICAL_EXCHANGE_RATE)
+                .referenceTradeBuySell(transformation.has(REFERENCE_TRADE_BUY_SELL_FIELD)
+                        ? compileBuySell(transformation.get(REFERENCE_TRADE_BUY_SELL_FIELD))
+                        : null)
+                .referenceSubTrades(compileSubTrades(transformation))
+                .build();
+    }
+
+    private List<SubTradeLeg> compileSubTrades(JsonNode transformation) {
+        if (!transformation.has(REFERENCE__SUB_TRADE_BUY_SELL_FIELD)) {
+            return null;
+        }
+
+        JsonNode subTradeArray = transformation.get(REFERENCE__SUB_TRADE_BUY_SELL_FIELD);
+        if (!subTradeArray.isArray()) {
+            return null;
+        }
+
+        List<SubTradeLeg> legs = new ArrayList<>();
+        for (JsonNode leg : subTradeArray) {
+            legs.add(new SubTradeLeg(
+                    leg.has(REFERENCE_SUB_TRADE_NEAR_LEG_FIELD),
+                    leg.has(REFERENCE_SUB_TRADE_FAR_LEG_FIELD),
+                    isTrue(leg, TRADE_BUY_FIELD),
+                    isTrue(leg, TRADE_SELL_FIELD)
+            ));
+        }
+        return List.copyOf(legs);
+    }
+
+    private BuySellFlags compileBuySell(JsonNode buySellNode) {
+        return new BuySellFlags(isTrue(buySellNode, TRADE_BUY_FIELD), isTrue(buySellNode, TRADE_SELL_FIELD));
+    }
+
+    private Set<String> compileTpsFieldSet(MurexBookingConfig config, List<JsonNode> transformationNodes) {
+        if (ObjectUtils.isEmpty(config.getTransformations()) || transformationNodes.isEmpty()) {
+            return null;
+        }
+
+        Set<String> tpsFieldSet = new HashSet<>();
+        Object tpsFields = fieldMapper.extractValueFromJsonNode(transformationNodes.getFirst().get(TPS_FIELDS_KEYWORD));
+        if (tpsFields instanceof List<?> list) {
+            list.forEach(field -> tpsFieldSet.add(field.toString()));
+        }
+        tpsFieldSet.addAll(transformationFieldConfig.getIncludeFields());
+
+        return Collections.unmodifiableSet(tpsFieldSet);
+    }
+
+    private OutputCustomizationPlan compileOutputCustomization(MurexBookingConfig config) {
+        String tpsOutboundJson = config.getTpsOutbound();
+        if (tpsOutboundJson == null || tpsOutboundJson.trim().isEmpty()) {
+            return null;
+        }
+
+        try {
+            JsonNode tpsOutboundNode = objectMapper.readTree(tpsOutboundJson);
+
+            return OutputCustomizationPlan.builder()
+                    .comment0Fields(compileCommentFields(tpsOutboundNode, COMMENT_0_KEYWORD))
+                    .comment1Fields(compileCommentFields(tpsOutboundNode, COMMENT_1_KEYWORD))
+                    .fieldAssignments(compileFieldAssignments(tpsOutboundNode))
+                    .build();
+        } catch (Exception e) {
+            // Surfaced when the plan is applied, so only bookings that use this config fail
+            log.error("Error parsing tpsOutbound for MurexBookConfig ID {} : ", config.getId(), e);
+            return OutputCustomizationPlan.failed(e);
+        }
+    }
+
+    /**
+     * Field names contributing to comment0/comment1. The {@code table} qualifier does not change
+     * the lookup (every supported table resolves to the booking field of the same name).
+     */
+    private List<String> compileCommentFields(JsonNode tpsOutboundNode, String commentKey) {
+        if (!tpsOutboundNode.has(commentKey) || !tpsOutboundNode.get(commentKey).isArray()) {
+            return List.of();
+        }
+
+        List<String> fieldNames = new ArrayList<>();
+        for (JsonNode commentConfig : tpsOutboundNode.get(commentKey)) {
+            if (commentConfig.has(FIELD_NAME_KEYWORD)) {
+                fieldNames.add(commentConfig.get(FIELD_NAME_KEYWORD).asText());
+            }
+        }
+        return List.copyOf(fieldNames);
+    }
+
+    private List<FieldAssignment> compileFieldAssignments(JsonNode tpsOutboundNode) {
+        if (!tpsOutboundNode.isObject()) {
+            return List.of();
+        }
+
+        List<String> ignoreFields = transformationFieldConfig.getIgnoreFields();
+        List<FieldAssignment> assignments = new ArrayList<>();
+
+        tpsOutboundNode.properties().forEach(entry -> {
+            if (CollectionUtils.isNotEmpty(ignoreFields) && ignoreFields.contains(entry.getKey())) {
+                return;
+            }
+            Object value = fieldMapper.extractValueFromJsonNode(entry.getValue());
+            assignments.add(new FieldAssignment(entry.getKey(),
+                    value instanceof List<?> list ? Collections.unmodifiableList(list) : value));
+        });
+        return List.copyOf(assignments);
+    }
+
+    private static boolean isTrue(JsonNode node, String key) {
+        return node.has(key) && node.get(key).asBoolean();
+    }
+}
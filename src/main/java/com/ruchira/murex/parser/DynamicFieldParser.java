@@ -1,11 +1,13 @@
 package com.ruchira.murex.parser;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.ruchira.murex.model.plan.FieldAssignment;
+import com.ruchira.murex.util.PropertyAccessorTable;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang3.ObjectUtils;
-import org.springframework.beans.BeanWrapperImpl;
+import org.apache.commons.lang3.StringUtils;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
@@ -15,7 +17,7 @@ import java.util.*;
  * Eliminates hardcoded field mappings and supports nested properties
  * <p>
  * Key Features:
- * - Reflection-based property access with caching for performance
+ * - Property access through precompiled per-class accessor tables ({@link PropertyAccessorTable})
  * - Support for nested field paths (e.g., "address.street.name")
  * - Type-safe conversions with proper error handling
  */
@@ -24,8 +26,10 @@ import java.util.*;
 @Slf4j
 public class DynamicFieldParser {
 
+    private static final char PATH_SEPARATOR = '.';
+
     /**
-     * Get field value using reflection with support for nested properties
+     * Get field value through the class's accessor table with support for nested properties
      *
      * @param obj       Target object
      * @param fieldPath Field path (e.g., "name" or "address.street")
@@ -37,11 +41,18 @@ public class DynamicFieldParser {
         }
 
         try {
-            BeanWrapperImpl wrapper = new BeanWrapperImpl(obj);
-            if (!wrapper.isReadableProperty(fieldPath)) {
-                return null; // or throw exception if strict mode
+            Object current = obj;
+            for (String property : splitPath(fieldPath)) {
+                if (current == null) {
+                    return null;
+                }
+                PropertyAccessorTable.PropertyAccessor accessor = PropertyAccessorTable.forClass(current.getClass()).accessor(property);
+                if (accessor == null || !accessor.isReadable()) {
+                    return null; // or throw exception if strict mode
+                }
+                current = accessor.get(current);
             }
-            return wrapper.getPropertyValue(fieldPath);
+            return current;
 
         } catch (Exception e) {
             throw new DynamicMappingException(String.format("Failed to get field value: %s", fieldPath), e);
@@ -49,7 +60,7 @@ public class DynamicFieldParser {
     }
 
     /**
-     * Set field value using reflection with type conversion
+     * Set field value through the class's accessor table with type conversion
      *
      * @param obj       Target object
      * @param fieldPath Field path
@@ -61,11 +72,17 @@ public class DynamicFieldParser {
         }
 
         try {
-            BeanWrapperImpl wrapper = new BeanWrapperImpl(obj);
-            if (!wrapper.isWritableProperty(fieldPath)) {
+            int lastSeparator = fieldPath.lastIndexOf(PATH_SEPARATOR);
+            Object owner = lastSeparator < 0 ? obj : getFieldValue(obj, fieldPath.substring(0, lastSeparator));
+            String property = fieldPath.substring(lastSeparator + 1);
+
+            PropertyAccessorTable.PropertyAccessor accessor = owner == null
+                    ? null
+                    : PropertyAccessorTable.forClass(owner.getClass()).accessor(property);
+            if (accessor == null || !accessor.isWritable()) {
                 throw new DynamicMappingException(String.format("Field not found: %s", fieldPath));
             }
-            wrapper.setPropertyValue(fieldPath, value);
+            accessor.set(owner, value);
 
         } catch (Exception e) {
             throw new DynamicMappingException(String.format("Failed to set field value: %s", fieldPath), e);
@@ -102,6 +119,26 @@ public class DynamicFieldParser {
         });
     }
 
+    /**
+     * Bulk apply precompiled field assignments in order
+     *
+     * @param targetObj   Target object to modify
+     * @param assignments Field assignments compiled from a JSON configuration
+     */
+    public void applyFieldAssignments(Object targetObj, List<FieldAssignment> assignments) {
+        if (targetObj == null || CollectionUtils.isEmpty(assignments)) {
+            return;
+        }
+
+        for (FieldAssignment assignment : assignments) {
+            try {
+                setFieldValue(targetObj, assignment.getFieldName(), assignment.getValue());
+            } catch (Exception e) {
+                throw new DynamicMappingException(String.format("Failed to apply mapping for field: %s", assignment.getFieldName()), e);
+            }
+        }
+    }
+
     public Object extractValueFromJsonNode(JsonNode valueNode) {
         if (valueNode == null || valueNode.isNull()) {
             return null;
@@ -128,6 +165,12 @@ public class DynamicFieldParser {
         return valueNode.asText();
     }
 
+    private static String[] splitPath(String fieldPath) {
+        return fieldPath.indexOf(PATH_SEPARATOR) < 0
+                ? new String[]{fieldPath}
+                : StringUtils.split(fieldPath, PATH_SEPARATOR);
+    }
+
     /**
      * Custom exception for dynamic mapping operations
      */
@@ -118,4 +118,8 @@ public class JsonParser {
     public <S> String serializesToJsonString(S source) throws JsonProcessingException {
         return objectMapper.writeValueAsString(source);
     }
+
+    public <S> byte[] serializeToJsonBytes(S source) throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(source);
+    }
 }
\ No newline at end of file
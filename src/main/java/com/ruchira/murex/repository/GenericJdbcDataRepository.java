@@ -3,17 +3,22 @@ package com.ruchira.murex.repository;
 import com.ruchira.murex.exception.BusinessException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.PreparedStatementCreatorFactory;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.ResultSetExtractor;
 import org.springframework.jdbc.core.RowMapper;
-import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.SqlParameter;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterUtils;
+import org.springframework.jdbc.core.namedparam.ParsedSql;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.jdbc.core.namedparam.SqlParameterSourceUtils;
-import org.springframework.jdbc.support.GeneratedKeyHolder;
-import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 
+import java.sql.PreparedStatement;
 import java.util.List;
-import java.util.Map;
+import java.util.function.Consumer;
 
 @Repository
 @RequiredArgsConstructor
@@ -46,32 +51,80 @@ public class GenericJdbcDataRepository {
     }
 
     /**
-     * Executes an INSERT statement using a SQL template and named parameters, and returns the auto-generated ID.
+     * Execute dynamic SQL for a batch of prepared parameter sources.
      *
-     * <p>This method uses the provided FreeMarker template file to construct the SQL statement, binds the
-     * parameters from the given {@code params} map to the named placeholders in the SQL, executes the insert,
-     * and retrieves the generated key from the specified ID column.</p>
+     * @param sql         string contains the batch script
+     * @param batchParams one parameter source per batch entry
+     */
+    public void executeBatch(String sql, SqlParameterSource[] batchParams) {
+        try {
+
+            int[] result = jdbcTemplate.batchUpdate(sql, batchParams);
+            log.debug("Executed batch of {} records; update counts={}", batchParams.length, result.length);
+
+        } catch (Exception e) {
+            final String message = String.format("Batch execution failed for %d records from sql template %s", batchParams.length, sql);
+            log.error(message, e);
+            throw new BusinessException(message, e);
+        }
+    }
+
+    /**
+     * Executes a single INSERT, UPDATE or DELETE statement with the given parameter source.
      *
-     * @param sql          string containing the INSERT SQL statement
-     * @param params       a map of parameter names to values, used to bind values to the named parameters in the SQL
-     * @param idColumnName the name of the auto-generated ID column to be returned
-     * @return the generated ID as a {@link Long}, or {@code null} if no ID was generated
+     * @param sql    statement with {@code :name} placeholders
+     * @param params values bound to the named placeholders
+     * @return the number of rows affected
      */
-    public Long insertAndReturnId(String sql, Map<String, Object> params, final String idColumnName) {
+    public int update(String sql, SqlParameterSource params) {
         try {
 
-            KeyHolder keyHolder = new GeneratedKeyHolder();
+            return jdbcTemplate.update(sql, params);
+
+        } catch (Exception e) {
+            final String message = String.format("update failed; Error executing dynamic SQL %s with params %s", sql, params);
+            log.error(message, e);
+            throw new BusinessException(message, e);
+        }
+    }
 
-            jdbcTemplate.update(sql,
-                    new MapSqlParameterSource(params),
-                    keyHolder,
-                    new String[]{idColumnName});
+    /**
+     * Executes a single statement without parameters over a plain (non-prepared) JDBC statement.
+     * <p>
+     * Needed for statements the server cannot prepare, such as {@code LOAD DATA LOCAL INFILE}.
+     *
+     * @param sql statement to execute
+     * @return the number of rows affected
+     */
+    public int executeUpdate(String sql) {
+        try {
+
+            return jdbcTemplate.getJdbcOperations().update(sql);
+
+        } catch (Exception e) {
+            final String message = String.format("update failed; Error executing SQL %s", sql);
+            log.error(message, e);
+            throw new BusinessException(message, e);
+        }
+    }
+
+    /**
+     * Executes a single statement with positional {@code ?} placeholders bound by the given setter.
+     * <p>
+     * Used for statements whose shape is built at runtime, such as multi-row INSERTs, where binding
+     * by index avoids resolving a named parameter per placeholder.
+     *
+     * @param sql    statement with positional placeholders
+     * @param setter binds every placeholder of the statement
+     * @return the number of rows affected
+     */
+    public int executeUpdate(String sql, PreparedStatementSetter setter) {
+        try {
 
-            // "id" is the auto-generated column name
-            return keyHolder.getKey() != null ? keyHolder.getKey().longValue() : null;
+            return jdbcTemplate.getJdbcOperations().update(sql, setter);
 
         } catch (Exception e) {
-            final String message = String.format("insert failed for record; Error executing dynamic SQL %s with params %s", sql, params);
+            final String message = String.format("update failed; Error executing positional SQL of %d characters", sql.length());
             log.error(message, e);
             throw new BusinessException(message, e);
         }
@@ -98,4 +151,88 @@ public class GenericJdbcDataRepository {
             throw new BusinessException(message, e);
         }
     }
+
+    /**
+     * Executes a query containing named placeholders and maps the results
+     * into a list of objects using the provided {@link RowMapper}.
+     * <p>
+     * Values are bound rather than inlined, so the statement text stays identical across runs
+     * and collection values are expanded into IN-lists by {@link NamedParameterJdbcTemplate}.
+     *
+     * @param <T>       the type of objects that the result rows will be mapped to
+     * @param sql       query definition with {@code :name} placeholders
+     * @param params    values bound to the named placeholders
+     * @param rowMapper the mapper used to convert each row of the result set into an object of type {@code T}
+     * @return a list of mapped objects resulting from the executed query
+     */
+    public <T> List<T> fetchData(final String sql, final SqlParameterSource params, final RowMapper<T> rowMapper) {
+        try {
+
+            // Execute query with bound parameters and row mapper
+            return jdbcTemplate.query(sql, params, rowMapper);
+        } catch (Exception e) {
+            final String message = String.format("fetch data failed for dynamic SQL %s with params %s and rowMapper %s", sql, params, rowMapper);
+            log.error(message, e);
+            throw new BusinessException(message, e);
+        }
+    }
+
+    /**
+     * Executes a query containing named placeholders and hands each mapped row to {@code rowConsumer}
+     * as soon as it is read, without materializing the full result list.
+     * <p>
+     * A positive {@code fetchSize} makes the MariaDB driver stream the result set, so memory use
+     * is bounded by the fetch size rather than the result size. The consumer runs on the calling thread
+     * while the result set is open, so it must not issue further statements on the same connection.
+     *
+     * @param <T>         the type of objects that the result rows will be mapped to
+     * @param sql         query definition with {@code :name} placeholders
+     * @param params      values bound to the named placeholders
+     * @param rowMapper   the mapper used to convert each row of the result set into an object of type {@code T}
+     * @param fetchSize   number of rows fetched per round trip
+     * @param rowConsumer callback receiving each mapped row in result order
+     */
+    public <T> void streamData(final String sql,
+                               final SqlParameterSource params,
+                               final RowMapper<T> rowMapper,
+                               final int fetchSize,
+                               final Consumer<T> rowConsumer) {
+        try {
+            final PreparedStatementCreator statementCreator = createStreamingStatementCreator(sql, params, fetchSize);
+
+            jdbcTemplate.getJdbcOperations().query(statementCreator, (ResultSetExtractor<Void>) rs -> {
+                int rowNum = 0;
+                while (rs.next()) {
+                    rowConsumer.accept(rowMapper.mapRow(rs, rowNum++));
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            final String message = String.format("stream data failed for dynamic SQL %s with params %s and rowMapper %s", sql, params, rowMapper);
+            log.error(message, e);
+            throw new BusinessException(message, e);
+        }
+    }
+
+    /**
+     * Builds a forward-only statement creator for a named-parameter query (expanding collection
+     * parameters into IN-lists) and applies the given fetch size to the created statement.
+     */
+    private PreparedStatementCreator createStreamingStatementCreator(final String sql,
+                                                                     final SqlParameterSource params,
+                                                                     final int fetchSize) {
+        final ParsedSql parsedSql = NamedParameterUtils.parseSqlStatement(sql);
+        final String sqlToUse = NamedParameterUtils.substituteNamedParameters(parsedSql, params);
+        final List<SqlParameter> declaredParameters = NamedParameterUtils.buildSqlParameterList(parsedSql, params);
+        final Object[] values = NamedParameterUtils.buildValueArray(parsedSql, params, null);
+
+        final PreparedStatementCreator delegate = new PreparedStatementCreatorFactory(sqlToUse, declaredParameters)
+                .newPreparedStatementCreator(values);
+
+        return connection -> {
+            PreparedStatement statement = delegate.createPreparedStatement(connection);
+            statement.setFetchSize(fetchSize);
+            return statement;
+        };
+    }
 }
@@ -0,0 +1,70 @@
+package com.ruchira.murex.repository.parameter;
+
+import com.ruchira.murex.model.trade.MurexTradeLegComponent;
+import org.springframework.jdbc.core.namedparam.AbstractSqlParameterSource;
+
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * Binds the {@code murexBookingTradeLegComponentInsert.ftl} placeholders straight from a {@link MurexTradeLegComponent}
+ */
+public class MurexTradeLegComponentParameterSource extends AbstractSqlParameterSource {
+
+    private static final String[] PARAMETER_NAMES = {
+            "id", "tradeLegId", "currencyPair", "marketSpotRate", "marketForwardRate", "spotValueDate"
+    };
+
+    private final Long id;
+    private final MurexTradeLegComponent component;
+    private final Long tradeLegId;
+
+    /**
+     * @param id         Component ID allocated by the application
+     * @param component  Component being inserted
+     * @param tradeLegId ID of the owning leg
+     */
+    public MurexTradeLegComponentParameterSource(Long id, MurexTradeLegComponent component, Long tradeLegId) {
+        this.id = id;
+        this.component = component;
+        this.tradeLegId = tradeLegId;
+    }
+
+    /**
+     * Batch parameters for all components of one leg
+     *
+     * @param ids Supplies the allocated ID of each component, in list order
+     */
+    public static MurexTradeLegComponentParameterSource[] createBatch(List<MurexTradeLegComponent> components, Long tradeLegId,
+                                                                      LongSupplier ids) {
+        return components.stream()
+                .map(component -> new MurexTradeLegComponentParameterSource(ids.getAsLong(), component, tradeLegId))
+                .toArray(MurexTradeLegComponentParameterSource[]::new);
+    }
+
+    @Override
+    public boolean hasValue(String paramName) {
+        return switch (paramName) {
+            case "id", "tradeLegId", "currencyPair", "marketSpotRate", "marketForwardRate", "spotValueDate" -> true;
+            default -> false;
+        };
+    }
+
+    @Override
+    public Object getValue(String paramName) {
+        return switch (paramName) {
+            case "id" -> id;
+            case "tradeLegId" -> tradeLegId;
+            case "currencyPair" -> component.getCurrencyPair();
+            case "marketSpotRate" -> component.getMarketSpotRate();
+            case "marketForwardRate" -> component.getMarketForwardRate();
+            case "spotValueDate" -> component.getSpotValueDate();
+            default -> throw new IllegalArgumentException(String.format("No value registered for key '%s'", paramName));
+        };
+    }
+
+    @Override
+    public String[] getParameterNames() {
+        return PARAMETER_NAMES.clone();
+    }
+}
@@ -0,0 +1,105 @@
+package com.ruchira.murex.repository.parameter;
+
+import com.ruchira.murex.model.trade.MurexTradeLeg;
+import com.ruchira.murex.model.trade.MurexTradeLegAdditionalFields;
+import org.springframework.jdbc.core.namedparam.AbstractSqlParameterSource;
+
+/**
+ * Binds the {@code murexBookingTradeLegInsert.ftl} placeholders straight from a {@link MurexTradeLeg}
+ * <p>
+ * Exposes the flattened view the insert expects: the leg's own fields, its
+ * {@link MurexTradeLegAdditionalFields} and the owning trade ID and leg type, without merging maps.
+ * Additional fields bind as {@code null} when the leg has none.
+ */
+public class MurexTradeLegParameterSource extends AbstractSqlParameterSource {
+
+    private static final String[] PARAMETER_NAMES = {
+            "id", "tradeId", "legType", "dealCcy", "dealAmount", "bsIndicator", "clientForwardRate", "clientSpotRate",
+            "initPrice", "clientRate", "fwswPoints", "salesMarginAmount", "salesMarginCcy", "valueDate", "fixDate",
+            "executionVenue", "sourceSystem", "broker", "makerOrTaker", "traderId", "origContractRef", "desk",
+            "counterPartyCode", "tradeLegType", "comment0", "comment1", "comment2"
+    };
+
+    private final Long id;
+    private final MurexTradeLeg leg;
+    private final MurexTradeLegAdditionalFields additionalFields;
+    private final Long tradeId;
+    private final String legType;
+
+    /**
+     * @param id      Leg ID allocated by the application
+     * @param leg     Leg being inserted
+     * @param tradeId ID of the owning trade
+     * @param legType Leg type (near/far)
+     */
+    public MurexTradeLegParameterSource(Long id, MurexTradeLeg leg, Long tradeId, String legType) {
+        this.id = id;
+        this.leg = leg;
+        this.additionalFields = leg.getAdditionalFields();
+        this.tradeId = tradeId;
+        this.legType = legType;
+    }
+
+    @Override
+    public boolean hasValue(String paramName) {
+        return switch (paramName) {
+            case "id", "tradeId", "legType", "dealCcy", "dealAmount", "bsIndicator", "clientForwardRate", "clientSpotRate",
+                 "initPrice", "clientRate", "fwswPoints", "salesMarginAmount", "salesMarginCcy", "valueDate", "fixDate",
+                 "executionVenue", "sourceSystem", "broker", "makerOrTaker", "traderId", "origContractRef", "desk",
+                 "counterPartyCode", "tradeLegType", "comment0", "comment1", "comment2" -> true;
+            default -> false;
+        };
+    }
+
+    @Override
+    public Object getValue(String paramName) {
+        return switch (paramName) {
+            case "id" -> id;
+            case "tradeId" -> tradeId;
+            case "legType" -> legType;
+            case "dealCcy" -> leg.getDealCcy();
+            case "dealAmount" -> leg.getDealAmount();
+            case "bsIndicator" -> leg.getBsIndicator();
+            case "clientForwardRate" -> leg.getClientForwardRate();
+            case "clientSpotRate" -> leg.getClientSpotRate();
+            case "initPrice" -> leg.getInitPrice();
+            case "clientRate" -> leg.getClientRate();
+            case "fwswPoints" -> leg.getFwswPoints();
+            case "salesMarginAmount" -> leg.getSalesMarginAmount();
+            case "salesMarginCcy" -> leg.getSalesMarginCcy();
+            case "valueDate" -> leg.getValueDate();
+            case "fixDate" -> leg.getFixDate();
+            default -> getAdditionalFieldValue(paramName);
+        };
+    }
+
+    @Override
+    public String[] getParameterNames() {
+        return PARAMETER_NAMES.clone();
+    }
+
+    private Object getAdditionalFieldValue(String paramName) {
+        if (!hasValue(paramName)) {
+            throw new IllegalArgumentException(String.format("No value registered for key '%s'", paramName));
+        }
+        if (additionalFields == null) {
+            return null;
+        }
+
+        return switch (paramName) {
+            case "executionVenue" -> additionalFields.getExecutionVenue();
+            case "sourceSystem" -> additionalFields.getSourceSystem();
+            case "broker" -> additionalFields.getBroker();
+            case "makerOrTaker" -> additionalFields.getMakerOrTaker();
+            case "traderId" -> additionalFields.getTraderId();
+            case "origContractRef" -> additionalFields.getOrigContractRef();
+            case "desk" -> additionalFields.getDesk();
+            case "counterPartyCode" -> additionalFields.getCounterPartyCode();
+            case "tradeLegType" -> additionalFields.getTradeLegType();
+            case "comment0" -> additionalFields.getComment0();
+            case "comment1" -> additionalFields.getComment1();
+            case "comment2" -> additionalFields.getComment2();
+            default -> throw new IllegalArgumentException(String.format("No value registered for key '%s'", paramName));
+        };
+    }
+}
@@ -0,0 +1,72 @@
+package com.ruchira.murex.repository.parameter;
+
+import com.ruchira.murex.model.trade.MurexTrade;
+import org.springframework.jdbc.core.namedparam.AbstractSqlParameterSource;
+
+/**
+ * Binds the {@code murexBookingInsert.ftl} placeholders straight from a {@link MurexTrade}'s getters
+ * <p>
+ * Replaces the Jackson {@code convertValue} round trip into a {@code Map<String, Object>}: no tree or map
+ * is built per trade, and dates and amounts are bound with their Java types.
+ */
+public class MurexTradeParameterSource extends AbstractSqlParameterSource {
+
+    private static final String[] PARAMETER_NAMES = {
+            "id", "tradeReference", "tradeExecutionDate", "tradeExecutionTime", "dealType", "murexShortLabel",
+            "sourcePortfolio", "regionalPortfolio", "destinationPortfolio", "internal", "intermediaryPortfolio",
+            "brokerLabel", "splitCross", "splitSpotSwap", "familyGrpType", "murexBookingRecord"
+    };
+
+    private final Long id;
+    private final MurexTrade trade;
+    private final byte[] murexBookingRecord;
+
+    /**
+     * @param id                 Booking ID allocated by the application
+     * @param trade              Trade being inserted
+     * @param murexBookingRecord UTF-8 JSON of the booking record stored alongside the trade
+     */
+    public MurexTradeParameterSource(Long id, MurexTrade trade, byte[] murexBookingRecord) {
+        this.id = id;
+        this.trade = trade;
+        this.murexBookingRecord = murexBookingRecord;
+    }
+
+    @Override
+    public boolean hasValue(String paramName) {
+        return switch (paramName) {
+            case "id", "tradeReference", "tradeExecutionDate", "tradeExecutionTime", "dealType", "murexShortLabel",
+                 "sourcePortfolio", "regionalPortfolio", "destinationPortfolio", "internal", "intermediaryPortfolio",
+                 "brokerLabel", "splitCross", "splitSpotSwap", "familyGrpType", "murexBookingRecord" -> true;
+            default -> false;
+        };
+    }
+
+    @Override
+    public Object getValue(String paramName) {
+        return switch (paramName) {
+            case "id" -> id;
+            case "tradeReference" -> trade.getTradeReference();
+            case "tradeExecutionDate" -> trade.getTradeExecutionDate();
+            case "tradeExecutionTime" -> trade.getTradeExecutionTime();
+            case "dealType" -> trade.getDealType();
+            case "murexShortLabel" -> trade.getMurexShortLabel();
+            case "sourcePortfolio" -> trade.getSourcePortfolio();
+            case "regionalPortfolio" -> trade.getRegionalPortfolio();
+            case "destinationPortfolio" -> trade.getDestinationPortfolio();
+            case "internal" -> trade.getInternal();
+            case "intermediaryPortfolio" -> trade.getIntermediaryPortfolio();
+            case "brokerLabel" -> trade.getBrokerLabel();
+            case "splitCross" -> trade.getSplitCross();
+            case "splitSpotSwap" -> trade.getSplitSpotSwap();
+            case "familyGrpType" -> trade.getFamilyGrpType();
+            case "murexBookingRecord" -> murexBookingRecord;
+            default -> throw new IllegalArgumentException(String.format("No value registered for key '%s'", paramName));
+        };
+    }
+
+    @Override
+    public String[] getParameterNames() {
+        return PARAMETER_NAMES.clone();
+    }
+}
@@ -0,0 +1,215 @@
+package com.ruchira.murex.repository.parameter;
+
+import com.ruchira.murex.dto.StgMrxExtDmcDto;
+import com.ruchira.murex.exception.BusinessException;
+import com.ruchira.murex.util.PropertyAccessorTable;
+import com.ruchira.murex.util.PropertyAccessorTable.PropertyAccessor;
+import org.springframework.jdbc.core.StatementCreatorUtils;
+import org.springframework.jdbc.core.SqlTypeValue;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Binds the columns of one {@link StgMrxExtDmcDto} to consecutive positional placeholders, or writes them as one
+ * CSV line for {@code LOAD DATA}
+ * <p>
+ * The binding of every placeholder is resolved once from the DTO's property types: its getter is a precompiled
+ * {@link PropertyAccessorTable} handle and its value goes through the matching typed {@link PreparedStatement}
+ * setter, so no {@code BeanPropertySqlParameterSource} is created and no type is inspected per row.
+ * <p>
+ * CSV lines use {@value #CSV_FORMAT}: {@code NULL} is written as {@code \N}, strings are quoted with
+ * quotes, backslashes and line breaks escaped, decimals are written in plain notation and dates in ISO format.
+ */
+public final class StgMrxExtDmcRowBinder {
+
+    /**
+     * Field and line format of {@link #writeCsv}, to be used in the {@code LOAD DATA} statement
+     */
+    public static final String CSV_FORMAT = "FIELDS TERMINATED BY ',' OPTIONALLY ENCLOSED BY '\"' ESCAPED BY '\\\\' "
+            + "LINES TERMINATED BY '\\n'";
+
+    private static final DateTimeFormatter CSV_DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSSSSS");
+
+    private final ColumnBinding[] bindings;
+
+    private StgMrxExtDmcRowBinder(ColumnBinding[] bindings) {
+        this.bindings = bindings;
+    }
+
+    /**
+     * @param parameterNames DTO property names in placeholder order, as listed in {@code stgMrxExtDmcInsertData.ftl}
+     * @throws BusinessException if a name is not a readable property of {@link StgMrxExtDmcDto}
+     */
+    public static StgMrxExtDmcRowBinder forParameters(List<String> parameterNames) {
+        PropertyAccessorTable accessors = PropertyAccessorTable.forClass(StgMrxExtDmcDto.class);
+        ColumnBinding[] bindings = new ColumnBinding[parameterNames.size()];
+        for (int i = 0; i < bindings.length; i++) {
+            String name = parameterNames.get(i);
+            if (!accessors.isReadable(name)) {
+                throw new BusinessException(String.format("DMC insert parameter %s is not a property of %s",
+                        name, StgMrxExtDmcDto.class.getSimpleName()));
+            }
+            PropertyAccessor accessor = accessors.accessor(name);
+            bindings[i] = new ColumnBinding(accessor, ColumnType.of(accessor.getPropertyType()));
+        }
+        return new StgMrxExtDmcRowBinder(bindings);
+    }
+
+    /**
+     * @return Placeholders bound per row
+     */
+    public int getColumnCount() {
+        return bindings.length;
+    }
+
+    /**
+     * Binds all columns of {@code dto} starting at placeholder {@code firstIndex}
+     *
+     * @return Index of the first placeholder after this row
+     */
+    public int bind(PreparedStatement ps, int firstIndex, StgMrxExtDmcDto dto) throws SQLException {
+        int index = firstIndex;
+        for (ColumnBinding binding : bindings) {
+            Object value = binding.accessor().get(dto);
+            binding.type().bind(ps, index++, value);
+        }
+        return index;
+    }
+
+    /**
+     * Writes all columns of {@code dto} as one CSV line in {@link #CSV_FORMAT}, in placeholder order
+     */
+    public void writeCsv(Writer out, StgMrxExtDmcDto dto) throws IOException {
+        for (int i = 0; i < bindings.length; i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            Object value = bindings[i].accessor().get(dto);
+            if (value == null) {
+                out.write("\\N");
+            } else {
+                bindings[i].type().writeCsv(out, value);
+            }
+        }
+        out.write('\n');
+    }
+
+    private static void writeQuoted(Writer out, String value) throws IOException {
+        out.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> out.write("\\\"");
+                case '\\' -> out.write("\\\\");
+                case '\n' -> out.write("\\n");
+                case '\r' -> out.write("\\r");
+                case '\0' -> out.write("\\0");
+                default -> out.write(c);
+            }
+        }
+        out.write('"');
+    }
+
+    private record ColumnBinding(PropertyAccessor accessor, ColumnType type) {
+    }
+
+    private enum ColumnType {
+        STRING(Types.VARCHAR) {
+            @Override
+            void bindValue(PreparedStatement ps, int index, Object value) throws SQLException {
+                ps.setString(index, (String) value);
+            }
+
+            @Override
+            void writeCsv(Writer out, Object value) throws IOException {
+                writeQuoted(out, (String) value);
+            }
+        },
+        DECIMAL(Types.DECIMAL) {
+            @Override
+            void bindValue(PreparedStatement ps, int index, Object value) throws SQLException {
+                ps.setBigDecimal(index, (BigDecimal) value);
+            }
+
+            @Override
+            void writeCsv(Writer out, Object value) throws IOException {
+                out.write(((BigDecimal) value).toPlainString());
+            }
+        },
+        DATE(Types.DATE) {
+            @Override
+            void bindValue(PreparedStatement ps, int index, Object value) throws SQLException {
+                ps.setObject(index, value, Types.DATE);
+            }
+        },
+        DATE_TIME(Types.TIMESTAMP) {
+            @Override
+            void bindValue(PreparedStatement ps, int index, Object value) throws SQLException {
+                ps.setObject(index, value, Types.TIMESTAMP);
+            }
+
+            @Override
+            void writeCsv(Writer out, Object value) throws IOException {
+                out.write(CSV_DATE_TIME.format((LocalDateTime) value));
+            }
+        },
+        OTHER(SqlTypeValue.TYPE_UNKNOWN) {
+            @Override
+            void bindValue(PreparedStatement ps, int index, Object value) throws SQLException {
+                StatementCreatorUtils.setParameterValue(ps, index, SqlTypeValue.TYPE_UNKNOWN, value);
+            }
+        };
+
+        private final int sqlType;
+
+        ColumnType(int sqlType) {
+            this.sqlType = sqlType;
+        }
+
+        abstract void bindValue(PreparedStatement ps, int index, Object value) throws SQLException;
+
+        /**
+         * Dates print in ISO format; anything else is written quoted, as text
+         */
+        void writeCsv(Writer out, Object value) throws IOException {
+            if (value instanceof LocalDate date) {
+                out.write(date.toString());
+            } else {
+                writeQuoted(out, value.toString());
+            }
+        }
+
+        void bind(PreparedStatement ps, int index, Object value) throws SQLException {
+            if (value == null) {
+                StatementCreatorUtils.setParameterValue(ps, index, sqlType, null);
+            } else {
+                bindValue(ps, index, value);
+            }
+        }
+
+        static ColumnType of(Class<?> propertyType) {
+            if (String.class == propertyType) {
+                return STRING;
+            }
+            if (BigDecimal.class == propertyType) {
+                return DECIMAL;
+            }
+            if (LocalDate.class == propertyType) {
+                return DATE;
+            }
+            if (LocalDateTime.class == propertyType) {
+                return DATE_TIME;
+            }
+            return OTHER;
+        }
+    }
+}
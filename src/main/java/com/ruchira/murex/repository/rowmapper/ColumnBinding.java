@@ -0,0 +1,52 @@
+package com.ruchira.murex.repository.rowmapper;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.function.BiConsumer;
+
+/**
+ * Reads a single column by index and writes it straight into the target bean through a setter reference.
+ * <p>
+ * Each factory applies the same {@link ResultSet} accessor {@code BeanPropertyRowMapper} would pick for the
+ * property type, so values (including SQL {@code NULL}s) are identical to the reflective mapping.
+ *
+ * @param <T> Type of the bean being populated
+ */
+@FunctionalInterface
+public interface ColumnBinding<T> {
+
+    void bind(ResultSet rs, int index, T target) throws SQLException;
+
+    static <T> ColumnBinding<T> string(BiConsumer<T, String> setter) {
+        return (rs, index, target) -> setter.accept(target, rs.getString(index));
+    }
+
+    static <T> ColumnBinding<T> decimal(BiConsumer<T, BigDecimal> setter) {
+        return (rs, index, target) -> setter.accept(target, rs.getBigDecimal(index));
+    }
+
+    static <T> ColumnBinding<T> localDate(BiConsumer<T, LocalDate> setter) {
+        return (rs, index, target) -> setter.accept(target, rs.getObject(index, LocalDate.class));
+    }
+
+    static <T> ColumnBinding<T> localDateTime(BiConsumer<T, LocalDateTime> setter) {
+        return (rs, index, target) -> setter.accept(target, rs.getObject(index, LocalDateTime.class));
+    }
+
+    static <T> ColumnBinding<T> longValue(BiConsumer<T, Long> setter) {
+        return (rs, index, target) -> {
+            long value = rs.getLong(index);
+            setter.accept(target, rs.wasNull() ? null : value);
+        };
+    }
+
+    static <T> ColumnBinding<T> byteValue(BiConsumer<T, Byte> setter) {
+        return (rs, index, target) -> {
+            byte value = rs.getByte(index);
+            setter.accept(target, rs.wasNull() ? null : value);
+        };
+    }
+}
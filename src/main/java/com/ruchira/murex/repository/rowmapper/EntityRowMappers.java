@@ -0,0 +1,180 @@
+package com.ruchira.murex.repository.rowmapper;
+
+import com.ruchira.murex.model.AggregatedDataResponse;
+import com.ruchira.murex.model.Currency;
+import com.ruchira.murex.model.InstructionEventConfig;
+import com.ruchira.murex.model.MurexBookingConfig;
+import lombok.experimental.UtilityClass;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.ruchira.murex.repository.rowmapper.ColumnBinding.*;
+
+/**
+ * Index-based row mappers for the entities read through the FTL queries.
+ * <p>
+ * The binding tables are built once at class initialisation; each call returns a fresh
+ * {@link IndexedRowMapper} that resolves the query's column layout on its first row.
+ * Property names follow the column aliases used in the FTL templates.
+ */
+@UtilityClass
+public class EntityRowMappers {
+
+    private static final Map<String, ColumnBinding<AggregatedDataResponse>> AGGREGATED_DATA_BINDINGS = aggregatedDataBindings();
+    private static final Map<String, ColumnBinding<MurexBookingConfig>> MUREX_BOOKING_CONFIG_BINDINGS = murexBookingConfigBindings();
+    private static final Map<String, ColumnBinding<InstructionEventConfig>> INSTRUCTION_EVENT_CONFIG_BINDINGS = instructionEventConfigBindings();
+    private static final Map<String, ColumnBinding<Currency>> CURRENCY_BINDINGS = currencyBindings();
+
+    public static RowMapper<AggregatedDataResponse> aggregatedDataRowMapper() {
+        return IndexedRowMapper.of(AggregatedDataResponse::new, AGGREGATED_DATA_BINDINGS);
+    }
+
+    public static RowMapper<MurexBookingConfig> murexBookingConfigRowMapper() {
+        return IndexedRowMapper.of(MurexBookingConfig::new, MUREX_BOOKING_CONFIG_BINDINGS);
+    }
+
+    public static RowMapper<InstructionEventConfig> instructionEventConfigRowMapper() {
+        return IndexedRowMapper.of(InstructionEventConfig::new, INSTRUCTION_EVENT_CONFIG_BINDINGS);
+    }
+
+    public static RowMapper<Currency> currencyRowMapper() {
+        return IndexedRowMapper.of(Currency::new, CURRENCY_BINDINGS);
+    }
+
+    private static Map<String, ColumnBinding<AggregatedDataResponse>> aggregatedDataBindings() {
+        Map<String, ColumnBinding<AggregatedDataResponse>> bindings = new HashMap<>();
+        bind(bindings, "txnId", string(AggregatedDataResponse::setTxnId));
+        bind(bindings, "mxProdCd", string(AggregatedDataResponse::setMxProdCd));
+        bind(bindings, "dealUdfPcCode", string(AggregatedDataResponse::setDealUdfPcCode));
+        bind(bindings, "ctpyRelnship", string(AggregatedDataResponse::setCtpyRelnship));
+        bind(bindings, "ctpy", string(AggregatedDataResponse::setCtpy));
+        bind(bindings, "nextRolloverDate", localDate(AggregatedDataResponse::setNextRolloverDate));
+        bind(bindings, "valueDte", localDate(AggregatedDataResponse::setValueDte));
+        bind(bindings, "maturityDte", localDate(AggregatedDataResponse::setMaturityDte));
+        bind(bindings, "transDte", localDate(AggregatedDataResponse::setTransDte));
+        bind(bindings, "pymtDte", localDate(AggregatedDataResponse::setPymtDte));
+        bind(bindings, "actualIntSpread", decimal(AggregatedDataResponse::setActualIntSpread));
+        bind(bindings, "buyTransAmt", decimal(AggregatedDataResponse::setBuyTransAmt));
+        bind(bindings, "sellTransAmt", decimal(AggregatedDataResponse::setSellTransAmt));
+        bind(bindings, "mtmTransAmt", decimal(AggregatedDataResponse::setMtmTransAmt));
+        bind(bindings, "curr1", string(AggregatedDataResponse::setCurr1));
+        bind(bindings, "curr2", string(AggregatedDataResponse::setCurr2));
+        bind(bindings, "cptyLocCtry", string(AggregatedDataResponse::setCptyLocCtry));
+        bind(bindings, "instrumentCode", string(AggregatedDataResponse::setInstrumentCode));
+        bind(bindings, "mrxEntityId", string(AggregatedDataResponse::setMrxEntityId));
+        bind(bindings, "currBizUnit", string(AggregatedDataResponse::setCurrBizUnit));
+        bind(bindings, "nextRepriceDte", localDate(AggregatedDataResponse::setNextRepriceDte));
+        bind(bindings, "dealStatus", string(AggregatedDataResponse::setDealStatus));
+        bind(bindings, "mktOpLastDte", localDate(AggregatedDataResponse::setMktOpLastDte));
+        bind(bindings, "issuerCode", string(AggregatedDataResponse::setIssuerCode));
+        bind(bindings, "exchRate", decimal(AggregatedDataResponse::setExchRate));
+        bind(bindings, "exchTradedInd", string(AggregatedDataResponse::setExchTradedInd));
+        bind(bindings, "swapLegInd", string(AggregatedDataResponse::setSwapLegInd));
+        bind(bindings, "spotForward", string(AggregatedDataResponse::setSpotForward));
+        bind(bindings, "deliverable", string(AggregatedDataResponse::setDeliverable));
+        bind(bindings, "issuer", string(AggregatedDataResponse::setIssuer));
+        bind(bindings, "salesPersonId", string(AggregatedDataResponse::setSalesPersonId));
+        bind(bindings, "tradingPortf", string(AggregatedDataResponse::setTradingPortf));
+        bind(bindings, "mtmCurr", string(AggregatedDataResponse::setMtmCurr));
+        bind(bindings, "origCurr", string(AggregatedDataResponse::setOrigCurr));
+        bind(bindings, "liveAmt", decimal(AggregatedDataResponse::setLiveAmt));
+        bind(bindings, "cancelReissueInd", string(AggregatedDataResponse::setCancelReissueInd));
+        bind(bindings, "delta", decimal(AggregatedDataResponse::setDelta));
+        bind(bindings, "marketValue", decimal(AggregatedDataResponse::setMarketValue));
+        bind(bindings, "bsIndicator", string(AggregatedDataResponse::setBsIndicator));
+        bind(bindings, "dirtyPrice", decimal(AggregatedDataResponse::setDirtyPrice));
+        bind(bindings, "discountdMktVal", decimal(AggregatedDataResponse::setDiscountdMktVal));
+        bind(bindings, "discountdMktValCcy", string(AggregatedDataResponse::setDiscountdMktValCcy));
+        bind(bindings, "pvOnCg", decimal(AggregatedDataResponse::setPvOnCg));
+        bind(bindings, "extRef", string(AggregatedDataResponse::setExtRef));
+        bind(bindings, "nondiscMv", string(AggregatedDataResponse::setNondiscMv));
+        bind(bindings, "pvEffect", decimal(AggregatedDataResponse::setPvEffect));
+        bind(bindings, "lastCalcDte", localDate(AggregatedDataResponse::setLastCalcDte));
+        bind(bindings, "nondiscMvD", string(AggregatedDataResponse::setNondiscMvD));
+        bind(bindings, "liveQty", string(AggregatedDataResponse::setLiveQty));
+        bind(bindings, "pastCashCap", decimal(AggregatedDataResponse::setPastCashCap));
+        bind(bindings, "upl", decimal(AggregatedDataResponse::setUpl));
+        bind(bindings, "realizePlFut", decimal(AggregatedDataResponse::setRealizePlFut));
+        bind(bindings, "fwswPoints", decimal(AggregatedDataResponse::setFwswPoints));
+        bind(bindings, "nomL1Orig", decimal(AggregatedDataResponse::setNomL1Orig));
+        bind(bindings, "nomL2Orig", decimal(AggregatedDataResponse::setNomL2Orig));
+        bind(bindings, "discNpvL1", decimal(AggregatedDataResponse::setDiscNpvL1));
+        bind(bindings, "discNpvL2", decimal(AggregatedDataResponse::setDiscNpvL2));
+        bind(bindings, "unrealPlL1", decimal(AggregatedDataResponse::setUnrealPlL1));
+        bind(bindings, "unrealPlL2", decimal(AggregatedDataResponse::setUnrealPlL2));
+        bind(bindings, "initPrice", decimal(AggregatedDataResponse::setInitPrice));
+        bind(bindings, "pl", decimal(AggregatedDataResponse::setPl));
+        bind(bindings, "mktPrice", decimal(AggregatedDataResponse::setMktPrice));
+        bind(bindings, "mvCurr", string(AggregatedDataResponse::setMvCurr));
+        bind(bindings, "fixDate", localDate(AggregatedDataResponse::setFixDate));
+        bind(bindings, "ntdsgPortf", string(AggregatedDataResponse::setNtdsgPortf));
+        bind(bindings, "comment0", string(AggregatedDataResponse::setComment0));
+        bind(bindings, "spotRate", decimal(AggregatedDataResponse::setSpotRate));
+        bind(bindings, "comment1", string(AggregatedDataResponse::setComment1));
+        bind(bindings, "comment2", string(AggregatedDataResponse::setComment2));
+        bind(bindings, "unreCapGain", decimal(AggregatedDataResponse::setUnreCapGain));
+        bind(bindings, "liveAmt2", decimal(AggregatedDataResponse::setLiveAmt2));
+        bind(bindings, "initialQty", decimal(AggregatedDataResponse::setInitialQty));
+        bind(bindings, "dealTime", localDateTime(AggregatedDataResponse::setDealTime));
+        bind(bindings, "marketSpotRate1", decimal(AggregatedDataResponse::setMarketSpotRate1));
+        bind(bindings, "marketSpotRate2", decimal(AggregatedDataResponse::setMarketSpotRate2));
+        bind(bindings, "contract", string(AggregatedDataResponse::setContract));
+        bind(bindings, "typologyMx3", string(AggregatedDataResponse::setTypologyMx3));
+        bind(bindings, "dealNo", string(AggregatedDataResponse::setDealNo));
+        bind(bindings, "origContractRef", string(AggregatedDataResponse::setOrigContractRef));
+        bind(bindings, "legalBu", string(AggregatedDataResponse::setLegalBu));
+        bind(bindings, "salesMarginUsd", decimal(AggregatedDataResponse::setSalesMarginUsd));
+        bind(bindings, "salesMarginCurrUsd", string(AggregatedDataResponse::setSalesMarginCurrUsd));
+        bind(bindings, "sourceDataLocCd", string(AggregatedDataResponse::setSourceDataLocCd));
+        bind(bindings, "productCode", string(AggregatedDataResponse::setProductCode));
+        bind(bindings, "dlBusinessdate", localDate(AggregatedDataResponse::setDlBusinessdate));
+        bind(bindings, "historicalExchangeRate", decimal(AggregatedDataResponse::setHistoricalExchangeRate));
+        bind(bindings, "navType", string(AggregatedDataResponse::setNavType));
+        bind(bindings, "exposureCurrency", string(AggregatedDataResponse::setExposureCurrency));
+        bind(bindings, "apportionmentCurrency", string(AggregatedDataResponse::setApportionmentCurrency));
+        bind(bindings, "hedgeAmtAllocation", decimal(AggregatedDataResponse::setHedgeAmtAllocation));
+        bind(bindings, "entityName", string(AggregatedDataResponse::setEntityName));
+        bind(bindings, "entityType", string(AggregatedDataResponse::setEntityType));
+        bind(bindings, "entityId", string(AggregatedDataResponse::setEntityId));
+        bind(bindings, "murexComment", string(AggregatedDataResponse::setMurexComment));
+        return Map.copyOf(bindings);
+    }
+
+    private static Map<String, ColumnBinding<MurexBookingConfig>> murexBookingConfigBindings() {
+        Map<String, ColumnBinding<MurexBookingConfig>> bindings = new HashMap<>();
+        bind(bindings, "id", longValue(MurexBookingConfig::setId));
+        bind(bindings, "murexBookCode", string(MurexBookingConfig::setMurexBookCode));
+        bind(bindings, "description", string(MurexBookingConfig::setDescription));
+        bind(bindings, "tpsOutbound", string(MurexBookingConfig::setTpsOutbound));
+        bind(bindings, "transformations", string(MurexBookingConfig::setTransformations));
+        return Map.copyOf(bindings);
+    }
+
+    private static Map<String, ColumnBinding<InstructionEventConfig>> instructionEventConfigBindings() {
+        Map<String, ColumnBinding<InstructionEventConfig>> bindings = new HashMap<>();
+        bind(bindings, "ruleId", string(InstructionEventConfig::setRuleId));
+        bind(bindings, "description", string(InstructionEventConfig::setDescription));
+        bind(bindings, "businessEvent", string(InstructionEventConfig::setBusinessEvent));
+        bind(bindings, "hedgeMethod", string(InstructionEventConfig::setHedgeMethod));
+        bind(bindings, "currencyType", string(InstructionEventConfig::setCurrencyType));
+        bind(bindings, "navType", string(InstructionEventConfig::setNavType));
+        bind(bindings, "hedgingInstrument", string(InstructionEventConfig::setHedgingInstrument));
+        bind(bindings, "mrxBookCodeIds", string(InstructionEventConfig::setMrxBookCodeIds));
+        bind(bindings, "status", byteValue(InstructionEventConfig::setStatus));
+        return Map.copyOf(bindings);
+    }
+
+    private static Map<String, ColumnBinding<Currency>> currencyBindings() {
+        Map<String, ColumnBinding<Currency>> bindings = new HashMap<>();
+        bind(bindings, "originalCurrency", string(Currency::setOriginalCurrency));
+        bind(bindings, "functionalCurrency", string(Currency::setFunctionalCurrency));
+        bind(bindings, "currencyCategory", string(Currency::setCurrencyCategory));
+        return Map.copyOf(bindings);
+    }
+
+    private static <T> void bind(Map<String, ColumnBinding<T>> bindings, String property, ColumnBinding<T> binding) {
+        bindings.put(IndexedRowMapper.normalizeLabel(property), binding);
+    }
+}
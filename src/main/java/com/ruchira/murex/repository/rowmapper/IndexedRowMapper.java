@@ -0,0 +1,88 @@
+package com.ruchira.murex.repository.rowmapper;
+
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.JdbcUtils;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Row mapper that reads columns by index and populates the target through precompiled setter bindings.
+ * <p>
+ * Column labels are matched to bindings once, on the first row of the result set, using the same
+ * label normalisation as {@code BeanPropertyRowMapper} (case-insensitive, underscores ignored).
+ * Every following row is a straight loop over the resolved column indexes. Columns without a
+ * binding are ignored, as they are by {@code BeanPropertyRowMapper}.
+ * <p>
+ * An instance caches the column layout of the query it is used for, so create a new one per query
+ * through {@link #of(Supplier, Map)} rather than sharing it.
+ *
+ * @param <T> Type of the mapped row object
+ */
+public final class IndexedRowMapper<T> implements RowMapper<T> {
+
+    private final Supplier<T> factory;
+    private final Map<String, ColumnBinding<T>> bindingsByLabel;
+
+    private int[] columnIndexes;
+    private ColumnBinding<T>[] columnBindings;
+
+    private IndexedRowMapper(Supplier<T> factory, Map<String, ColumnBinding<T>> bindingsByLabel) {
+        this.factory = factory;
+        this.bindingsByLabel = bindingsByLabel;
+    }
+
+    /**
+     * Creates a mapper for a single query.
+     *
+     * @param factory         creates an empty row object
+     * @param bindingsByLabel bindings keyed by normalised column label (see {@link #normalizeLabel(String)})
+     */
+    public static <T> IndexedRowMapper<T> of(Supplier<T> factory, Map<String, ColumnBinding<T>> bindingsByLabel) {
+        return new IndexedRowMapper<>(factory, bindingsByLabel);
+    }
+
+    @Override
+    public T mapRow(ResultSet rs, int rowNum) throws SQLException {
+        if (columnBindings == null) {
+            resolveColumns(rs.getMetaData());
+        }
+
+        T target = factory.get();
+        for (int i = 0; i < columnIndexes.length; i++) {
+            columnBindings[i].bind(rs, columnIndexes[i], target);
+        }
+        return target;
+    }
+
+    /**
+     * Normalises a column label or property name for matching: lower-cased with underscores removed.
+     */
+    public static String normalizeLabel(String label) {
+        return label.replace("_", "").toLowerCase(Locale.ROOT);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void resolveColumns(ResultSetMetaData metaData) throws SQLException {
+        int columnCount = metaData.getColumnCount();
+        List<Integer> indexes = new ArrayList<>(columnCount);
+        List<ColumnBinding<T>> bindings = new ArrayList<>(columnCount);
+
+        for (int index = 1; index <= columnCount; index++) {
+            ColumnBinding<T> binding = bindingsByLabel.get(normalizeLabel(JdbcUtils.lookupColumnName(metaData, index)));
+            if (binding != null) {
+                indexes.add(index);
+                bindings.add(binding);
+            }
+        }
+
+        this.columnIndexes = indexes.stream().mapToInt(Integer::intValue).toArray();
+        this.columnBindings = bindings.toArray(new ColumnBinding[0]);
+    }
+}
@@ -0,0 +1,111 @@
+package com.ruchira.murex.repository.rowmapper;
+
+import com.ruchira.murex.model.RunSymbolTable;
+import com.ruchira.murex.model.batch.TradeRow;
+import com.ruchira.murex.model.batch.TradeRowBatch;
+import com.ruchira.murex.model.batch.TradeRowSchema;
+import com.ruchira.murex.model.batch.TradeRowSchema.Column;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.JdbcUtils;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Row mapper that appends each aggregated data row to a columnar {@link TradeRowBatch} and returns a
+ * {@link TradeRow} view of it, starting a new batch whenever the current one is full.
+ * <p>
+ * Column labels are matched once, on the first row, with the same normalisation as {@link IndexedRowMapper},
+ * and each column is read with the same {@link ResultSet} accessor {@link ColumnBinding} uses for its type,
+ * so materialized rows are identical to those of {@link EntityRowMappers#aggregatedDataRowMapper()}.
+ * <p>
+ * Values of the {@link RunSymbolTable#SYMBOL_COLUMNS} are replaced by the run's canonical instance as they are read,
+ * so the driver's fresh strings become garbage immediately and equal values share one instance across batches.
+ * <p>
+ * An instance holds the column layout and the open batch of one query; create a new one per query.
+ */
+public final class TradeRowBatchMapper implements RowMapper<TradeRow> {
+
+    private static final Map<String, Column> COLUMNS_BY_LABEL = columnsByLabel();
+
+    private final int batchCapacity;
+    private final RunSymbolTable symbolTable;
+
+    private int[] columnIndexes;
+    private Column[] columns;
+    private boolean[] symbolColumns;
+    private TradeRowBatch batch;
+
+    private TradeRowBatchMapper(int batchCapacity, RunSymbolTable symbolTable) {
+        this.batchCapacity = Math.max(1, batchCapacity);
+        this.symbolTable = symbolTable;
+    }
+
+    /**
+     * @param batchCapacity Rows per batch; a batch stays reachable while any of its rows is
+     * @param symbolTable   Symbol table of the run the rows are read for
+     */
+    public static TradeRowBatchMapper of(int batchCapacity, RunSymbolTable symbolTable) {
+        return new TradeRowBatchMapper(batchCapacity, symbolTable);
+    }
+
+    @Override
+    public TradeRow mapRow(ResultSet rs, int rowNum) throws SQLException {
+        if (columns == null) {
+            resolveColumns(rs.getMetaData());
+        }
+        if (batch == null || batch.isFull()) {
+            batch = new TradeRowBatch(batchCapacity, List.of(columns));
+        }
+
+        int row = batch.appendRow();
+        for (int i = 0; i < columns.length; i++) {
+            Object value = read(rs, columnIndexes[i], columns[i]);
+            batch.put(columns[i], row, symbolColumns[i] ? symbolTable.intern((String) value) : value);
+        }
+        return batch.row(row);
+    }
+
+    private static Object read(ResultSet rs, int index, Column column) throws SQLException {
+        return switch (column.type()) {
+            case STRING -> rs.getString(index);
+            case DECIMAL -> rs.getBigDecimal(index);
+            case DATE -> rs.getObject(index, LocalDate.class);
+            case DATE_TIME -> rs.getObject(index, LocalDateTime.class);
+        };
+    }
+
+    private void resolveColumns(ResultSetMetaData metaData) throws SQLException {
+        int columnCount = metaData.getColumnCount();
+        List<Integer> indexes = new ArrayList<>(columnCount);
+        List<Column> resolved = new ArrayList<>(columnCount);
+
+        for (int index = 1; index <= columnCount; index++) {
+            Column column = COLUMNS_BY_LABEL.get(IndexedRowMapper.normalizeLabel(JdbcUtils.lookupColumnName(metaData, index)));
+            if (column != null) {
+                indexes.add(index);
+                resolved.add(column);
+            }
+        }
+
+        this.columnIndexes = indexes.stream().mapToInt(Integer::intValue).toArray();
+        this.columns = resolved.toArray(new Column[0]);
+        this.symbolColumns = new boolean[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            symbolColumns[i] = RunSymbolTable.SYMBOL_COLUMNS.contains(columns[i].property());
+        }
+    }
+
+    private static Map<String, Column> columnsByLabel() {
+        Map<String, Column> byLabel = new HashMap<>();
+        TradeRowSchema.columns().forEach(column -> byLabel.put(IndexedRowMapper.normalizeLabel(column.property()), column));
+        return Map.copyOf(byLabel);
+    }
+}
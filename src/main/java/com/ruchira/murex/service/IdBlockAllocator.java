@@ -0,0 +1,99 @@
+package com.ruchira.murex.service;
+
+import com.ruchira.murex.config.PersistenceConfig;
+import com.ruchira.murex.exception.BusinessException;
+import com.ruchira.murex.freemaker.FtlQueryBuilder;
+import com.ruchira.murex.freemaker.ParameterizedQuery;
+import com.ruchira.murex.repository.GenericJdbcDataRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.ruchira.murex.constant.Constants.ADVANCE_ID_ALLOCATION_FTL_FILE;
+import static com.ruchira.murex.constant.Constants.FETCH_ID_ALLOCATION_FOR_UPDATE_FTL_FILE;
+
+/**
+ * Hands out primary keys for the booking tables from blocks reserved in h_id_allocation (hi/lo allocation).
+ *
+ * <p>A block of {@code app.persistence.id-block-size} ids is reserved by locking the sequence row, reading its
+ * next value and advancing it, in a transaction of its own so the row lock is held only for that round trip and a
+ * rolled back booking never returns ids. Ids are then issued from memory until the block is used up, so whole trade
+ * trees can be keyed before they are written. Ids are unique across instances but not gap free.</p>
+ *
+ * <p>The booking tables have no AUTO_INCREMENT, so h_id_allocation is the only source of their keys: any other
+ * writer must reserve its ids from the same sequence rows, otherwise it collides with blocks already handed out.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IdBlockAllocator {
+
+    private final GenericJdbcDataRepository repository;
+    private final FtlQueryBuilder ftlQueryBuilder;
+    private final PersistenceConfig persistenceConfig;
+    private final PlatformTransactionManager transactionManager;
+
+    private final Map<String, IdBlock> blocks = new ConcurrentHashMap<>();
+
+    /**
+     * @param sequenceName Sequence row in h_id_allocation, one of the {@code *_ID_SEQUENCE} constants
+     * @return Next unused id of the sequence
+     */
+    public long nextId(String sequenceName) {
+        IdBlock block = blocks.computeIfAbsent(sequenceName, IdBlock::new);
+        // ReentrantLock rather than synchronized, so a virtual thread waiting on a reservation does not pin its carrier
+        block.lock.lock();
+        try {
+            if (block.next >= block.limit) {
+                reserve(block);
+            }
+            return block.next++;
+        } finally {
+            block.lock.unlock();
+        }
+    }
+
+    private void reserve(IdBlock block) {
+        final int blockSize = Math.max(1, persistenceConfig.getIdBlockSize());
+        final Map<String, Object> params = Map.of("sequenceName", block.sequenceName, "blockSize", blockSize);
+
+        TransactionTemplate reservation = new TransactionTemplate(transactionManager);
+        reservation.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        Long start = reservation.execute(status -> {
+            final ParameterizedQuery select = ftlQueryBuilder.buildParameterizedQuery(params, FETCH_ID_ALLOCATION_FOR_UPDATE_FTL_FILE);
+            List<Long> nextValues = repository.fetchData(select.getSql(), select.getParameters(),
+                    (rs, rowNum) -> rs.getLong("nextValue"));
+            if (nextValues.isEmpty()) {
+                throw new BusinessException(String.format("No id allocation row found for sequence %s", block.sequenceName));
+            }
+
+            final ParameterizedQuery advance = ftlQueryBuilder.buildParameterizedQuery(params, ADVANCE_ID_ALLOCATION_FTL_FILE);
+            repository.update(advance.getSql(), advance.getParameters());
+            return nextValues.getFirst();
+        });
+
+        block.next = start;
+        block.limit = start + blockSize;
+        log.debug("Reserved ids [{}, {}) for sequence {}", block.next, block.limit, block.sequenceName);
+    }
+
+    private static final class IdBlock {
+        private final String sequenceName;
+        private final ReentrantLock lock = new ReentrantLock();
+        private long next;
+        private long limit;
+
+        private IdBlock(String sequenceName) {
+            this.sequenceName = sequenceName;
+        }
+    }
+}
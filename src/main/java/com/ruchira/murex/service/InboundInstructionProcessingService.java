@@ -1,24 +1,29 @@
 package com.ruchira.murex.service;
 
 import com.ruchira.murex.kafka.model.HAWKMurexBookingRecord;
+import com.ruchira.murex.kafka.model.SerializedBookingRecord;
 import com.ruchira.murex.model.Currency;
+import com.ruchira.murex.config.DataFetchConfig;
+import com.ruchira.murex.config.PersistenceConfig;
 import com.ruchira.murex.util.ConcurrencyUtil;
+import com.ruchira.murex.util.TraceIdGenerator;
 import com.ruchira.murex.dto.InstructionRequestDto;
 import com.ruchira.murex.dto.StgMrxExtDmcDto;
-import com.ruchira.murex.exception.BusinessException;
 import com.ruchira.murex.exception.InstructionProcessingException;
 import com.ruchira.murex.model.*;
-import com.ruchira.murex.model.trade.MurexTrade;
-import com.ruchira.murex.parser.JsonParser;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.ruchira.murex.model.batch.TradeRowCopier;
+import com.ruchira.murex.model.trade.BookedTrade;
+import com.ruchira.murex.model.trade.PendingBooking;
+import com.ruchira.murex.model.plan.BookingPlanIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections.CollectionUtils;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -31,20 +36,24 @@ public class InboundInstructionProcessingService {
 
     private final TradeDataHandlerService tradeDataHandlerService;
     private final MurexDownStreamProcessAdapter murexDownStreamProcessAdapter;
-    private final JsonParser jsonParser;
     private final MurexDataTransformationService murexDataTransformationService;
+    private final MurexBookingBulkWriter murexBookingBulkWriter;
+    private final StgMrxExtDmcWriteBehindWriter stgMrxExtDmcWriteBehindWriter;
+    private final PersistenceConfig persistenceConfig;
+    private final DataFetchConfig dataFetchConfig;
+    private final ProcessedContractLedger processedContractLedger;
 
 
     /**
      * Entry point for processing an instruction request in a production-safe manner.
      * <p>
      * This method orchestrates the full instruction processing pipeline:
-     * 1. Fetch aggregated data
-     * 2. Group and validate records
-     * 3. Fetch currency and rule maps
-     * 4. Process each grouped record concurrently (all-or-none semantics)
-     * 5. Insert transformed records into StgMrxExtDmc table
-     * 6. Publish generated trades to downstream systems
+     * 1. Fetch currency and rule maps
+     * 2. Stream aggregated data, grouping and validating records as rows arrive
+     * 3. Process each completed grouped record concurrently while the stream continues (all-or-none semantics)
+     * 4. Insert transformed records into StgMrxExtDmc table, while step 3 is still running when write-behind is enabled
+     * 5. Publish generated trades to downstream systems
+     * 6. Record the processed groups whose trades were all published in the processed-contract ledger
      * <p>
      * Error Handling:
      * - Any exception at any stage will trigger a full rollback
@@ -61,26 +70,31 @@ public class InboundInstructionProcessingService {
         log.info("Processing instruction event: {}", instructionRequestDto.getInstructionEvent());
         long start = System.currentTimeMillis();
         try {
-            // Step 1: fetch aggregated data
-            List<AggregatedDataResponse> results = fetchAggregatedData(instructionRequestDto);
-
-            // Step 2: group and validate records
-            List<GroupedRecord> groupedRecords = groupAndValidate(results);
-
-            // Step 3: fetch currency and rule map
+            // Step 1: fetch currency and rule map
             List<Currency> currencies = fetchCurrencyData(instructionRequestDto);
             List<String> currenciesInFamily = extractCurrencies(currencies);
             Map<String, InstructionEventConfig> ruleMap = fetchBusinessEventRuleMap(instructionRequestDto, currencies);
 
-            // Step 4: process records
-            RecordProcessingResult processingResult = processGroupedRecords(groupedRecords, instructionRequestDto, ruleMap, currenciesInFamily);
-
-
-            //Step 5: Insert StgMrxExtDmc Data to Database
-            insertStgMrxExtDmcRecordsToDatabase(processingResult.getAllStgMrxExtDmcs());
+            // Step 2, 3 & 4: stream, group and process records, writing StgMrxExtDmc rows behind the transformation.
+            // The stage writes to a work table and moves the run into StgMrxExtDmc within this transaction
+            ProcessedContractLedger.Run ledgerRun = processedContractLedger.open(instructionRequestDto);
+            StgMrxExtDmcWriteBehindWriter.Run dmcStage = null;
+            if (persistenceConfig.isDmcWriteBehindEnabled()) {
+                dmcStage = stgMrxExtDmcWriteBehindWriter.open(TraceIdGenerator.generateTimestampBasedTraceId());
+            }
+            RecordProcessingResult processingResult = processGroupedRecords(instructionRequestDto, ruleMap, currenciesInFamily, ledgerRun, dmcStage);
+            if (dmcStage != null) {
+                dmcStage.complete();
+            } else {
+                //Step 4: Insert StgMrxExtDmc Data to Database
+                insertStgMrxExtDmcRecordsToDatabase(processingResult.getAllStgMrxExtDmcs());
+            }
 
             // Step 5: publish trades to downstream systems and databases This is handled in its Onw Transaction Context
-            publishGeneratedMurexTrades(processingResult.getAllMurexTrades());
+            Set<String> failedTradeReferences = publishGeneratedMurexTrades(processingResult.getAllBookedTrades());
+
+            // Step 6: record the groups whose trades all reached the database and downstream
+            ledgerRun.commit(failedTradeReferences);
 
             long end = System.currentTimeMillis();
             log.info("Time Taken: {}", end - start);
@@ -90,34 +104,85 @@ public class InboundInstructionProcessingService {
         }
     }
 
-    private RecordProcessingResult processGroupedRecords(List<GroupedRecord> groupedRecords,
-                                                         InstructionRequestDto requestDto,
+    /**
+     * Streams grouped records from the aggregated fetch and forks each one for processing as soon as it is complete.
+     * <p>
+     * NDF groups look up their matching FX Spot group, so they are held back until the stream is exhausted.
+     * Only FX Spot groups are retained as lookup context; every other group is released once forked.
+     * Retained FX Spot and deferred NDF groups hold copies of their rows, so they do not keep whole fetch batches
+     * reachable for the rest of the run.
+     * Repeated string values are canonicalized through a run-scoped {@link RunSymbolTable} as rows are mapped.
+     * Groups the {@link ProcessedContractLedger} reports as unchanged are skipped in incremental runs.
+     * When {@code dmcStage} is given, each group's DMC rows are handed to it as soon as the group is processed and
+     * are not kept in the returned result.
+     */
+    private RecordProcessingResult processGroupedRecords(InstructionRequestDto requestDto,
                                                          Map<String, InstructionEventConfig> ruleMap,
-                                                         List<String> currenciesInFamily) throws Exception {
-
-        List<RecordProcessingResult> resultList = ConcurrencyUtil.processAllOrNone(
-                groupedRecords,
-                record -> processRecord(
-                        record,
-                        requestDto,
-                        ruleMap,
-                        groupedRecords,
-                        currenciesInFamily
-                )
+                                                         List<String> currenciesInFamily,
+                                                         ProcessedContractLedger.Run ledgerRun,
+                                                         StgMrxExtDmcWriteBehindWriter.Run dmcStage) throws Exception {
+
+        List<GroupedRecord> spotGroupedRecords = new ArrayList<>();
+        List<GroupedRecord> deferredNdfRecords = new ArrayList<>();
+        ExchangeRateTable exchangeRateTable = new ExchangeRateTable();
+        RunSymbolTable symbolTable = new RunSymbolTable();
+        TradeRowCopier retainedRows = new TradeRowCopier(dataFetchConfig.getColumnarBatchSize());
+
+        List<RecordProcessingResult> resultList = ConcurrencyUtil.<GroupedRecord, RecordProcessingResult>processAllOrNone(
+                sink -> {
+                    streamGroupedRecords(requestDto, symbolTable, groupedRecord -> {
+                        groupedRecord.getRows().forEach(exchangeRateTable::register);
+                        if (FX_SPOT_TYPOLOGY.equals(groupedRecord.getTypology()) || FX_NDF_TYPOLOGY.equals(groupedRecord.getTypology())) {
+                            groupedRecord.setRows(groupedRecord.getRows().stream().map(retainedRows::copy).toList());
+                        }
+                        if (FX_SPOT_TYPOLOGY.equals(groupedRecord.getTypology())) {
+                            spotGroupedRecords.add(groupedRecord);
+                        }
+                        if (FX_NDF_TYPOLOGY.equals(groupedRecord.getTypology())) {
+                            deferredNdfRecords.add(groupedRecord);
+                        } else {
+                            sink.accept(groupedRecord);
+                        }
+                    });
+                    deferredNdfRecords.forEach(sink);
+                },
+                record -> {
+                    RecordProcessingResult result = processRecord(
+                            record,
+                            requestDto,
+                            ruleMap,
+                            spotGroupedRecords,
+                            currenciesInFamily,
+                            exchangeRateTable,
+                            ledgerRun
+                    );
+                    if (dmcStage != null && result != null) {
+                        dmcStage.submit(result.getAllStgMrxExtDmcs());
+                        // The stage owns the rows now; do not keep the run's DMC rows on the heap as well
+                        result.setAllStgMrxExtDmcs(List.of());
+                    }
+                    return result;
+                }
         );
 
-        List<MurexTrade> allMurexTrades = resultList.stream()
+        List<BookedTrade> allBookedTrades = resultList.stream()
                 .filter(Objects::nonNull)
-                .flatMap(r -> Objects.nonNull(r.getAllMurexTrades()) ? r.getAllMurexTrades().stream() : Stream.empty())
+                .flatMap(r -> Objects.nonNull(r.getAllBookedTrades()) ? r.getAllBookedTrades().stream() : Stream.empty())
                 .toList();
 
-        List<StgMrxExtDmcDto> allStgMrxExtDmcs = resultList.stream()
-                .filter(Objects::nonNull)
-                .flatMap(r -> Objects.nonNull(r.getAllStgMrxExtDmcs()) ? r.getAllStgMrxExtDmcs().stream() : Stream.empty())
-                .toList();
+        List<StgMrxExtDmcDto> allStgMrxExtDmcs = List.of();
+        if (dmcStage == null) {
+            allStgMrxExtDmcs = resultList.stream()
+                    .filter(Objects::nonNull)
+                    .flatMap(r -> Objects.nonNull(r.getAllStgMrxExtDmcs()) ? r.getAllStgMrxExtDmcs().stream() : Stream.empty())
+                    .toList();
+        }
 
+        log.info("Run symbol table: {} symbols, {} of {} repeated values deduplicated, ~{} KB of duplicate strings released",
+                symbolTable.getSymbolCount(), symbolTable.getDeduplicatedCount(), symbolTable.getLookupCount(),
+                symbolTable.getEstimatedBytesSaved() / 1024);
 
-        return new RecordProcessingResult(allStgMrxExtDmcs, allMurexTrades);
+        return new RecordProcessingResult(allStgMrxExtDmcs, allBookedTrades);
     }
 
     private List<String> extractCurrencies(List<Currency> currencies) {
@@ -125,13 +190,16 @@ public class InboundInstructionProcessingService {
     }
 
     /**
-     * Fetches raw aggregated data required for processing instructions.
+     * Streams the aggregated data required for processing instructions, grouped and validated on the fly.
      *
-     * @param dto The instruction request DTO containing filter criteria
-     * @return List of aggregated data responses
+     * @param dto           The instruction request DTO containing filter criteria
+     * @param symbolTable   Symbol table of the run
+     * @param groupConsumer Callback receiving each completed grouped record
      */
-    private List<AggregatedDataResponse> fetchAggregatedData(InstructionRequestDto dto) {
-        return tradeDataHandlerService.fetchData(dto.getBusinessDate(), dto.getExternalTradeIds(), dto.getHedgeInstrumentType(), dto.getCurrency());
+    private void streamGroupedRecords(InstructionRequestDto dto, RunSymbolTable symbolTable,
+                                      Consumer<GroupedRecord> groupConsumer) throws Exception {
+        tradeDataHandlerService.streamGroupedRecords(dto.getBusinessDate(), dto.getExternalTradeIds(),
+                dto.getHedgeInstrumentType(), dto.getCurrency(), symbolTable, groupConsumer);
     }
 
 
@@ -149,17 +217,6 @@ public class InboundInstructionProcessingService {
         return tradeDataHandlerService.fetchCurrencyConfigs(dto.getCurrency());
     }
 
-    /**
-     * Performs grouping and validation of the raw aggregated data.
-     * This ensures that records are prepared and validated before business rules are applied.
-     *
-     * @param results Raw aggregated results fetched from data service
-     * @return Grouped and validated records
-     */
-    private List<GroupedRecord> groupAndValidate(List<AggregatedDataResponse> results) {
-        return tradeDataHandlerService.performGroupingAndValidation(results);
-    }
-
     /**
      * Fetches business event rules and converts them into a lookup map by navType.
      * The map is used to quickly retrieve the appropriate configuration rule for each grouped record.
@@ -200,13 +257,16 @@ public class InboundInstructionProcessingService {
      * @param record              Grouped record being processed
      * @param dto                 Instruction request DTO providing context
      * @param ruleMap             Precomputed map of navType -> InstructionEventConfig
-     * @param groupedRecords      Complete list of grouped records (for context in booking generation)
+     * @param groupedRecords      FX Spot grouped records (for context in NDF booking generation)
+     * @param ledgerRun           Processed-contract ledger of the run; unchanged groups are skipped in incremental runs
      */
     private RecordProcessingResult processRecord(GroupedRecord record,
                                                  InstructionRequestDto dto,
                                                  Map<String, InstructionEventConfig> ruleMap,
                                                  List<GroupedRecord> groupedRecords,
-                                                 List<String> currenciesInFamily) {
+                                                 List<String> currenciesInFamily,
+                                                 ExchangeRateTable exchangeRateTable,
+                                                 ProcessedContractLedger.Run ledgerRun) {
         InstructionEventConfig ruleConfig = ruleMap.get(record.getNavType());
 
         if (ruleConfig == null) {
@@ -215,56 +275,84 @@ public class InboundInstructionProcessingService {
             return null;
         }
 
-        // Step 1: fetch murex booking configs linked to this rule
-        List<MurexBookingConfig> bookConfigs = tradeDataHandlerService.fetchMurexBookConfigs(ruleConfig.getRuleId());
+        ProcessedContractLedger.Entry ledgerEntry = ledgerRun.entryFor(record, ruleConfig.getRuleId(), groupedRecords);
+        if (dto.isIncremental() && ledgerRun.isUnchanged(ledgerEntry)) {
+            log.debug("Skipping unchanged group contract={} comment0={} navType={}",
+                    record.getContract(), record.getComment0(), record.getNavType());
+            return null;
+        }
 
-        // Step 2: generate bookings using record configs
+        // Step 1: fetch the typology index of booking plans linked to this rule
+        BookingPlanIndex bookingPlanIndex = tradeDataHandlerService.fetchBookingPlanIndex(ruleConfig.getRuleId());
 
-        return generateMurexBookings(record, bookConfigs, dto.getCurrency(), ruleConfig.getRuleId(), groupedRecords, currenciesInFamily);
+        // Step 2: generate bookings using record plans
+        RecordProcessingResult result = generateMurexBookings(record, bookingPlanIndex, dto.getCurrency(), ruleConfig.getRuleId(), groupedRecords, currenciesInFamily, exchangeRateTable);
+        ledgerRun.markProcessed(ledgerEntry, result == null || CollectionUtils.isEmpty(result.getAllBookedTrades())
+                ? List.of()
+                : result.getAllBookedTrades().stream().map(BookedTrade::getTradeReference).toList());
+        return result;
 
     }
 
 
     /**
      * Publishes Murex trades to the outbound messaging system.
+     * The HAWK booking record was built alongside the persisted trade, so it is only serialized here.
+     * All trades of the run are persisted through the bulk writer before they are published downstream.
+     * Failures are logged per trade and do not stop the others; the method waits for every send to be acknowledged.
      *
      * @param trades List of trades to publish
+     * @return References of the trades that failed to serialize, persist or publish
      */
-
-    @Async
-    private void publishGeneratedMurexTrades(List<MurexTrade> trades) {
+    private Set<String> publishGeneratedMurexTrades(List<BookedTrade> trades) {
+        Set<String> failedTradeReferences = new HashSet<>();
         if (CollectionUtils.isEmpty(trades)) {
             log.warn("No trades to publish to Database or Downstream");
-            return;
+            return failedTradeReferences;
         }
-        for (MurexTrade trade : trades) {
+
+        List<PendingBooking> pendingBookings = new ArrayList<>(trades.size());
+        for (BookedTrade trade : trades) {
             final String tradeRef = trade.getTradeReference();
             try {
-                log.debug("Starting processing for trade ID: {}", trade.getTradeReference());
+                log.debug("Starting processing for trade ID: {}", tradeRef);
 
-                final HAWKMurexBookingRecord murexBookingRecord = mapToHawkBookingRecord(trade);
-                publishMurexBookingToDatabase(trade, murexBookingRecord);
-                publishHawkBookingRecordToDownStream(murexBookingRecord, trade.getTradeReference());
+                final HAWKMurexBookingRecord murexBookingRecord = trade.getHawkBookingRecord();
+                final SerializedBookingRecord serializedBookingRecord =
+                        murexDownStreamProcessAdapter.serializeBookingRecord(murexBookingRecord, tradeRef);
+                pendingBookings.add(new PendingBooking(trade.getMurexTrade(), serializedBookingRecord));
             } catch (Exception e) {
                 log.error("Failed to publish the GeneratedMurexTrade trade {}: {}", tradeRef, e.getMessage(), e);
+                failedTradeReferences.add(tradeRef);
             }
         }
 
-    }
+        failedTradeReferences.addAll(murexBookingBulkWriter.write(pendingBookings));
 
-    public HAWKMurexBookingRecord mapToHawkBookingRecord(MurexTrade murexTrade) {
-        return murexDownStreamProcessAdapter.mapToHawkBookingRecordForDownStreamPublishing(murexTrade);
-    }
+        Map<String, CompletableFuture<?>> sends = new LinkedHashMap<>();
+        for (PendingBooking booking : pendingBookings) {
+            final String tradeRef = booking.getTradeReference();
+            try {
+                sends.put(tradeRef, publishHawkBookingRecordToDownStream(booking.getSerializedBookingRecord(), tradeRef));
+            } catch (Exception e) {
+                log.error("Failed to publish the GeneratedMurexTrade trade {}: {}", tradeRef, e.getMessage(), e);
+                failedTradeReferences.add(tradeRef);
+            }
+        }
 
-    public void publishHawkBookingRecordToDownStream(HAWKMurexBookingRecord murexBookingRecord, final String tradeReference) {
-        murexDownStreamProcessAdapter.publishHawkMurexTradeToDownStream(murexBookingRecord, tradeReference);
+        sends.forEach((tradeRef, send) -> {
+            try {
+                send.join();
+            } catch (Exception e) {
+                log.error("Downstream publish of GeneratedMurexTrade trade {} was not acknowledged: {}", tradeRef, e.getMessage());
+                failedTradeReferences.add(tradeRef);
+            }
+        });
+        return failedTradeReferences;
     }
 
-    private void publishMurexBookingToDatabase(
-            final MurexTrade murexTrade,
-            final HAWKMurexBookingRecord murexBookingRecord
-    ) {
-        tradeDataHandlerService.publishMurexBookingToDatabase(murexTrade, murexBookingRecord);
+    public CompletableFuture<?> publishHawkBookingRecordToDownStream(SerializedBookingRecord murexBookingRecord, final String tradeReference) {
+        return murexDownStreamProcessAdapter.publishHawkMurexTradeToDownStream(murexBookingRecord, tradeReference);
     }
 
     /**
@@ -272,36 +360,39 @@ public class InboundInstructionProcessingService {
      * using transformation logic.
      *
      * <p>This method applies booking transformations on the provided grouped record,
-     * leveraging Murex book configurations and input currency to compute
+     * leveraging compiled Murex booking plans and input currency to compute
      * the final booking results. It also associates the results with an
      * instruction event rule identifier and may consider multiple grouped records
      * for cross-record processing.</p>
      *
      * @param groupedRecord          The primary validated grouped record to transform
-     * @param murexConfigs           List of Murex book configurations used for filtering and processing
+     * @param bookingPlanIndex       Rule's compiled booking plans indexed by typology
      * @param inputCurrency          Input currency for transformation and calculation logic
      * @param instructionEventRuleId Identifier for the instruction event rule driving transformation logic
-     * @param groupedRecords         Additional grouped records that may influence transformation logic
+     * @param groupedRecords         FX Spot grouped records used to resolve NDF embedded spot legs
+     * @param currenciesInFamily     Currencies of the input currency family
+     * @param exchangeRateTable      Run-wide exchange rates with precomputed reciprocals
      * @return A pair containing:
      * <ul>
      *   <li>List of transformed {@link StgMrxExtDmcDto} booking DTOs</li>
-     *   <li>List of corresponding {@link MurexTrade} trade details</li>
+     *   <li>List of corresponding {@link BookedTrade} trade details</li>
      * </ul>
      */
     public RecordProcessingResult generateMurexBookings(GroupedRecord groupedRecord,
-                                                        List<MurexBookingConfig> murexConfigs,
+                                                        BookingPlanIndex bookingPlanIndex,
                                                         String inputCurrency,
                                                         String instructionEventRuleId,
                                                         List<GroupedRecord> groupedRecords,
-                                                        List<String> currenciesInFamily) {
+                                                        List<String> currenciesInFamily,
+                                                        ExchangeRateTable exchangeRateTable) {
 
-        // Step 1: Filter MurexBookConfig records based on typology matching (reuse existing logic)
-        List<MurexBookingConfig> filteredMurexConfigs = filterMurexConfigsByTypology(murexConfigs, groupedRecord.getTypology());
+        // Step 1: Look up the booking plans indexed under the record typology
         TransformationContext transformationContext = TransformationContext.builder()
-                .filteredMurexConfigs(filteredMurexConfigs)
+                .bookingPlans(bookingPlanIndex.plansFor(groupedRecord.getTypology()))
                 .groupedRecord(groupedRecord)
                 .inputCurrency(inputCurrency)
                 .currenciesInFamily(currenciesInFamily)
+                .exchangeRateTable(exchangeRateTable)
                 .instructionEventRuleId(instructionEventRuleId)
                 .build();
         if (groupedRecord.getTypology().equals(FX_NDF_TYPOLOGY)) {
@@ -311,122 +402,4 @@ public class InboundInstructionProcessingService {
         // Step 2: Pass to advanced transformation service for booking generation
         return murexDataTransformationService.generateMurexBookings(transformationContext);
     }
-
-
-    /**
-     * Enhanced filter for MurexBookConfig records with strict typology separation
-     * <p>
-     * Filtering Strategy:
-     * - FX Spot/Swap: ONLY matches single-element arrays where the sole referenceTrade equals typology
-     * - NDF: Matches both single-element NDF arrays AND multi-element arrays containing NDF
-     * <p>
-     * This prevents NDF multi-element configs from being incorrectly matched for FX Spot/Swap processing
-     * <p>
-     * Transformation Array Examples:
-     * FX Spot Config:     [{"referenceTrade": "FX Spot", ...}] → Matches ONLY FX Spot typology
-     * FX Swap Config:     [{"referenceTrade": "FX Swap", ...}] → Matches ONLY FX Swap typology
-     * NDF Single Config:  [{"referenceTrade": "NDF", ...}] → Matches ONLY NDF typology
-     * NDF Multi Config:   [{"referenceTrade": "FX Spot", ...}, {"referenceTrade": "NDF", ...}] → Matches ONLY NDF typology
-     *
-     * @param murexConfigs List of Murex configurations to filter
-     * @param typology     The typology to match against (e.g., "FX Spot", "FX Swap", "NDF")
-     * @return Filtered list of MurexBookConfig records that match the typology
-     */
-    private List<MurexBookingConfig> filterMurexConfigsByTypology(List<MurexBookingConfig> murexConfigs, String typology) {
-
-        if (murexConfigs == null || murexConfigs.isEmpty() || typology == null) {
-            return Collections.emptyList();
-        }
-
-        List<MurexBookingConfig> filteredConfigs = new ArrayList<>();
-
-        for (MurexBookingConfig config : murexConfigs) {
-            try {
-                String transformationsJson = config.getTransformations();
-
-                // Apply conditional filtering logic based on typology
-                if (shouldIncludeConfig(transformationsJson, typology)) {
-                    filteredConfigs.add(config);
-                }
-
-            } catch (Exception e) {
-                log.error("Error parsing transformations for MurexBookConfig ID {} : ", config.getId(), e);
-                throw new BusinessException(e.getMessage());
-            }
-        }
-
-        return filteredConfigs;
-    }
-
-    /**
-     * Determine if a MurexBookConfig should be included for the given typology using strict filtering rules.
-     *
-     * @param transformationsJson JSON string containing transformations
-     * @param typology            The typology to match against
-     * @return true if config should be included, false otherwise
-     */
-    private boolean shouldIncludeConfig(String transformationsJson, String typology) {
-        try {
-            List<JsonNode> transformations = jsonParser.parseTransformations(transformationsJson);
-
-            if (transformations.isEmpty()) {
-                return false;
-            }
-
-            // Apply different filtering logic based on typology
-            if (FX_SPOT_TYPOLOGY.equals(typology) || FX_SWAP_TYPOLOGY.equals(typology)) {
-                // FX Spot/Swap: STRICT matching - only single-element arrays with exact match
-                return isSingleElementExactMatch(transformations, typology);
-
-            } else if (FX_NDF_TYPOLOGY.equals(typology)) {
-                // NDF: Flexible matching - single NDF OR multi-element containing NDF
-                return isNdfCompatibleConfig(transformations);
-
-            } else {
-                // Future typologies: default to single-element exact match
-                return isSingleElementExactMatch(transformations, typology);
-            }
-
-        } catch (Exception e) {
-            log.error("Error evaluating config inclusion for typology: {} : ", typology, e);
-            return false;
-        }
-    }
-
-    /**
-     * Check if transformations array is single-element with exact referenceTrade match.
-     * Used for FX Spot, FX Swap, and other single-element typologies.
-     */
-    private boolean isSingleElementExactMatch(List<JsonNode> transformations, String typology) {
-        // Must be exactly 1 transformation
-        if (transformations.size() != 1) {
-            return false;
-        }
-
-        JsonNode transformation = transformations.getFirst();
-        if (transformation.has(REFERENCE_TRADE_FIELD)) {
-            String referenceTrade = transformation.get(REFERENCE_TRADE_FIELD).asText();
-            return typology.equals(referenceTrade);
-        }
-
-        return false;
-    }
-
-    /**
-     * Check if transformations array is compatible with NDF processing.
-     * Accepts both single NDF elements and multi-element arrays containing NDF.
-     */
-    private boolean isNdfCompatibleConfig(List<JsonNode> transformations) {
-        // Check if any transformation contains "NDF" referenceTrade
-        for (JsonNode transformation : transformations) {
-            if (transformation.has(REFERENCE_TRADE_FIELD)) {
-                String referenceTrade = transformation.get(REFERENCE_TRADE_FIELD).asText();
-                if (FX_NDF_TYPOLOGY.contains(referenceTrade)) {
-                    return true;
-                }
-            }
-        }
-
-        return false;
-    }
 }
@@ -0,0 +1,126 @@
+package com.ruchira.murex.service;
+
+import com.ruchira.murex.config.PersistenceConfig;
+import com.ruchira.murex.freemaker.FtlQueryBuilder;
+import com.ruchira.murex.model.trade.MurexTradeLeg;
+import com.ruchira.murex.model.trade.MurexTradeLegComponent;
+import com.ruchira.murex.model.trade.PendingBooking;
+import com.ruchira.murex.repository.GenericJdbcDataRepository;
+import com.ruchira.murex.repository.parameter.MurexTradeLegComponentParameterSource;
+import com.ruchira.murex.repository.parameter.MurexTradeLegParameterSource;
+import com.ruchira.murex.repository.parameter.MurexTradeParameterSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections.CollectionUtils;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.ruchira.murex.constant.Constants.*;
+
+/**
+ * Persists the trades of a run into h_murex_booking, h_murex_trade_leg and h_murex_trade_leg_component in chunks.
+ *
+ * <p>Each chunk of {@code app.persistence.booking-chunk-size} trades is written in its own transaction with one
+ * statement batch per table. Booking, leg and component ids come from {@link IdBlockAllocator}, so every foreign
+ * key is known before the first insert and nothing is read back between the batches.</p>
+ *
+ * <p>A chunk that fails is rolled back and its trades are written one by one through
+ * {@link TradeDataHandlerService#publishMurexBookingToDatabase}, so a single bad trade only costs its own row,
+ * as before. The references of trades that could not be inserted that way are returned to the caller.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MurexBookingBulkWriter {
+
+    private final GenericJdbcDataRepository repository;
+    private final FtlQueryBuilder ftlQueryBuilder;
+    private final PersistenceConfig persistenceConfig;
+    private final TradeDataHandlerService tradeDataHandlerService;
+    private final PlatformTransactionManager transactionManager;
+    private final IdBlockAllocator idBlockAllocator;
+
+    /**
+     * @param bookings Trades of the run with their serialized booking records
+     * @return Trade references of the bookings that were not persisted
+     */
+    public Set<String> write(List<PendingBooking> bookings) {
+        Set<String> failedTradeReferences = new HashSet<>();
+        if (CollectionUtils.isEmpty(bookings)) {
+            return failedTradeReferences;
+        }
+
+        TransactionTemplate chunkTransaction = new TransactionTemplate(transactionManager);
+        chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        int chunkSize = Math.max(1, persistenceConfig.getBookingChunkSize());
+
+        for (int from = 0; from < bookings.size(); from += chunkSize) {
+            List<PendingBooking> chunk = bookings.subList(from, Math.min(from + chunkSize, bookings.size()));
+            try {
+                chunkTransaction.executeWithoutResult(status -> writeChunk(chunk));
+                log.info("Inserted chunk of {} trades with their legs and components", chunk.size());
+            } catch (Exception e) {
+                log.error("Bulk insert of {} trades failed, inserting them one by one: {}", chunk.size(), e.getMessage(), e);
+                chunk.forEach(booking -> {
+                    if (!tradeDataHandlerService.publishMurexBookingToDatabase(booking.getMurexTrade(), booking.getSerializedBookingRecord())) {
+                        failedTradeReferences.add(booking.getTradeReference());
+                    }
+                });
+            }
+        }
+        return failedTradeReferences;
+    }
+
+    private void writeChunk(List<PendingBooking> chunk) {
+        // Key the whole chunk in memory, then write each table as one batch in parent-to-child order
+        List<SqlParameterSource> bookingParams = new ArrayList<>(chunk.size());
+        List<SqlParameterSource> legParams = new ArrayList<>();
+        List<SqlParameterSource> componentParams = new ArrayList<>();
+
+        for (PendingBooking booking : chunk) {
+            long tradeId = idBlockAllocator.nextId(MUREX_BOOKING_ID_SEQUENCE);
+            bookingParams.add(new MurexTradeParameterSource(tradeId, booking.getMurexTrade(), booking.getSerializedBookingRecord().getJson()));
+            addLeg(legParams, componentParams, booking.getMurexTrade().getNearLeg(), tradeId, NEAR_LEG_TYPE);
+            addLeg(legParams, componentParams, booking.getMurexTrade().getFarLeg(), tradeId, FAR_LEG_TYPE);
+        }
+
+        final String bookingSql = ftlQueryBuilder.buildQuery(Map.of(), INSERT_DATA_TO_MUREX_BOOKING_FTL_FILE);
+        repository.executeBatch(bookingSql, bookingParams.toArray(SqlParameterSource[]::new));
+
+        if (!legParams.isEmpty()) {
+            final String legSql = ftlQueryBuilder.buildQuery(Map.of(), INSERT_DATA_TO_MUREX_BOOK_TRADE_LEG_FTL_FILE);
+            repository.executeBatch(legSql, legParams.toArray(SqlParameterSource[]::new));
+        }
+
+        if (!componentParams.isEmpty()) {
+            final String componentSql = ftlQueryBuilder.buildQuery(Map.of(), INSERT_DATA_TO_MUREX_BOOK_TRADE_LEG_COMPONENTS_FTL_FILE);
+            repository.executeBatch(componentSql, componentParams.toArray(SqlParameterSource[]::new));
+        }
+    }
+
+    private void addLeg(List<SqlParameterSource> legParams, List<SqlParameterSource> componentParams,
+                        MurexTradeLeg leg, long tradeId, String legType) {
+        if (leg == null) {
+            return;
+        }
+
+        long tradeLegId = idBlockAllocator.nextId(MUREX_TRADE_LEG_ID_SEQUENCE);
+        legParams.add(new MurexTradeLegParameterSource(tradeLegId, leg, tradeId, legType));
+
+        List<MurexTradeLegComponent> components = leg.getComponents();
+        if (CollectionUtils.isNotEmpty(components)) {
+            componentParams.addAll(Arrays.asList(MurexTradeLegComponentParameterSource.createBatch(
+                    components, tradeLegId, () -> idBlockAllocator.nextId(MUREX_TRADE_LEG_COMPONENT_ID_SEQUENCE))));
+        }
+    }
+}
@@ -1,14 +1,17 @@
 package com.ruchira.murex.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.ruchira.murex.exception.BusinessException;
 import com.ruchira.murex.kafka.model.HAWKMurexBookingRecord;
 import com.ruchira.murex.kafka.model.HAWKMurexBookingTradeLeg;
 import com.ruchira.murex.kafka.model.HawkMurexBookingTradeLegAdditionalFields;
 import com.ruchira.murex.kafka.model.HawkMurexBookingTradeLegComponent;
+import com.ruchira.murex.kafka.model.SerializedBookingRecord;
 import com.ruchira.murex.kafka.producer.KafkaPublisherHandler;
 import com.ruchira.murex.mapper.HawkMurexBookingMapper;
 import com.ruchira.murex.model.trade.MurexTrade;
 import com.ruchira.murex.model.trade.MurexTradeLeg;
+import com.ruchira.murex.parser.JsonParser;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections.CollectionUtils;
@@ -18,6 +21,7 @@ import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
@@ -26,6 +30,7 @@ public class MurexDownStreamProcessAdapter {
 
     private final KafkaPublisherHandler publisherHandler;
     private final HawkMurexBookingMapper murexBookingMapper;
+    private final JsonParser jsonParser;
 
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public HAWKMurexBookingRecord mapToHawkBookingRecordForDownStreamPublishing(MurexTrade murexTrade) {
@@ -82,9 +87,20 @@ public class MurexDownStreamProcessAdapter {
         return leg;
     }
 
-    public void publishHawkMurexTradeToDownStream(HAWKMurexBookingRecord murexBookingRecord, final String tradeReference) {
+    /**
+     * Serializes the booking record once; the bytes are reused for the database column and the Kafka value
+     */
+    public SerializedBookingRecord serializeBookingRecord(HAWKMurexBookingRecord murexBookingRecord, final String tradeReference) {
+        try {
+            return new SerializedBookingRecord(tradeReference, jsonParser.serializeToJsonBytes(murexBookingRecord));
+        } catch (JsonProcessingException ex) {
+            throw new BusinessException(String.format("Failed to serialize HAWK booking record %s", tradeReference), ex);
+        }
+    }
+
+    public CompletableFuture<?> publishHawkMurexTradeToDownStream(SerializedBookingRecord murexBookingRecord, final String tradeReference) {
         // Publish the trade
         log.info("Publishing HAWK Murex trade to topic 'murex-topic', trade reference: {}", tradeReference);
-        publisherHandler.publish("murex-topic", murexBookingRecord);
+        return publisherHandler.publish("murex-topic", murexBookingRecord);
     }
 }
@@ -0,0 +1,219 @@
+package com.ruchira.murex.service;
+
+import com.ruchira.murex.dto.InstructionRequestDto;
+import com.ruchira.murex.exception.BusinessException;
+import com.ruchira.murex.freemaker.FtlQueryBuilder;
+import com.ruchira.murex.freemaker.ParameterizedQuery;
+import com.ruchira.murex.model.GroupedRecord;
+import com.ruchira.murex.model.batch.TradeRow;
+import com.ruchira.murex.repository.GenericJdbcDataRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.ruchira.murex.constant.Constants.*;
+
+/**
+ * Ledger of the grouped records already transformed per business date, instruction event and currency.
+ *
+ * <p>Each processed group is recorded under its contract, comment0 and rule id together with a SHA-256
+ * fingerprint of its input rows. An incremental run ({@link InstructionRequestDto#isIncremental()}) loads the
+ * ledger first and skips every group whose fingerprint is unchanged, so only new or changed groups are
+ * transformed and persisted. NDF groups also fingerprint the FX Spot groups their embedded spot leg is matched
+ * against, so a changed spot group re-runs the NDF groups that depend on it.</p>
+ *
+ * <p>Every run records the groups it processed, so a full run is the baseline for the next incremental one.
+ * A group is only recorded once all of its trades were persisted and published; a group with a failed trade is
+ * left out and processed again by the next incremental run. The fingerprint only covers input rows: after booking
+ * plan or rule configuration changes, run in full.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProcessedContractLedger {
+
+    private final GenericJdbcDataRepository repository;
+    private final FtlQueryBuilder ftlQueryBuilder;
+
+    /**
+     * @param dto Instruction request of the run; previously processed groups are only loaded when it is incremental
+     * @return Ledger view of the run
+     */
+    public Run open(InstructionRequestDto dto) {
+        Map<GroupKey, String> previous = dto.isIncremental() ? loadFingerprints(dto) : Map.of();
+        if (dto.isIncremental()) {
+            log.info("Incremental run for businessDate={} instructionEvent={} currency={}: {} groups previously processed",
+                    dto.getBusinessDate(), dto.getInstructionEvent(), dto.getCurrency(), previous.size());
+        }
+        return new Run(dto, previous);
+    }
+
+    private Map<GroupKey, String> loadFingerprints(InstructionRequestDto dto) {
+        final ParameterizedQuery query = ftlQueryBuilder.buildParameterizedQuery(runParameters(dto), FETCH_PROCESSED_CONTRACT_LEDGER_FTL_FILE);
+        Map<GroupKey, String> fingerprints = new HashMap<>();
+        repository.fetchData(query.getSql(), query.getParameters(),
+                        (rs, rowNum) -> Map.entry(
+                                new GroupKey(rs.getString("contract"), rs.getString("comment0"), rs.getString("ruleId")),
+                                rs.getString("inputFingerprint")))
+                .forEach(entry -> fingerprints.put(entry.getKey(), entry.getValue()));
+        return fingerprints;
+    }
+
+    private static Map<String, Object> runParameters(InstructionRequestDto dto) {
+        return Map.of(
+                "businessDate", Objects.toString(dto.getBusinessDate(), ""),
+                "instructionEvent", Objects.toString(dto.getInstructionEvent(), ""),
+                "currency", Objects.toString(dto.getCurrency(), ""));
+    }
+
+    /**
+     * Ledger key of a grouped record within one business date, instruction event and currency
+     */
+    public record GroupKey(String contract, String comment0, String ruleId) {
+    }
+
+    /**
+     * A grouped record as it would be recorded in the ledger
+     */
+    public record Entry(GroupKey key, String fingerprint) {
+    }
+
+    /**
+     * A processed group with the references of the trades generated for it
+     */
+    private record ProcessedGroup(Entry entry, List<String> tradeReferences) {
+    }
+
+    /**
+     * Ledger view of one run: decides which groups to skip and collects the groups that were processed
+     */
+    public final class Run {
+
+        private final InstructionRequestDto dto;
+        private final Map<GroupKey, String> previous;
+        private final Queue<ProcessedGroup> processed = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger skipped = new AtomicInteger();
+
+        private Run(InstructionRequestDto dto, Map<GroupKey, String> previous) {
+            this.dto = dto;
+            this.previous = previous;
+        }
+
+        /**
+         * @param record     Grouped record about to be processed
+         * @param ruleId     Rule the record is processed under
+         * @param spotGroups FX Spot groups of the run, matched by NDF groups
+         */
+        public Entry entryFor(GroupedRecord record, String ruleId, List<GroupedRecord> spotGroups) {
+            List<GroupedRecord> inputs = new ArrayList<>();
+            inputs.add(record);
+            if (FX_NDF_TYPOLOGY.equals(record.getTypology())) {
+                spotGroups.stream()
+                        .filter(spot -> Objects.equals(spot.getNavType(), record.getNavType())
+                                && Objects.equals(spot.getComment0(), record.getComment0())
+                                && !Objects.equals(spot.getContract(), record.getContract()))
+                        .forEach(inputs::add);
+            }
+            GroupKey key = new GroupKey(record.getContract(), Objects.toString(record.getComment0(), ""), ruleId);
+            return new Entry(key, fingerprint(inputs));
+        }
+
+        /**
+         * @return {@code true} if the run is incremental and the group was processed before with the same input
+         */
+        public boolean isUnchanged(Entry entry) {
+            boolean unchanged = entry.fingerprint().equals(previous.get(entry.key()));
+            if (unchanged) {
+                skipped.incrementAndGet();
+            }
+            return unchanged;
+        }
+
+        /**
+         * @param tradeReferences References of the trades generated for the group
+         */
+        public void markProcessed(Entry entry, List<String> tradeReferences) {
+            processed.add(new ProcessedGroup(entry, tradeReferences));
+        }
+
+        /**
+         * Records the fingerprints of every group processed by the run whose trades were all persisted and published
+         *
+         * @param failedTradeReferences Trades of the run that were not persisted or published
+         */
+        public void commit(Set<String> failedTradeReferences) {
+            List<Entry> completed = processed.stream()
+                    .filter(group -> group.tradeReferences().stream().noneMatch(failedTradeReferences::contains))
+                    .map(ProcessedGroup::entry)
+                    .toList();
+            if (dto.isIncremental()) {
+                log.info("Incremental run processed {} new or changed groups and skipped {} unchanged groups",
+                        processed.size(), skipped.get());
+            }
+            if (completed.size() < processed.size()) {
+                log.warn("{} processed groups have trades that were not persisted or published; they are not recorded in the ledger",
+                        processed.size() - completed.size());
+            }
+            if (completed.isEmpty()) {
+                return;
+            }
+
+            final Map<String, Object> runParameters = runParameters(dto);
+            final String sql = ftlQueryBuilder.buildQuery(Map.of(), UPSERT_PROCESSED_CONTRACT_LEDGER_FTL_FILE);
+            repository.executeBatch(sql, completed.stream()
+                    .map(entry -> new MapSqlParameterSource(runParameters)
+                            .addValue("contract", entry.key().contract())
+                            .addValue("comment0", entry.key().comment0())
+                            .addValue("ruleId", entry.key().ruleId())
+                            .addValue("inputFingerprint", entry.fingerprint()))
+                    .toArray(SqlParameterSource[]::new));
+        }
+    }
+
+    /**
+     * SHA-256 over the canonical text of all rows, sorted so the fetch order of rows does not matter
+     */
+    private static String fingerprint(List<GroupedRecord> groups) {
+        List<String> rows = new ArrayList<>();
+        StringBuilder row = new StringBuilder(512);
+        for (GroupedRecord group : groups) {
+            for (TradeRow tradeRow : group.getRows()) {
+                row.setLength(0);
+                tradeRow.appendCanonical(row);
+                rows.add(row.toString());
+            }
+        }
+        rows.sort(null);
+
+        MessageDigest digest = sha256();
+        for (String canonicalRow : rows) {
+            digest.update(canonicalRow.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new BusinessException("SHA-256 is not available for contract fingerprints", e);
+        }
+    }
+}
@@ -0,0 +1,273 @@
+package com.ruchira.murex.service;
+
+import com.ruchira.murex.config.PersistenceConfig;
+import com.ruchira.murex.dto.StgMrxExtDmcDto;
+import com.ruchira.murex.exception.BusinessException;
+import com.ruchira.murex.freemaker.FtlQueryBuilder;
+import com.ruchira.murex.repository.GenericJdbcDataRepository;
+import com.ruchira.murex.repository.parameter.StgMrxExtDmcRowBinder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections.CollectionUtils;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static com.ruchira.murex.constant.Constants.INSERT_DATA_TO_STG_MTX_EXT_DMC_FTL_FILE;
+
+/**
+ * Writes DMC rows into h_stg_mrx_ext_dmc with multi-row INSERT statements.
+ *
+ * <p>The column list and placeholders come from {@code stgMrxExtDmcInsertData.ftl}, which stays the single
+ * definition of the insert. The template is rendered once and its {@code VALUES} tuple repeated for
+ * {@code app.persistence.dmc-chunk-size} rows per statement, capped at the 65535 placeholders a prepared
+ * statement can carry. Rows are bound by position through {@link StgMrxExtDmcRowBinder}.</p>
+ *
+ * <p>When {@code app.persistence.dmc-bulk-load-enabled} is set and a single {@link #write} call has at least
+ * {@code app.persistence.dmc-bulk-load-threshold} rows, the rows are instead written to a temporary CSV file and
+ * loaded with a single {@code LOAD DATA LOCAL INFILE} into the same columns. If the load statement fails (for
+ * example because the server has {@code local_infile} disabled) nothing was loaded, and the rows are inserted in
+ * chunks as usual.</p>
+ *
+ * <p>{@link #write(String, List)} writes the same columns into another table of the same shape, such as the
+ * write-behind work table, and {@link #moveRun} copies one run's rows from there into h_stg_mrx_ext_dmc.</p>
+ *
+ * <p>Each statement is timed under {@value #CHUNK_TIMER}, each load under {@value #LOAD_TIMER}, and rows are counted
+ * under {@value #ROW_COUNTER}. The writer joins the caller's transaction, so a failed chunk rolls back every row of
+ * that transaction: the whole run when called from the run's transaction, one batch when called from
+ * {@link StgMrxExtDmcWriteBehindWriter}, which removes the batches it already committed by compensation.</p>
+ */
+@Component
+@Slf4j
+public class StgMrxExtDmcBulkWriter {
+
+    static final String CHUNK_TIMER = "hawk.dmc.insert.chunk";
+    static final String LOAD_TIMER = "hawk.dmc.load";
+    static final String ROW_COUNTER = "hawk.dmc.insert.rows";
+
+    private static final int MAX_PLACEHOLDERS = 65535;
+    private static final Pattern INSERT_PATTERN = Pattern.compile(
+            "^\\s*(INSERT\\s+INTO\\s+(\\S+)\\s*\\((.*?)\\))\\s*VALUES\\s*\\((.*?)\\)\\s*;?\\s*$",
+            Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+
+    private final GenericJdbcDataRepository repository;
+    private final FtlQueryBuilder ftlQueryBuilder;
+    private final PersistenceConfig persistenceConfig;
+    private final Timer chunkTimer;
+    private final Timer loadTimer;
+    private final Counter rowCounter;
+
+    private volatile InsertShape insertShape;
+
+    public StgMrxExtDmcBulkWriter(GenericJdbcDataRepository repository,
+                                  FtlQueryBuilder ftlQueryBuilder,
+                                  PersistenceConfig persistenceConfig,
+                                  MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.ftlQueryBuilder = ftlQueryBuilder;
+        this.persistenceConfig = persistenceConfig;
+        this.chunkTimer = Timer.builder(CHUNK_TIMER)
+                .description("Time to insert one multi-row chunk into h_stg_mrx_ext_dmc")
+                .register(meterRegistry);
+        this.loadTimer = Timer.builder(LOAD_TIMER)
+                .description("Time to write and load one DMC CSV file into h_stg_mrx_ext_dmc")
+                .register(meterRegistry);
+        this.rowCounter = Counter.builder(ROW_COUNTER)
+                .description("DMC rows inserted into h_stg_mrx_ext_dmc")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param dmcDtoList DMC rows to insert into h_stg_mrx_ext_dmc, in list order
+     */
+    public void write(List<StgMrxExtDmcDto> dmcDtoList) {
+        write(insertShape().table(), dmcDtoList);
+    }
+
+    /**
+     * @param table      Table with the columns of h_stg_mrx_ext_dmc
+     * @param dmcDtoList DMC rows to insert, in list order
+     */
+    public void write(String table, List<StgMrxExtDmcDto> dmcDtoList) {
+        if (CollectionUtils.isEmpty(dmcDtoList)) {
+            return;
+        }
+
+        final InsertShape shape = insertShape();
+        if (persistenceConfig.isDmcBulkLoadEnabled() && dmcDtoList.size() >= persistenceConfig.getDmcBulkLoadThreshold()) {
+            int loaded;
+            try {
+                loaded = bulkLoad(shape, table, dmcDtoList);
+            } catch (BusinessException | IOException e) {
+                log.warn("Bulk load of {} DMC rows failed, inserting them in chunks: {}", dmcDtoList.size(), e.getMessage());
+                insertInChunks(shape, table, dmcDtoList);
+                return;
+            }
+            if (loaded != dmcDtoList.size()) {
+                // Rows may already be loaded, so falling back would duplicate them; fail the caller's transaction instead
+                throw new BusinessException(String.format("Bulk load wrote %d of %d DMC rows", loaded, dmcDtoList.size()));
+            }
+            return;
+        }
+        insertInChunks(shape, table, dmcDtoList);
+    }
+
+    /**
+     * Copies the rows of one run from {@code fromTable} into h_stg_mrx_ext_dmc in their insertion order, in the
+     * caller's transaction
+     *
+     * @return Rows copied
+     */
+    public int moveRun(String fromTable, String runId) {
+        return repository.update(insertShape().copySql(fromTable), new MapSqlParameterSource("runId", runId));
+    }
+
+    private void insertInChunks(InsertShape shape, String table, List<StgMrxExtDmcDto> dmcDtoList) {
+        final int rowsPerChunk = Math.max(1, Math.min(persistenceConfig.getDmcChunkSize(),
+                MAX_PLACEHOLDERS / shape.binder().getColumnCount()));
+
+        // Full chunks share one statement text; only the last chunk of a run may need its own
+        final int fullChunkRows = Math.min(rowsPerChunk, dmcDtoList.size());
+        final String fullChunkSql = shape.sql(table, fullChunkRows);
+        long totalNanos = 0;
+
+        for (int from = 0; from < dmcDtoList.size(); from += rowsPerChunk) {
+            final List<StgMrxExtDmcDto> chunk = dmcDtoList.subList(from, Math.min(from + rowsPerChunk, dmcDtoList.size()));
+            final String sql = chunk.size() == fullChunkRows ? fullChunkSql : shape.sql(table, chunk.size());
+
+            long start = System.nanoTime();
+            int inserted = repository.executeUpdate(sql, ps -> {
+                int index = 1;
+                for (StgMrxExtDmcDto dto : chunk) {
+                    index = shape.binder().bind(ps, index, dto);
+                }
+            });
+            long elapsed = System.nanoTime() - start;
+
+            chunkTimer.record(elapsed, TimeUnit.NANOSECONDS);
+            rowCounter.increment(chunk.size());
+            totalNanos += elapsed;
+            log.debug("Inserted DMC chunk of {} rows ({} reported) in {} ms",
+                    chunk.size(), inserted, TimeUnit.NANOSECONDS.toMillis(elapsed));
+        }
+
+        log.info("Inserted {} DMC rows in {} statements of up to {} rows in {} ms",
+                dmcDtoList.size(), (dmcDtoList.size() + rowsPerChunk - 1) / rowsPerChunk, rowsPerChunk,
+                TimeUnit.NANOSECONDS.toMillis(totalNanos));
+    }
+
+    /**
+     * @return Rows reported by the server as loaded
+     */
+    private int bulkLoad(InsertShape shape, String table, List<StgMrxExtDmcDto> dmcDtoList) throws IOException {
+        final long start = System.nanoTime();
+        final Path csvFile = Files.createTempFile("h_stg_mrx_ext_dmc-", ".csv");
+        try {
+            try (Writer out = Files.newBufferedWriter(csvFile, StandardCharsets.UTF_8)) {
+                for (StgMrxExtDmcDto dto : dmcDtoList) {
+                    shape.binder().writeCsv(out, dto);
+                }
+            }
+
+            final int loaded = repository.executeUpdate(shape.loadDataSql(table, csvFile));
+            final long elapsed = System.nanoTime() - start;
+            loadTimer.record(elapsed, TimeUnit.NANOSECONDS);
+            rowCounter.increment(loaded);
+            log.info("Loaded {} DMC rows from {} bytes of CSV in {} ms",
+                    loaded, Files.size(csvFile), TimeUnit.NANOSECONDS.toMillis(elapsed));
+            return loaded;
+        } finally {
+            Files.deleteIfExists(csvFile);
+        }
+    }
+
+    private InsertShape insertShape() {
+        InsertShape shape = insertShape;
+        if (shape == null) {
+            shape = InsertShape.parse(ftlQueryBuilder.buildQuery(Map.of(), INSERT_DATA_TO_STG_MTX_EXT_DMC_FTL_FILE));
+            insertShape = shape;
+        }
+        return shape;
+    }
+
+    /**
+     * Table, columns and per-row placeholder tuple of the rendered template, with the binder for its parameters
+     */
+    private record InsertShape(String table, List<String> columns, String rowPlaceholders,
+                               StgMrxExtDmcRowBinder binder) {
+
+        static InsertShape parse(String renderedSql) {
+            Matcher matcher = INSERT_PATTERN.matcher(renderedSql);
+            if (!matcher.matches()) {
+                throw new BusinessException(String.format("%s is not a single-row INSERT ... VALUES statement",
+                        INSERT_DATA_TO_STG_MTX_EXT_DMC_FTL_FILE));
+            }
+
+            List<String> columns = splitList(matcher.group(3));
+            List<String> parameters = splitList(matcher.group(4)).stream()
+                    .map(parameter -> {
+                        if (!parameter.startsWith(":")) {
+                            throw new BusinessException(String.format("Expected a named placeholder in %s, found %s",
+                                    INSERT_DATA_TO_STG_MTX_EXT_DMC_FTL_FILE, parameter));
+                        }
+                        return parameter.substring(1);
+                    })
+                    .toList();
+            if (columns.size() != parameters.size()) {
+                throw new BusinessException(String.format("%s lists %d columns but %d placeholders",
+                        INSERT_DATA_TO_STG_MTX_EXT_DMC_FTL_FILE, columns.size(), parameters.size()));
+            }
+
+            String rowPlaceholders = "(" + String.join(",", Collections.nCopies(parameters.size(), "?")) + ")";
+            return new InsertShape(matcher.group(2), columns, rowPlaceholders,
+                    StgMrxExtDmcRowBinder.forParameters(parameters));
+        }
+
+        String loadDataSql(String targetTable, Path csvFile) {
+            String fileName = csvFile.toAbsolutePath().toString().replace("\\", "\\\\").replace("'", "\\'");
+            return "LOAD DATA LOCAL INFILE '" + fileName + "' INTO TABLE " + targetTable
+                    + " CHARACTER SET utf8mb4 " + StgMrxExtDmcRowBinder.CSV_FORMAT
+                    + " (" + String.join(", ", columns) + ")";
+        }
+
+        String copySql(String fromTable) {
+            String columnList = String.join(", ", columns);
+            return "INSERT INTO " + table + " (" + columnList + ") SELECT " + columnList
+                    + " FROM " + fromTable + " WHERE run_id = :runId ORDER BY id";
+        }
+
+        String sql(String targetTable, int rows) {
+            String prefix = "INSERT INTO " + targetTable + " (" + String.join(", ", columns) + ") VALUES ";
+            StringBuilder sql = new StringBuilder(prefix.length() + rows * (rowPlaceholders.length() + 1));
+            sql.append(prefix);
+            for (int row = 0; row < rows; row++) {
+                if (row > 0) {
+                    sql.append(',');
+                }
+                sql.append(rowPlaceholders);
+            }
+            return sql.toString();
+        }
+
+        private static List<String> splitList(String list) {
+            return Arrays.stream(list.split(","))
+                    .map(String::trim)
+                    .filter(item -> !item.isEmpty())
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.ruchira.murex.service;
+
+import com.ruchira.murex.config.PersistenceConfig;
+import com.ruchira.murex.dto.StgMrxExtDmcDto;
+import com.ruchira.murex.exception.BusinessException;
+import com.ruchira.murex.freemaker.FtlQueryBuilder;
+import com.ruchira.murex.freemaker.ParameterizedQuery;
+import com.ruchira.murex.repository.GenericJdbcDataRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections.CollectionUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.ruchira.murex.constant.Constants.DELETE_STG_MTX_EXT_DMC_PENDING_BY_RUN_FTL_FILE;
+import static com.ruchira.murex.constant.Constants.PURGE_STG_MTX_EXT_DMC_PENDING_FTL_FILE;
+import static com.ruchira.murex.constant.Constants.STG_MRX_EXT_DMC_PENDING_TABLE;
+
+/**
+ * Write-behind stage for h_stg_mrx_ext_dmc: DMC rows are written while the run is still transforming.
+ *
+ * <p>{@link #open(String)} starts one writer thread per run. Transformation tasks hand over the rows of each
+ * completed group with {@link Run#submit}; the writer drains everything queued so far and writes it through
+ * {@link StgMrxExtDmcBulkWriter} into h_stg_mrx_ext_dmc_pending, in a transaction of its own. The queue holds
+ * {@code app.persistence.dmc-write-behind-queue-capacity} group results, so when the database falls behind,
+ * submitting tasks block instead of buffering the whole run in memory.</p>
+ *
+ * <p>When {@code app.persistence.dmc-bulk-load-enabled} is set, the writer holds back drained rows until
+ * {@code app.persistence.dmc-bulk-load-threshold} are pending, or the run ends, so each write is large enough for
+ * {@link StgMrxExtDmcBulkWriter} to load it with {@code LOAD DATA}. At most that many rows are held on top of the
+ * queue.</p>
+ *
+ * <p>Every row is stamped with the run id. {@link Run#complete()} moves the run's rows from the work table into
+ * h_stg_mrx_ext_dmc in the caller's transaction, so they become visible in h_stg_mrx_ext_dmc only when the run
+ * commits. The stage must be opened inside that transaction: when it rolls back, the stage aborts and deletes the
+ * run's work rows in a transaction of its own. Rows a crashed run leaves in the work table are never visible in
+ * h_stg_mrx_ext_dmc and are purged once older than {@code app.persistence.dmc-pending-retention-hours}.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StgMrxExtDmcWriteBehindWriter {
+
+    private static final List<StgMrxExtDmcDto> END_OF_RUN = new ArrayList<>();
+
+    private final StgMrxExtDmcBulkWriter stgMrxExtDmcBulkWriter;
+    private final GenericJdbcDataRepository repository;
+    private final FtlQueryBuilder ftlQueryBuilder;
+    private final PersistenceConfig persistenceConfig;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * @param runId Id stamped on every row of the run and used to move or delete them
+     * @return The started stage of the run, aborted if the caller's transaction rolls back
+     * @throws BusinessException if no transaction is active
+     */
+    public Run open(String runId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new BusinessException(String.format("Write-behind stage of run %s must be opened inside a transaction", runId));
+        }
+        Run run = new Run(runId);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    run.abort();
+                }
+            }
+        });
+        return run;
+    }
+
+    /**
+     * Write-behind stage of one run
+     */
+    public final class Run {
+
+        private final String runId;
+        private final BlockingQueue<List<StgMrxExtDmcDto>> queue;
+        private final TransactionTemplate writeTransaction;
+        private final Thread writer;
+        private volatile Exception failure;
+        private final AtomicBoolean aborted = new AtomicBoolean();
+        private int writtenRows;
+
+        private Run(String runId) {
+            this.runId = runId;
+            this.queue = new ArrayBlockingQueue<>(Math.max(1, persistenceConfig.getDmcWriteBehindQueueCapacity()));
+            this.writeTransaction = new TransactionTemplate(transactionManager);
+            this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            this.writer = Thread.ofVirtual().name("dmc-write-behind-" + runId).start(this::drain);
+        }
+
+        public String getRunId() {
+            return runId;
+        }
+
+        /**
+         * Hands over the rows of one completed group, blocking while the queue is full
+         *
+         * @throws BusinessException if an earlier write of the run failed
+         */
+        public void submit(List<StgMrxExtDmcDto> dmcDtoList) throws InterruptedException {
+            throwIfFailed();
+            if (CollectionUtils.isEmpty(dmcDtoList)) {
+                return;
+            }
+            dmcDtoList.forEach(dto -> dto.setRunId(runId));
+            queue.put(dmcDtoList);
+        }
+
+        /**
+         * Waits until every submitted row is written, then moves the run's rows into h_stg_mrx_ext_dmc in the
+         * caller's transaction
+         *
+         * @throws BusinessException if any write of the run failed or not every written row was moved
+         */
+        public void complete() throws InterruptedException {
+            queue.put(END_OF_RUN);
+            writer.join();
+            throwIfFailed();
+
+            final int moved = stgMrxExtDmcBulkWriter.moveRun(STG_MRX_EXT_DMC_PENDING_TABLE, runId);
+            if (moved != writtenRows) {
+                throw new BusinessException(String.format("Moved %d of %d DMC rows of run %s", moved, writtenRows, runId));
+            }
+            final ParameterizedQuery deletePending = deletePendingQuery();
+            repository.update(deletePending.getSql(), deletePending.getParameters());
+            log.info("Write-behind stage of run {} wrote and moved {} DMC rows", runId, moved);
+        }
+
+        /**
+         * Stops the writer and deletes every work row of the run written so far; later calls do nothing
+         */
+        public void abort() {
+            if (!aborted.compareAndSet(false, true)) {
+                return;
+            }
+            while (!queue.offer(END_OF_RUN)) {
+                queue.clear();
+            }
+            try {
+                writer.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            final ParameterizedQuery query = deletePendingQuery();
+            Integer deleted = writeTransaction.execute(status -> repository.update(query.getSql(), query.getParameters()));
+            log.warn("Aborted write-behind stage of run {}; deleted {} pending DMC rows", runId, deleted);
+        }
+
+        private ParameterizedQuery deletePendingQuery() {
+            return ftlQueryBuilder.buildParameterizedQuery(Map.of("runId", runId), DELETE_STG_MTX_EXT_DMC_PENDING_BY_RUN_FTL_FILE);
+        }
+
+        /**
+         * Removes work rows of runs that crashed before they could complete or abort
+         */
+        private void purgeExpiredPendingRows() {
+            try {
+                final ParameterizedQuery query = ftlQueryBuilder.buildParameterizedQuery(
+                        Map.of("retentionHours", persistenceConfig.getDmcPendingRetentionHours()), PURGE_STG_MTX_EXT_DMC_PENDING_FTL_FILE);
+                Integer purged = writeTransaction.execute(status -> repository.update(query.getSql(), query.getParameters()));
+                if (purged != null && purged > 0) {
+                    log.warn("Purged {} pending DMC rows left over from earlier runs", purged);
+                }
+            } catch (Exception e) {
+                log.warn("Purging expired pending DMC rows failed: {}", e.getMessage());
+            }
+        }
+
+        private void drain() {
+            purgeExpiredPendingRows();
+            final int rowsPerWrite = persistenceConfig.isDmcBulkLoadEnabled()
+                    ? Math.max(1, persistenceConfig.getDmcBulkLoadThreshold())
+                    : 1;
+            List<List<StgMrxExtDmcDto>> pending = new ArrayList<>();
+            List<StgMrxExtDmcDto> rows = new ArrayList<>();
+            while (true) {
+                try {
+                    pending.add(queue.take());
+                } catch (InterruptedException e) {
+                    failure = e;
+                    return;
+                }
+                queue.drainTo(pending);
+
+                boolean endOfRun = pending.removeIf(group -> group == END_OF_RUN);
+                // After a failure or abort, keep taking so blocked submitters are released, but write nothing
+                if (failure == null && !aborted.get()) {
+                    pending.forEach(rows::addAll);
+                    if (rows.size() >= rowsPerWrite || (endOfRun && !rows.isEmpty())) {
+                        write(rows);
+                        rows.clear();
+                    }
+                }
+                pending.clear();
+                if (endOfRun) {
+                    return;
+                }
+            }
+        }
+
+        private void write(List<StgMrxExtDmcDto> rows) {
+            try {
+                writeTransaction.executeWithoutResult(status -> stgMrxExtDmcBulkWriter.write(STG_MRX_EXT_DMC_PENDING_TABLE, rows));
+                writtenRows += rows.size();
+            } catch (Exception e) {
+                log.error("Write-behind of {} DMC rows failed for run {}: {}", rows.size(), runId, e.getMessage(), e);
+                failure = e;
+            }
+        }
+
+        private void throwIfFailed() {
+            if (failure != null) {
+                throw new BusinessException(String.format("Writing DMC rows of run %s failed", runId), failure);
+            }
+        }
+    }
+}
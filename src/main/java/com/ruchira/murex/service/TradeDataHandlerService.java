@@ -1,21 +1,33 @@
 package com.ruchira.murex.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.ruchira.murex.config.DataFetchConfig;
 import com.ruchira.murex.constant.Constants;
 import com.ruchira.murex.dto.StgMrxExtDmcDto;
+import com.ruchira.murex.exception.BusinessException;
 import com.ruchira.murex.freemaker.FtlQueryBuilder;
-import com.ruchira.murex.kafka.model.HAWKMurexBookingRecord;
+import com.ruchira.murex.freemaker.ParameterizedQuery;
+import com.ruchira.murex.kafka.model.SerializedBookingRecord;
 import com.ruchira.murex.model.AggregatedDataResponse;
 import com.ruchira.murex.model.Currency;
 import com.ruchira.murex.model.GroupedRecord;
+import com.ruchira.murex.model.RunSymbolTable;
+import com.ruchira.murex.model.batch.TradeRow;
+import com.ruchira.murex.model.batch.TradeRowBatch;
 import com.ruchira.murex.model.InstructionEventConfig;
 import com.ruchira.murex.model.MurexBookingConfig;
 import com.ruchira.murex.exception.ValidationException;
+import com.ruchira.murex.model.plan.BookingPlanIndex;
 import com.ruchira.murex.model.trade.MurexTrade;
 import com.ruchira.murex.model.trade.MurexTradeLeg;
 import com.ruchira.murex.model.trade.MurexTradeLegComponent;
-import com.ruchira.murex.parser.JsonParser;
+import com.ruchira.murex.parser.BookingPlanCompiler;
 import com.ruchira.murex.repository.GenericJdbcDataRepository;
+import com.ruchira.murex.repository.parameter.MurexTradeLegComponentParameterSource;
+import com.ruchira.murex.repository.parameter.MurexTradeLegParameterSource;
+import com.ruchira.murex.repository.parameter.MurexTradeParameterSource;
+import com.ruchira.murex.repository.rowmapper.EntityRowMappers;
+import com.ruchira.murex.repository.rowmapper.TradeRowBatchMapper;
+import com.ruchira.murex.util.ConcurrencyUtil;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
@@ -23,13 +35,14 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections.CollectionUtils;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.jdbc.core.BeanPropertyRowMapper;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import static com.ruchira.murex.constant.Constants.*;
@@ -41,7 +54,10 @@ public class TradeDataHandlerService {
 
     private final GenericJdbcDataRepository repository;
     private final FtlQueryBuilder ftlQueryBuilder;
-    private final JsonParser jsonParser;
+    private final DataFetchConfig dataFetchConfig;
+    private final BookingPlanCompiler bookingPlanCompiler;
+    private final IdBlockAllocator idBlockAllocator;
+    private final StgMrxExtDmcBulkWriter stgMrxExtDmcBulkWriter;
 
     /**
      * Fetches aggregated data by joining records across four tables,
@@ -62,23 +78,157 @@ public class TradeDataHandlerService {
             final String typology,
             final String currency
     ) {
+        ParameterizedQuery query = buildAggregatedDataQuery(businessDate, parseExternalTradeIds(externalTradeIds), typology, currency);
+        return repository.fetchData(query.getSql(), query.getParameters(), createRowMapper());
+    }
 
-        // Parse the comma-separated external trade IDs
-        List<String> tradeIdList = Arrays.stream(externalTradeIds.split(":"))
-                .map(String::trim)
-                .toList();
+    /**
+     * Streams the aggregated data and groups it on the fly.
+     *
+     * <p>Rows are read with a streaming fetch size and arrive ordered by the grouping key
+     * (contract, comment_0, nav_type), so a group is complete as soon as the key changes.
+     * Each completed group is validated with the same rules as {@link #performGroupingAndValidation(List)}
+     * and handed to {@code groupConsumer} while the remaining rows are still being read.</p>
+     *
+     * <p>Rows are kept in columnar {@link TradeRowBatch}es of {@code app.fetch.columnar-batch-size} rows;
+     * grouping and validation read the key columns directly and full records are only materialized
+     * when a strategy asks the grouped record for them.</p>
+     *
+     * <p>When the contract list is larger than {@code app.fetch.chunk-size}, it is split into chunks
+     * that are fetched concurrently on virtual threads (bounded by {@code app.fetch.chunk-parallelism}).
+     * Groups never span contracts, so each chunk yields complete groups; each chunk's groups are handed to
+     * {@code groupConsumer} on the calling thread as soon as that chunk finishes, while the other chunks are
+     * still being fetched. If any chunk fails, the remaining chunks are cancelled and the failure is rethrown.</p>
+     *
+     * @param businessDate     The business date used as a filter criterion
+     * @param externalTradeIds Colon-separated string of external trade IDs to filter results
+     * @param typology         Hedge instrument typology used by the fetch filter
+     * @param currency         The ISO 4217 currency code to restrict results to a specific currency
+     * @param symbolTable      Symbol table of the run, canonicalizing repeated string values as rows are mapped
+     * @param groupConsumer    Callback receiving each validated {@link GroupedRecord} on the calling thread
+     * @throws ValidationException if a group violates the validation rules
+     * @throws Exception           if a chunked fetch fails
+     */
+    public void streamGroupedRecords(
+            final String businessDate,
+            final String externalTradeIds,
+            final String typology,
+            final String currency,
+            final RunSymbolTable symbolTable,
+            final Consumer<GroupedRecord> groupConsumer
+    ) throws Exception {
+        List<String> contracts = parseExternalTradeIds(externalTradeIds);
+        int chunkSize = Math.max(1, dataFetchConfig.getChunkSize());
+
+        if (contracts.size() <= chunkSize) {
+            int groupCount = streamContractGroups(businessDate, contracts, typology, currency, symbolTable, groupConsumer);
+            log.info("Streamed {} grouped records for business date {}", groupCount, businessDate);
+            return;
+        }
+
+        // Every group belongs to exactly one contract, so each chunk yields complete groups
+        List<List<String>> chunks = partition(contracts, chunkSize);
+        log.info("Fetching {} contracts in {} chunks of up to {} (parallelism {})",
+                contracts.size(), chunks.size(), chunkSize, dataFetchConfig.getChunkParallelism());
+
+        AtomicInteger groupCount = new AtomicInteger();
+        ConcurrencyUtil.<List<String>, List<GroupedRecord>>processAllOrNoneInCompletionOrder(
+                chunks,
+                dataFetchConfig.getChunkParallelism(),
+                chunk -> {
+                    List<GroupedRecord> chunkGroups = new ArrayList<>();
+                    streamContractGroups(businessDate, chunk, typology, currency, symbolTable, chunkGroups::add);
+                    return chunkGroups;
+                },
+                chunkGroups -> {
+                    chunkGroups.forEach(groupConsumer);
+                    groupCount.addAndGet(chunkGroups.size());
+                }
+        );
+
+        log.info("Fetched {} grouped records for business date {} from {} chunks", groupCount.get(), businessDate, chunks.size());
+    }
+
+    private int streamContractGroups(
+            final String businessDate,
+            final List<String> contracts,
+            final String typology,
+            final String currency,
+            final RunSymbolTable symbolTable,
+            final Consumer<GroupedRecord> groupConsumer
+    ) {
+        ParameterizedQuery query = buildAggregatedDataQuery(businessDate, contracts, typology, currency);
+        StreamingGroupCollector collector = new StreamingGroupCollector(groupConsumer);
+
+        repository.streamData(query.getSql(), query.getParameters(), createTradeRowMapper(symbolTable),
+                dataFetchConfig.getStreamingFetchSize(), collector::accept);
+        collector.complete();
+        return collector.getGroupCount();
+    }
+
+    private ParameterizedQuery buildAggregatedDataQuery(
+            final String businessDate,
+            final List<String> contracts,
+            final String typology,
+            final String currency
+    ) {
 
         // Build the SQL query
         Map<String, Object> inputs = Map.of(
                 "businessDate", businessDate,
-                "contractList", tradeIdList,
+                "contractList", padToBucketSize(contracts),
                 "typologyMx3", typology,
                 "inputCurrency", currency,
                 "USDCurrency", Constants.FUNCTIONAL_CURRENCY_USD,
                 "tradingPortf", TRADING_PORTFOLIO_SG_BANK_SFX
         );
-        String sql = ftlQueryBuilder.buildQuery(inputs, "aggregatedDataFetch.ftl");
-        return repository.fetchData(sql, createRowMapper());
+        return ftlQueryBuilder.buildParameterizedQuery(inputs, "aggregatedDataFetch.ftl");
+    }
+
+    /**
+     * Parses the colon-separated external trade IDs, dropping duplicates while keeping their order.
+     */
+    private static List<String> parseExternalTradeIds(String externalTradeIds) {
+        return Arrays.stream(externalTradeIds.split(":"))
+                .map(String::trim)
+                .distinct()
+                .toList();
+    }
+
+    private static List<List<String>> partition(List<String> values, int chunkSize) {
+        List<List<String>> chunks = new ArrayList<>();
+        for (int from = 0; from < values.size(); from += chunkSize) {
+            chunks.add(values.subList(from, Math.min(from + chunkSize, values.size())));
+        }
+        return chunks;
+    }
+
+    /**
+     * Pads the IN-list values up to the next power of two by repeating the last value.
+     * <p>
+     * The driver expands a list parameter into one placeholder per element, so padding keeps
+     * the number of distinct statement shapes logarithmic in the list size and lets the
+     * server-side prepared statement cache be reused across runs. Duplicates do not change
+     * the result of an {@code IN (...)} predicate.
+     *
+     * @param values list parameter values
+     * @return the same values padded to a power-of-two length
+     */
+    private static List<String> padToBucketSize(List<String> values) {
+        if (values.isEmpty()) {
+            return values;
+        }
+        int bucketSize = Integer.highestOneBit(values.size());
+        if (bucketSize < values.size()) {
+            bucketSize <<= 1;
+        }
+        List<String> padded = new ArrayList<>(bucketSize);
+        padded.addAll(values);
+        String last = values.getLast();
+        while (padded.size() < bucketSize) {
+            padded.add(last);
+        }
+        return padded;
     }
 
     /**
@@ -90,8 +240,9 @@ public class TradeDataHandlerService {
      * @param hedgeMethod           hedge Method
      * @param hedgingInstrumentType Type of hedging instrument
      * @param currencyType          CurrencyType (Restricted/Non-Restricted)
-     * @return List of {@link InstructionEventConfig} matching the criteria
+     * @return Unmodifiable list of {@link InstructionEventConfig} matching the criteria
      */
+    @Cacheable(value = INSTRUCTION_EVENT_RULES_CACHE)
     public List<InstructionEventConfig> fetchBusinessEventRules(
             final String instructionEvent,
             final String hedgeMethod,
@@ -106,9 +257,9 @@ public class TradeDataHandlerService {
                 "status", 1
         );
 
-        String sql = ftlQueryBuilder.buildQuery(inputs, FETCH_BUSINESS_EVENT_RULE_FTL_FILE);
+        ParameterizedQuery query = ftlQueryBuilder.buildParameterizedQuery(inputs, FETCH_BUSINESS_EVENT_RULE_FTL_FILE);
 
-        List<InstructionEventConfig> rules = repository.fetchData(sql, createBusinessEventConfigRowMapper());
+        List<InstructionEventConfig> rules = repository.fetchData(query.getSql(), query.getParameters(), createBusinessEventConfigRowMapper());
 
         // Validation: Should have exactly 2 rules (COI and RE)
         if (rules.size() != 2) {
@@ -117,32 +268,52 @@ public class TradeDataHandlerService {
                     instructionEvent, hedgeMethod, hedgingInstrumentType, currencyType, rules.size()));
         }
 
-        return rules;
+        return List.copyOf(rules);
     }
 
     /**
-     * Fetches murex book configurations based on comma-separated IDs
+     * Fetches murex book configurations for a rule, compiles them into booking plans and indexes
+     * the plans by typology
+     * The JSON columns are parsed once here, so the strategies never parse JSON per record
+     * Synchronized per key, so concurrent misses for one rule compile its plans only once
      *
      * @param ruleId instruction event rule id
-     * @return List of {@link MurexBookingConfig} objects
+     * @return {@link BookingPlanIndex} of the rule's compiled plans, keyed by typology
      */
-    @Cacheable(value = "murexConfigs", key = "#ruleId")
-    public List<MurexBookingConfig> fetchMurexBookConfigs(String ruleId) {
-        String sql = ftlQueryBuilder.buildQuery(Map.of("ruleId", ruleId), FETCH_MUREX_BOOK_CODES_FTL_FILE);
-        return repository.fetchData(sql, createMurexBookConfigRowMapper());
+    @Cacheable(value = BOOKING_PLANS_CACHE, key = "#ruleId", sync = true)
+    public BookingPlanIndex fetchBookingPlanIndex(String ruleId) {
+        return BookingPlanIndex.of(bookingPlanCompiler.compile(loadMurexBookConfigs(ruleId)));
     }
 
+    /**
+     * Loads the murex book configurations linked to a rule. Uncached: only the compiled
+     * {@link BookingPlanIndex} built from them is cached.
+     *
+     * @param ruleId instruction event rule id
+     * @return Unmodifiable list of {@link MurexBookingConfig} objects
+     */
+    private List<MurexBookingConfig> loadMurexBookConfigs(String ruleId) {
+        ParameterizedQuery query = ftlQueryBuilder.buildParameterizedQuery(Map.of("ruleId", ruleId), FETCH_MUREX_BOOK_CODES_FTL_FILE);
+        return List.copyOf(repository.fetchData(query.getSql(), query.getParameters(), createMurexBookConfigRowMapper()));
+    }
+
+    /**
+     * Fetches the active currency family for a functional currency
+     *
+     * @param currency functional currency code
+     * @return Unmodifiable list of {@link Currency} objects
+     */
+    @Cacheable(value = CURRENCY_CONFIGS_CACHE, key = "#currency")
     public List<Currency> fetchCurrencyConfigs(final String currency) {
 
         final Map<String, Object> inputs = Map.of("currency", currency, "isActive", 1);
-        final String sql = ftlQueryBuilder.buildQuery(inputs, FETCH_CURRENCY_CONFIG_FTL_FILE);
-        return repository.fetchData(sql, createCurrencyRowMapper());
+        final ParameterizedQuery query = ftlQueryBuilder.buildParameterizedQuery(inputs, FETCH_CURRENCY_CONFIG_FTL_FILE);
+        return List.copyOf(repository.fetchData(query.getSql(), query.getParameters(), createCurrencyRowMapper()));
     }
 
     @Transactional
     public void insertStgMrxExtDmcRecordsToDatabase(List<StgMrxExtDmcDto> dmcDtoList) {
-        final String sql = ftlQueryBuilder.buildQuery(Map.of(), INSERT_DATA_TO_STG_MTX_EXT_DMC_FTL_FILE);
-        repository.executeBatch(sql, dmcDtoList);
+        stgMrxExtDmcBulkWriter.write(dmcDtoList);
     }
 
     /**
@@ -154,16 +325,17 @@ public class TradeDataHandlerService {
      * - Inserts the FarLeg (if present) and its components.
      * </p>
      * <p>
-     * Uses ObjectMapper to convert POJOs to Maps for named-parameter JDBC inserts.
+     * Binds trades, legs and components through typed parameter sources for named-parameter JDBC inserts.
      * Logs errors with full context for traceability.
      *
      * @param murexTrade list of trades to insert
+     * @return {@code true} if the trade and all of its legs were inserted
      */
 
     @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void publishMurexBookingToDatabase(
+    public boolean publishMurexBookingToDatabase(
             final MurexTrade murexTrade,
-            final HAWKMurexBookingRecord murexBookingRecord
+            final SerializedBookingRecord murexBookingRecord
     ) {
 
         final String tradeRef = murexTrade.getTradeReference();
@@ -175,50 +347,41 @@ public class TradeDataHandlerService {
 
             insertTradeLegIfPresent(murexTrade.getNearLeg(), tradeId, NEAR_LEG_TYPE, tradeRef);
             insertTradeLegIfPresent(murexTrade.getFarLeg(), tradeId, FAR_LEG_TYPE, tradeRef);
+            return true;
 
         } catch (Exception e) {
             log.error("Failed to insert trade {}: {}", tradeRef, e.getMessage(), e);
+            return false;
         }
     }
 
     private Long insertMainTrade(
             final MurexTrade trade,
-            final HAWKMurexBookingRecord murexBookingRecord
-    ) throws JsonProcessingException {
-        final Map<String, Object> tradeMap = jsonParser.convertValue(trade);
-        final String murexBookingJsonString = jsonParser.serializesToJsonString(murexBookingRecord);
-        tradeMap.put("murexBookingRecord", murexBookingJsonString);
-
+            final SerializedBookingRecord murexBookingRecord
+    ) {
+        final long tradeId = idBlockAllocator.nextId(MUREX_BOOKING_ID_SEQUENCE);
         final String sql = ftlQueryBuilder.buildQuery(Map.of(), INSERT_DATA_TO_MUREX_BOOKING_FTL_FILE);
-        return repository.insertAndReturnId(sql, tradeMap, "id");
+        repository.update(sql, new MurexTradeParameterSource(tradeId, trade, murexBookingRecord.getJson()));
+        return tradeId;
     }
 
     private void insertTradeLegIfPresent(MurexTradeLeg leg, Long tradeId, String legType, String tradeRef) {
         if (leg == null) return;
 
         try {
-            // Convert leg and additional fields
-            final Map<String, Object> legMap = jsonParser.convertValue(leg);
-
-            final Map<String, Object> additionalFieldsMap = jsonParser.convertValue(leg.getAdditionalFields());
-            legMap.putAll(additionalFieldsMap);
-            legMap.put("legType", legType);
-            legMap.put("tradeId", tradeId);
-
-            // Insert leg and get generated leg ID
+            // Insert leg (flattened with its additional fields) under an allocated leg ID
+            final Long tradeLegId = idBlockAllocator.nextId(MUREX_TRADE_LEG_ID_SEQUENCE);
             final String murexSql = ftlQueryBuilder.buildQuery(Map.of(), INSERT_DATA_TO_MUREX_BOOK_TRADE_LEG_FTL_FILE);
-            Long tradeLegId = repository.insertAndReturnId(murexSql, legMap, "id");
+            repository.update(murexSql, new MurexTradeLegParameterSource(tradeLegId, leg, tradeId, legType));
 
             log.info("Inserted {} leg for trade {} with leg ID {}", legType, tradeRef, tradeLegId);
 
             // Insert leg components if any
             List<MurexTradeLegComponent> components = leg.getComponents();
             if (CollectionUtils.isNotEmpty(components)) {
-                List<Map<String, Object>> componentMaps = jsonParser.convertValue(components);
-                componentMaps.forEach(component -> component.put("tradeLegId", tradeLegId));
-
                 final String componentSql = ftlQueryBuilder.buildQuery(Map.of(), INSERT_DATA_TO_MUREX_BOOK_TRADE_LEG_COMPONENTS_FTL_FILE);
-                repository.executeBatch(componentSql, componentMaps);
+                repository.executeBatch(componentSql, MurexTradeLegComponentParameterSource.createBatch(
+                        components, tradeLegId, () -> idBlockAllocator.nextId(MUREX_TRADE_LEG_COMPONENT_ID_SEQUENCE)));
                 log.info("Inserted {} components for {} leg of trade {}", components.size(), legType, tradeRef);
             }
         } catch (Exception e) {
@@ -241,23 +404,23 @@ public class TradeDataHandlerService {
     public List<GroupedRecord> performGroupingAndValidation(List<AggregatedDataResponse> fetchResults) {
 
         // Group by contract, comment_0, and nav_type
-        Map<GroupingKey, List<AggregatedDataResponse>> groupedMap = fetchResults.stream()
+        Map<GroupingKey, List<TradeRow>> groupedMap = TradeRowBatch.of(fetchResults).stream()
                 .collect(Collectors.groupingBy(record ->
                         new GroupingKey(record.getContract(), record.getComment0(), record.getNavType())));
 
 
         List<GroupedRecord> validatedGroups = new ArrayList<>();
 
-        for (Map.Entry<GroupingKey, List<AggregatedDataResponse>> entry : groupedMap.entrySet()) {
+        for (Map.Entry<GroupingKey, List<TradeRow>> entry : groupedMap.entrySet()) {
             GroupingKey groupKey = entry.getKey();
-            List<AggregatedDataResponse> records = entry.getValue();
+            List<TradeRow> records = entry.getValue();
 
             if (records.isEmpty()) {
                 continue; // Skip empty groups
             }
 
             // Extract group identifiers from first record (all records in group should have same values)
-            AggregatedDataResponse firstRecord = records.getFirst();
+            TradeRow firstRecord = records.getFirst();
             GroupedRecord groupedRecord = getGroupedRecord(records, groupKey, firstRecord.getTypologyMx3());
             validatedGroups.add(groupedRecord);
         }
@@ -265,7 +428,7 @@ public class TradeDataHandlerService {
         return validatedGroups;
     }
 
-    private static GroupedRecord getGroupedRecord(List<AggregatedDataResponse> records, GroupingKey groupKey, String typology) {
+    private static GroupedRecord getGroupedRecord(List<TradeRow> records, GroupingKey groupKey, String typology) {
         String externalDealId = groupKey.getContract();
         String comment0 = groupKey.getComment0();
         String navType = groupKey.getNavType();
@@ -293,32 +456,87 @@ public class TradeDataHandlerService {
         return new GroupedRecord(externalDealId, comment0, navType, typology, records);
     }
 
+    /**
+     * Incrementally groups rows that arrive ordered by (contract, comment_0, nav_type).
+     * A group is validated and released as soon as a row with a different key is seen.
+     */
+    private static final class StreamingGroupCollector {
+
+        private final Consumer<GroupedRecord> groupConsumer;
+        private final Set<GroupingKey> releasedKeys = new HashSet<>();
+        private GroupingKey currentKey;
+        private List<TradeRow> currentRecords = new ArrayList<>();
+
+        private StreamingGroupCollector(Consumer<GroupedRecord> groupConsumer) {
+            this.groupConsumer = groupConsumer;
+        }
+
+        private void accept(TradeRow record) {
+            GroupingKey key = new GroupingKey(record.getContract(), record.getComment0(), record.getNavType());
+
+            if (!key.equals(currentKey)) {
+                release();
+                if (releasedKeys.contains(key)) {
+                    throw new BusinessException(String.format(
+                            "Aggregated data stream is not ordered by grouping key; group %s appeared again", key));
+                }
+                currentKey = key;
+            }
+            currentRecords.add(record);
+        }
+
+        private void complete() {
+            release();
+        }
+
+        private int getGroupCount() {
+            return releasedKeys.size();
+        }
+
+        private void release() {
+            if (currentKey == null || currentRecords.isEmpty()) {
+                return;
+            }
+            GroupedRecord groupedRecord = getGroupedRecord(currentRecords, currentKey, currentRecords.getFirst().getTypologyMx3());
+            releasedKeys.add(currentKey);
+            currentRecords = new ArrayList<>();
+            groupConsumer.accept(groupedRecord);
+        }
+    }
+
     /**
      * Row mapper for AggregatedDataResponse objects
      */
     private RowMapper<AggregatedDataResponse> createRowMapper() {
-        return new BeanPropertyRowMapper<>(AggregatedDataResponse.class);
+        return EntityRowMappers.aggregatedDataRowMapper();
+    }
+
+    /**
+     * Row mapper storing streamed aggregated data rows in columnar batches
+     */
+    private RowMapper<TradeRow> createTradeRowMapper(RunSymbolTable symbolTable) {
+        return TradeRowBatchMapper.of(dataFetchConfig.getColumnarBatchSize(), symbolTable);
     }
 
     /**
      * Row mapper for InstructionEventConfig
      */
     private RowMapper<InstructionEventConfig> createBusinessEventConfigRowMapper() {
-        return new BeanPropertyRowMapper<>(InstructionEventConfig.class);
+        return EntityRowMappers.instructionEventConfigRowMapper();
     }
 
     /**
      * Row mapper for MurexBookConfig
      */
     private RowMapper<MurexBookingConfig> createMurexBookConfigRowMapper() {
-        return new BeanPropertyRowMapper<>(MurexBookingConfig.class);
+        return EntityRowMappers.murexBookingConfigRowMapper();
     }
 
     /**
      * Row mapper for Currency
      */
     private RowMapper<Currency> createCurrencyRowMapper() {
-        return new BeanPropertyRowMapper<>(Currency.class);
+        return EntityRowMappers.currencyRowMapper();
     }
 
     @Data
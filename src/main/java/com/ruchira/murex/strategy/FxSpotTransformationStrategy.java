@@ -1,19 +1,16 @@
 package com.ruchira.murex.strategy;
 
-import com.ruchira.murex.config.TransformationFieldConfig;
 import com.ruchira.murex.mapper.DynamicMapper;
 import com.ruchira.murex.dto.StgMrxExtDmcDto;
 import com.ruchira.murex.exception.TransformationException;
-import com.ruchira.murex.mapper.MurexTradeRecordMapper;
+import com.ruchira.murex.mapper.FusedBookingMapper;
 import com.ruchira.murex.model.*;
-import com.ruchira.murex.model.trade.MurexTrade;
-import com.ruchira.murex.model.trade.MurexTradeLeg;
-import com.ruchira.murex.model.trade.MurexTradeLegAdditionalFields;
-import com.ruchira.murex.model.trade.MurexTradeLegComponent;
+import com.ruchira.murex.model.trade.BookedTrade;
+import com.ruchira.murex.model.plan.BaseBookingOverrides;
+import com.ruchira.murex.model.plan.CompiledBookingPlan;
+import com.ruchira.murex.model.plan.TransformationStep;
 import com.ruchira.murex.service.StgMrxExtProcessingService;
 import com.ruchira.murex.parser.DynamicFieldParser;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.ruchira.murex.parser.JsonParser;
 import com.ruchira.murex.util.TraceIdGenerator;
 import org.apache.commons.lang3.tuple.Pair;
 import org.springframework.stereotype.Component;
@@ -31,20 +28,18 @@ public class FxSpotTransformationStrategy extends TransformationStrategy {
 
 
     public FxSpotTransformationStrategy(
-            final MurexTradeRecordMapper murexTradeRecordMapper,
+            final FusedBookingMapper fusedBookingMapper,
             final DynamicMapper dynamicMapper,
             final DynamicFieldParser fieldMapper,
-            final JsonParser jsonParser,
-            final TransformationFieldConfig transformationFieldConfig,
             final StgMrxExtProcessingService stgMrxExtProcessingService
 
     ) {
-        super(murexTradeRecordMapper, dynamicMapper, fieldMapper, jsonParser, transformationFieldConfig, stgMrxExtProcessingService);
+        super(fusedBookingMapper, dynamicMapper, fieldMapper, stgMrxExtProcessingService);
     }
 
     @Override
-    public boolean supports(String typology) {
-        return FX_SPOT_TYPOLOGY.equals(typology);
+    public Set<String> getSupportedTypologies() {
+        return Set.of(FX_SPOT_TYPOLOGY);
     }
 
     @Override
@@ -53,28 +48,29 @@ public class FxSpotTransformationStrategy extends TransformationStrategy {
         final GroupedRecord groupedRecord = transformationContext.getGroupedRecord();
         validateRecordCount(groupedRecord);
 
-        List<MurexTrade> allMurexTrades = new ArrayList<>();
+        List<BookedTrade> allBookedTrades = new ArrayList<>();
         List<StgMrxExtDmcDto> allStgMrxExtDmcs = new ArrayList<>();
 
-        AggregatedDataResponse record = groupedRecord.getRecords().getFirst();
+        final List<AggregatedDataResponse> records = groupedRecord.getRecords();
+        final AggregatedDataResponse record = records.getFirst();
 
-        for (MurexBookingConfig config : transformationContext.getFilteredMurexConfigs()) {
+        for (CompiledBookingPlan plan : transformationContext.getBookingPlans()) {
+            final MurexBookingConfig config = plan.getConfig();
 
             // Generate unique trace ID for tracking
             final String traceId = TraceIdGenerator.generateTimestampBasedTraceId();
             try {
-                final List<TransformedMurexTrade> tradeLegInputForDMC = mapAggregatedDataRecordsToTradeLegs(groupedRecord);
+                final List<TransformedMurexTrade> tradeLegInputForDMC = mapAggregatedDataRecordsToTradeLegs(records);
                 final List<StgMrxExtDmcDto> stgMrxExtDmcs = generaStgMurexExtDmcRecords(tradeLegInputForDMC, config.getMurexBookCode(), transformationContext.getInstructionEventRuleId(), traceId);
                 allStgMrxExtDmcs.addAll(stgMrxExtDmcs);
 
                 final TransformedMurexTrade tradeLeg = createBaseBooking(record, config, traceId);
-                validateSpotTransformations(config);
-                applyTransformations(tradeLeg, config, transformationContext);
-                applyOutputCustomizations(tradeLeg, config);
+                validateSpotTransformations(plan);
+                applyTransformations(tradeLeg, plan, transformationContext);
+                applyOutputCustomizations(tradeLeg, plan);
 
-                TransformedMurexTrade outPutLeg = applyTPSFieldTransformations(tradeLeg, config);
-                final MurexTrade murexTrade = buildMurexTrade(outPutLeg);
-                allMurexTrades.add(murexTrade);
+                TransformedMurexTrade outPutLeg = applyTPSFieldTransformations(tradeLeg, plan);
+                allBookedTrades.add(fusedBookingMapper.mapSingleLeg(outPutLeg));
             } catch (Exception e) {
                 throw new TransformationException(
                         String.format("Failed to transform record for config %s : %s", config.getId(), e.getMessage()),
@@ -84,32 +80,18 @@ public class FxSpotTransformationStrategy extends TransformationStrategy {
             }
         }
 
-        return new RecordProcessingResult(allStgMrxExtDmcs, allMurexTrades);
+        return new RecordProcessingResult(allStgMrxExtDmcs, allBookedTrades);
     }
 
-    private MurexTrade buildMurexTrade(TransformedMurexTrade trade) {
-        MurexTrade murexTrade = murexTradeRecordMapper.toMurexTrade(trade);
-
-        MurexTradeLeg leg = murexTradeRecordMapper.toMurexTradeLeg(trade);
-        MurexTradeLegComponent component = murexTradeRecordMapper.toMurexTradeLegComponent(trade);
-        MurexTradeLegAdditionalFields additionalFields = murexTradeRecordMapper.toMurexTradeLegAdditionalFields(trade);
-
-        leg.setComponents(List.of(component));
-        leg.setAdditionalFields(additionalFields);
-        murexTrade.setNearLeg(leg);
-
-        return murexTrade;
-    }
-
-    private List<TransformedMurexTrade> mapAggregatedDataRecordsToTradeLegs(GroupedRecord groupedRecord) {
-        return groupedRecord.getRecords()
+    private List<TransformedMurexTrade> mapAggregatedDataRecordsToTradeLegs(List<AggregatedDataResponse> records) {
+        return records
                 .stream()
                 .map(dynamicMapper::mapToMurexTradeLeg)
                 .toList();
     }
 
     private void validateRecordCount(GroupedRecord groupedRecord) {
-        int size = groupedRecord.getRecords().size();
+        int size = groupedRecord.getRecordCount();
         if (size != 1) {
             throw new TransformationException(
                     String.format("FX Spot must have exactly 1 record, found: %s", size),
@@ -128,10 +110,10 @@ public class FxSpotTransformationStrategy extends TransformationStrategy {
         return stgMrxExtProcessingService.generateDmcRecords(transformedMurexTrades, murexBookCode, instructionEventRuleId, traceId);
     }
 
-    private void validateSpotTransformations(MurexBookingConfig config) {
+    private void validateSpotTransformations(CompiledBookingPlan plan) {
 
-        // Validate FX Swap has exactly one transformation
-        int transformationCount = jsonParser.getTransformationCount(config.getTransformations());
+        // Validate FX Spot has exactly one transformation
+        int transformationCount = plan.getTransformationCount();
         if (transformationCount != 1) {
             throw new TransformationException(
                     String.format("FX Spot transformations must have exactly 1 element, found: %s", transformationCount),
@@ -146,23 +128,12 @@ public class FxSpotTransformationStrategy extends TransformationStrategy {
     }
 
     private TransformedMurexTrade createBaseBooking(AggregatedDataResponse record, MurexBookingConfig config, final String traceId) {
-        return dynamicMapper.mapToMurexTradeLeg(record, Map.of(FIELD_MUREX_BOOK_CODE, config.getMurexBookCode(), FIELD_TRACE_ID, traceId));
+        return dynamicMapper.mapToMurexTradeLeg(record, new BaseBookingOverrides(config.getMurexBookCode(), traceId));
     }
 
-    private void applyTransformations(TransformedMurexTrade booking, MurexBookingConfig config, TransformationContext transformationContext) {
-        try {
-            JsonNode transformationsNode = objectMapper.readTree(config.getTransformations());
-
-            if (transformationsNode.isArray()) {
-                for (JsonNode transformation : transformationsNode) {
-                    applyIndividualTransformation(booking, transformation, transformationContext);
-                }
-            } else {
-                applyIndividualTransformation(booking, transformationsNode, transformationContext);
-            }
-
-        } catch (Exception e) {
-            throw new TransformationException("Error parsing transformations JSON", getTransformationType(), e);
+    private void applyTransformations(TransformedMurexTrade booking, CompiledBookingPlan plan, TransformationContext transformationContext) {
+        for (TransformationStep transformation : plan.getTransformations()) {
+            applyIndividualTransformation(booking, transformation, transformationContext);
         }
     }
 
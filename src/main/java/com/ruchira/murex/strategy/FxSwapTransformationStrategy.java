@@ -1,26 +1,23 @@
 package com.ruchira.murex.strategy;
 
-import com.ruchira.murex.config.TransformationFieldConfig;
 import com.ruchira.murex.mapper.DynamicMapper;
 import com.ruchira.murex.dto.StgMrxExtDmcDto;
 import com.ruchira.murex.exception.TransformationException;
-import com.ruchira.murex.mapper.MurexTradeRecordMapper;
+import com.ruchira.murex.mapper.FusedBookingMapper;
 import com.ruchira.murex.model.*;
-import com.ruchira.murex.model.trade.MurexTrade;
-import com.ruchira.murex.model.trade.MurexTradeLeg;
-import com.ruchira.murex.model.trade.MurexTradeLegAdditionalFields;
-import com.ruchira.murex.model.trade.MurexTradeLegComponent;
+import com.ruchira.murex.model.trade.BookedTrade;
+import com.ruchira.murex.model.plan.CompiledBookingPlan;
+import com.ruchira.murex.model.plan.SubTradeLeg;
+import com.ruchira.murex.model.plan.TransformationStep;
 import com.ruchira.murex.service.StgMrxExtProcessingService;
 import com.ruchira.murex.parser.DynamicFieldParser;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.ruchira.murex.parser.JsonParser;
 import com.ruchira.murex.util.TraceIdGenerator;
-import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import static com.ruchira.murex.constant.Constants.*;
 
@@ -40,19 +37,17 @@ import static com.ruchira.murex.constant.Constants.*;
 public class FxSwapTransformationStrategy extends TransformationStrategy {
 
     public FxSwapTransformationStrategy(
-            final MurexTradeRecordMapper murexTradeRecordMapper,
+            final FusedBookingMapper fusedBookingMapper,
             final DynamicMapper dynamicMapper,
             final DynamicFieldParser fieldMapper,
-            final JsonParser transformationParser,
-            final TransformationFieldConfig transformationFieldConfig,
             final StgMrxExtProcessingService stgMrxExtProcessingService
     ) {
-        super(murexTradeRecordMapper, dynamicMapper, fieldMapper, transformationParser, transformationFieldConfig, stgMrxExtProcessingService);
+        super(fusedBookingMapper, dynamicMapper, fieldMapper, stgMrxExtProcessingService);
     }
 
     @Override
-    public boolean supports(String typology) {
-        return FX_SWAP_TYPOLOGY.equals(typology);
+    public Set<String> getSupportedTypologies() {
+        return Set.of(FX_SWAP_TYPOLOGY);
     }
 
     @Override
@@ -61,7 +56,7 @@ public class FxSwapTransformationStrategy extends TransformationStrategy {
         final GroupedRecord groupedRecord = transformationContext.getGroupedRecord();
         validateRecordCount(groupedRecord);
 
-        List<MurexTrade> allMurexTrades = new ArrayList<>();
+        List<BookedTrade> allBookedTrades = new ArrayList<>();
         List<StgMrxExtDmcDto> allStgMrxExtDmcs = new ArrayList<>();
 
         // Create base booking from both records
@@ -70,16 +65,15 @@ public class FxSwapTransformationStrategy extends TransformationStrategy {
         // Identify near and far records based on currency configuration
         LegIdentificationResult legResult = identifyNearAndFarRecords(baseBookings, transformationContext);
 
-        for (MurexBookingConfig config : transformationContext.getFilteredMurexConfigs()) {
+        for (CompiledBookingPlan plan : transformationContext.getBookingPlans()) {
+            final MurexBookingConfig config = plan.getConfig();
             try {
 
                 // Process transformations based on configuration structure
                 final TransformationResult transformationResult = processSwapTransformations(
-                        legResult, config, transformationContext);
+                        legResult, plan, transformationContext);
 
-                MurexTrade murexTrade = buildMurexTrade(transformationResult.getMurexTradeList());
-
-                allMurexTrades.add(murexTrade);
+                allBookedTrades.add(fusedBookingMapper.mapLegs(transformationResult.getMurexTradeList()));
                 allStgMrxExtDmcs.addAll(transformationResult.getStgMrxExtDmcs());
 
             } catch (Exception e) {
@@ -91,34 +85,13 @@ public class FxSwapTransformationStrategy extends TransformationStrategy {
             }
         }
 
-        return new RecordProcessingResult(allStgMrxExtDmcs, allMurexTrades);
-    }
-
-    private MurexTrade buildMurexTrade(List<TransformedMurexTrade> trades) {
-
-        MurexTrade murexTrade = murexTradeRecordMapper.toMurexTrade(trades.getFirst());
-        trades.forEach(tradeLeg -> {
-
-            final MurexTradeLeg murexTradeLeg = murexTradeRecordMapper.toMurexTradeLeg(tradeLeg);
-            final MurexTradeLegComponent murexTradeLegComponent = murexTradeRecordMapper.toMurexTradeLegComponent(tradeLeg);
-            final MurexTradeLegAdditionalFields murexTradeLegAdditionalFields = murexTradeRecordMapper.toMurexTradeLegAdditionalFields(tradeLeg);
-
-            murexTradeLeg.setComponents(List.of(murexTradeLegComponent));
-            murexTradeLeg.setAdditionalFields(murexTradeLegAdditionalFields);
-
-            if (NEAR_LEG_TYPE.equals(tradeLeg.getLegIdentificationType())) {
-                murexTrade.setNearLeg(murexTradeLeg);
-            } else {
-                murexTrade.setFarLeg(murexTradeLeg);
-            }
-        });
-        return murexTrade;
+        return new RecordProcessingResult(allStgMrxExtDmcs, allBookedTrades);
     }
 
     private void validateRecordCount(GroupedRecord groupedRecord) {
-        if (groupedRecord.getRecords().size() != 2) {
+        if (groupedRecord.getRecordCount() != 2) {
             throw new TransformationException(
-                    String.format("FX Swap must have exactly 2 records, found: %s", groupedRecord.getRecords().size()),
+                    String.format("FX Swap must have exactly 2 records, found: %s", groupedRecord.getRecordCount()),
                     getTransformationType()
             );
         }
@@ -191,12 +164,12 @@ public class FxSwapTransformationStrategy extends TransformationStrategy {
      * Process FX Swap transformations based on configuration structure
      *
      * @param legResult             Identified near and far records
-     * @param config                MurexBookConfig with transformations
+     * @param plan                  compiled booking plan of the MurexBookConfig
      * @param transformationContext transformations context with all metaData
      * @return List of transformed TransformationContext objects
      */
     private TransformationResult processSwapTransformations(final LegIdentificationResult legResult,
-                                                            final MurexBookingConfig config,
+                                                            final CompiledBookingPlan plan,
                                                             final TransformationContext transformationContext) {
 
         try {
@@ -204,11 +177,11 @@ public class FxSwapTransformationStrategy extends TransformationStrategy {
             // Generate unique trace ID for tracking
             final String traceId = TraceIdGenerator.generateTimestampBasedTraceId();
 
-            // Use new parser for backward compatibility and consistency
-            JsonNode transformationNode = jsonParser.getFirstTransformation(config.getTransformations());
+            final MurexBookingConfig config = plan.getConfig();
+            TransformationStep transformation = plan.getFirstTransformation();
 
             // Validate FX Swap has exactly one transformation
-            int transformationCount = jsonParser.getTransformationCount(config.getTransformations());
+            int transformationCount = plan.getTransformationCount();
             if (transformationCount != 1) {
                 throw new TransformationException(
                         String.format("FX Swap transformations must have exactly 1 element, found: %s", transformationCount),
@@ -216,7 +189,13 @@ public class FxSwapTransformationStrategy extends TransformationStrategy {
                 );
             }
 
-            TransformationConfigStructure configStructure = analyzeConfigStructure(transformationNode);
+            TransformationConfigStructure configStructure = analyzeConfigStructure(transformation);
+            if (configStructure.type == null) {
+                throw new TransformationException(
+                        "Unsupported transformation configuration structure",
+                        getTransformationType()
+                );
+            }
 
             // Set murex book code for both legs
             legResult.nearRecord.setMurexBookCode(config.getMurexBookCode());
@@ -230,11 +209,11 @@ public class FxSwapTransformationStrategy extends TransformationStrategy {
             switch (configStructure.type) {
                 case BOTH_LEGS:
                     // Case 1: Both nearLeg and farLeg present
-                    return processBothLegs(legResult, configStructure, config, transformationContext, traceId);
+                    return processBothLegs(legResult, configStructure, plan, transformationContext, traceId);
 
                 case SINGLE_LEG:
                     // Case 2: Only one leg present (nearLeg OR farLeg)
-                    return processSingleLeg(legResult, configStructure, config, transformationContext, traceId);
+                    return processSingleLeg(legResult, configStructure, plan, transformationContext, traceId);
 
                 default:
                     throw new TransformationException(
@@ -257,32 +236,24 @@ public class FxSwapTransformationStrategy extends TransformationStrategy {
      * Analyze transformation configuration structure to determine processing type
      * Note: FX Swap only uses referenceSubTradeBuySell, not referenceTradeBuySell
      */
-    private TransformationConfigStructure analyzeConfigStructure(JsonNode transformationsNode) {
+    private TransformationConfigStructure analyzeConfigStructure(TransformationStep transformation) {
         TransformationConfigStructure structure = new TransformationConfigStructure();
 
-        if (transformationsNode.has(REFERENCE__SUB_TRADE_BUY_SELL_FIELD)) {
-            JsonNode subTradeArray = transformationsNode.get(REFERENCE__SUB_TRADE_BUY_SELL_FIELD);
+        List<SubTradeLeg> subTrades = transformation.getReferenceSubTrades();
+        if (subTrades != null) {
 
-            if (subTradeArray.isArray() && subTradeArray.size() == 2) {
+            if (subTrades.size() == 2) {
                 // Check if both nearLeg and farLeg are present
-                boolean hasNearLeg = false;
-                boolean hasFarLeg = false;
-
-                for (JsonNode leg : subTradeArray) {
-                    if (leg.has(REFERENCE_SUB_TRADE_NEAR_LEG_FIELD)) hasNearLeg = true;
-                    if (leg.has(REFERENCE_SUB_TRADE_FAR_LEG_FIELD)) hasFarLeg = true;
-                }
-
-                if (hasNearLeg && hasFarLeg) {
-                    structure.type = TransformationConfigType.BOTH_LEGS;
-                    structure.referenceSubTradeBuySell = subTradeArray;
-                } else {
-                    structure.type = TransformationConfigType.SINGLE_LEG;
-                    structure.referenceSubTradeBuySell = subTradeArray;
-                }
-            } else if (subTradeArray.isArray() && subTradeArray.size() == 1) {
+                boolean hasNearLeg = subTrades.stream().anyMatch(SubTradeLeg::isNearLeg);
+                boolean hasFarLeg = subTrades.stream().anyMatch(SubTradeLeg::isFarLeg);
+
+                structure.type = hasNearLeg && hasFarLeg
+                        ? TransformationConfigType.BOTH_LEGS
+                        : TransformationConfigType.SINGLE_LEG;
+                structure.referenceSubTradeBuySell = subTrades;
+            } else if (subTrades.size() == 1) {
                 structure.type = TransformationConfigType.SINGLE_LEG;
-                structure.referenceSubTradeBuySell = subTradeArray;
+                structure.referenceSubTradeBuySell = subTrades;
             }
         }
 
@@ -294,7 +265,7 @@ public class FxSwapTransformationStrategy extends TransformationStrategy {
      */
     private TransformationResult processBothLegs(LegIdentificationResult legResult,
                                                  TransformationConfigStructure configStructure,
-                                                 MurexBookingConfig config,
+                                                 CompiledBookingPlan plan,
                                                  TransformationContext transformationContext,
                                                  String traceId) {
 
@@ -302,52 +273,40 @@ public class FxSwapTransformationStrategy extends TransformationStrategy {
 
         List<TransformedMurexTrade> tradeLegInputForDMC = new ArrayList<>();
 
-        JsonNode transformationNode = getTransformationsNode(config);
+        TransformationStep transformation = plan.getFirstTransformation();
 
-        for (JsonNode legConfig : configStructure.referenceSubTradeBuySell) {
-            if (legConfig.has(REFERENCE_SUB_TRADE_NEAR_LEG_FIELD)) {
+        for (SubTradeLeg legConfig : configStructure.referenceSubTradeBuySell) {
+            if (legConfig.isNearLeg()) {
                 tradeLegInputForDMC.add(dynamicMapper.clone(legResult.nearRecord));
 
                 // Apply transformation to near record
                 TransformedMurexTrade transformedNear = applyLegTransformation(
-                        legResult.nearRecord, transformationNode, config, transformationContext);
-                TransformedMurexTrade tpsFieldFilteredTrade = applyTPSFieldTransformations(transformedNear, config);
+                        legResult.nearRecord, transformation, plan, transformationContext);
+                TransformedMurexTrade tpsFieldFilteredTrade = applyTPSFieldTransformations(transformedNear, plan);
                 transformedMurexTrades.add(tpsFieldFilteredTrade);
             }
 
-            if (legConfig.has(REFERENCE_SUB_TRADE_FAR_LEG_FIELD)) {
+            if (legConfig.isFarLeg()) {
                 tradeLegInputForDMC.add(dynamicMapper.clone(legResult.farRecord));
 
                 // Apply transformation to far record
                 TransformedMurexTrade transformedFar = applyLegTransformation(
-                        legResult.farRecord, transformationNode, config, transformationContext);
-                TransformedMurexTrade tpsFieldFilteredTrade = applyTPSFieldTransformations(transformedFar, config);
+                        legResult.farRecord, transformation, plan, transformationContext);
+                TransformedMurexTrade tpsFieldFilteredTrade = applyTPSFieldTransformations(transformedFar, plan);
                 transformedMurexTrades.add(tpsFieldFilteredTrade);
             }
         }
 
-        List<StgMrxExtDmcDto> stgMrxExtDmcDtos = new ArrayList<>(generaStgMurexExtDmcRecords(tradeLegInputForDMC, config.getMurexBookCode(), transformationContext.getInstructionEventRuleId(), traceId));
+        List<StgMrxExtDmcDto> stgMrxExtDmcDtos = new ArrayList<>(generaStgMurexExtDmcRecords(tradeLegInputForDMC, plan.getMurexBookCode(), transformationContext.getInstructionEventRuleId(), traceId));
         return new TransformationResult(transformedMurexTrades, stgMrxExtDmcDtos);
     }
 
-    private JsonNode getTransformationsNode(MurexBookingConfig config) {
-        try {
-            String transformations = config.getTransformations();
-            if (ObjectUtils.isEmpty(transformations)) {
-                return null;
-            }
-            return jsonParser.getFirstTransformation(transformations);
-        } catch (Exception e) {
-            throw new TransformationException("Error applying output customizations", getTransformationType(), e);
-        }
-    }
-
     /**
      * Process single leg transformation (Case 2)
      */
     private TransformationResult processSingleLeg(final LegIdentificationResult legResult,
                                                   final TransformationConfigStructure configStructure,
-                                                  final MurexBookingConfig config,
+                                                  final CompiledBookingPlan plan,
                                                   final TransformationContext transformationContext,
                                                   final String traceId) {
 
@@ -356,30 +315,30 @@ public class FxSwapTransformationStrategy extends TransformationStrategy {
 
         List<TransformedMurexTrade> tradeLegInputForDMC = new ArrayList<>();
 
-        JsonNode transformationNode = getTransformationsNode(config);
+        TransformationStep transformation = plan.getFirstTransformation();
 
-        for (JsonNode legConfig : configStructure.referenceSubTradeBuySell) {
-            if (legConfig.has(REFERENCE_SUB_TRADE_NEAR_LEG_FIELD)) {
+        for (SubTradeLeg legConfig : configStructure.referenceSubTradeBuySell) {
+            if (legConfig.isNearLeg()) {
 
                 tradeLegInputForDMC.add(dynamicMapper.clone(legResult.nearRecord));
 
                 TransformedMurexTrade transformedNear = applyLegTransformation(
-                        legResult.nearRecord, transformationNode, config, transformationContext);
-                TransformedMurexTrade tpsFieldFilteredTrade = applyTPSFieldTransformations(transformedNear, config);
+                        legResult.nearRecord, transformation, plan, transformationContext);
+                TransformedMurexTrade tpsFieldFilteredTrade = applyTPSFieldTransformations(transformedNear, plan);
 
                 transformedMurexTrades.add(tpsFieldFilteredTrade);
 
-                stgMrxExtDmcDtos.addAll(generaStgMurexExtDmcRecords(tradeLegInputForDMC, config.getMurexBookCode(), transformationContext.getInstructionEventRuleId(), traceId));
-            } else if (legConfig.has(REFERENCE_SUB_TRADE_FAR_LEG_FIELD)) {
+                stgMrxExtDmcDtos.addAll(generaStgMurexExtDmcRecords(tradeLegInputForDMC, plan.getMurexBookCode(), transformationContext.getInstructionEventRuleId(), traceId));
+            } else if (legConfig.isFarLeg()) {
 
                 tradeLegInputForDMC.add(dynamicMapper.clone(legResult.farRecord));
 
                 TransformedMurexTrade transformedFar = applyLegTransformation(
-                        legResult.farRecord, transformationNode, config, transformationContext);
-                TransformedMurexTrade tpsFieldFilteredTrade = applyTPSFieldTransformations(transformedFar, config);
+                        legResult.farRecord, transformation, plan, transformationContext);
+                TransformedMurexTrade tpsFieldFilteredTrade = applyTPSFieldTransformations(transformedFar, plan);
 
                 transformedMurexTrades.add(tpsFieldFilteredTrade);
-                stgMrxExtDmcDtos.addAll(generaStgMurexExtDmcRecords(tradeLegInputForDMC, config.getMurexBookCode(), transformationContext.getInstructionEventRuleId(), traceId));
+                stgMrxExtDmcDtos.addAll(generaStgMurexExtDmcRecords(tradeLegInputForDMC, plan.getMurexBookCode(), transformationContext.getInstructionEventRuleId(), traceId));
             }
         }
 
@@ -392,8 +351,8 @@ public class FxSwapTransformationStrategy extends TransformationStrategy {
      * Reuses FX Spot transformation logic where applicable
      */
     private TransformedMurexTrade applyLegTransformation(TransformedMurexTrade legRecord,
-                                                         JsonNode legTransformation,
-                                                         MurexBookingConfig config,
+                                                         TransformationStep legTransformation,
+                                                         CompiledBookingPlan plan,
                                                          TransformationContext transformationContext) {
 
         // Create a copy of the leg record for transformation
@@ -404,7 +363,7 @@ public class FxSwapTransformationStrategy extends TransformationStrategy {
             applyIndividualTransformation(transformedRecord, legTransformation, transformationContext);
 
             // Apply output customizations
-            applyOutputCustomizations(transformedRecord, config);
+            applyOutputCustomizations(transformedRecord, plan);
 
         } catch (Exception e) {
             throw new TransformationException(
@@ -437,7 +396,7 @@ public class FxSwapTransformationStrategy extends TransformationStrategy {
      */
     private static class TransformationConfigStructure {
         TransformationConfigType type;
-        JsonNode referenceSubTradeBuySell;
+        List<SubTradeLeg> referenceSubTradeBuySell;
     }
 
     /**
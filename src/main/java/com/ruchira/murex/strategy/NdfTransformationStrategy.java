@@ -1,20 +1,19 @@
 package com.ruchira.murex.strategy;
 
-import com.ruchira.murex.config.TransformationFieldConfig;
 import com.ruchira.murex.exception.BusinessException;
 import com.ruchira.murex.mapper.DynamicMapper;
 import com.ruchira.murex.dto.StgMrxExtDmcDto;
 import com.ruchira.murex.exception.TransformationException;
-import com.ruchira.murex.mapper.MurexTradeRecordMapper;
+import com.ruchira.murex.mapper.FusedBookingMapper;
 import com.ruchira.murex.model.*;
-import com.ruchira.murex.model.trade.MurexTrade;
-import com.ruchira.murex.model.trade.MurexTradeLeg;
-import com.ruchira.murex.model.trade.MurexTradeLegAdditionalFields;
-import com.ruchira.murex.model.trade.MurexTradeLegComponent;
-import com.ruchira.murex.parser.JsonParser;
+import com.ruchira.murex.model.trade.BookedTrade;
+import com.ruchira.murex.model.plan.BaseBookingOverrides;
+import com.ruchira.murex.model.plan.BuySellFlags;
+import com.ruchira.murex.model.plan.CompiledBookingPlan;
+import com.ruchira.murex.model.plan.SubTradeLeg;
+import com.ruchira.murex.model.plan.TransformationStep;
 import com.ruchira.murex.service.StgMrxExtProcessingService;
 import com.ruchira.murex.parser.DynamicFieldParser;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.ruchira.murex.util.TraceIdGenerator;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.tuple.Pair;
@@ -72,13 +71,11 @@ import static com.ruchira.murex.constant.Constants.*;
 public class NdfTransformationStrategy extends TransformationStrategy {
 
     public NdfTransformationStrategy(
-            final MurexTradeRecordMapper murexTradeRecordMapper,
+            final FusedBookingMapper fusedBookingMapper,
             final DynamicMapper dynamicMapper,
             final DynamicFieldParser fieldMapper,
-            final JsonParser transformationParser,
-            final TransformationFieldConfig transformationFieldConfig,
             final StgMrxExtProcessingService stgMrxExtProcessingService) {
-        super(murexTradeRecordMapper, dynamicMapper, fieldMapper, transformationParser, transformationFieldConfig, stgMrxExtProcessingService);
+        super(fusedBookingMapper, dynamicMapper, fieldMapper, stgMrxExtProcessingService);
     }
 
     @Override
@@ -87,8 +84,8 @@ public class NdfTransformationStrategy extends TransformationStrategy {
     }
 
     @Override
-    public boolean supports(String typology) {
-        return FX_NDF_TYPOLOGY.equals(typology);
+    public Set<String> getSupportedTypologies() {
+        return Set.of(FX_NDF_TYPOLOGY);
     }
 
     /**
@@ -98,18 +95,17 @@ public class NdfTransformationStrategy extends TransformationStrategy {
     @Override
     public RecordProcessingResult process(TransformationContext transformationContext) {
 
-        List<MurexTrade> allMurexTrades = new ArrayList<>();
+        List<BookedTrade> allBookedTrades = new ArrayList<>();
         List<StgMrxExtDmcDto> allStgMrxExtDmcs = new ArrayList<>();
 
-        for (MurexBookingConfig config : transformationContext.getFilteredMurexConfigs()) {
+        for (CompiledBookingPlan plan : transformationContext.getBookingPlans()) {
+            final MurexBookingConfig config = plan.getConfig();
             try {
                 TransformationResult transformationResult = processNdfTransformation(
-                        config,
+                        plan,
                         transformationContext);
 
-                MurexTrade murexTrade = buildMurexTrade(transformationResult.getMurexTradeList());
-
-                allMurexTrades.add(murexTrade);
+                allBookedTrades.add(fusedBookingMapper.mapLegs(transformationResult.getMurexTradeList()));
                 allStgMrxExtDmcs.addAll(transformationResult.getStgMrxExtDmcs());
             } catch (Exception e) {
                 throw new TransformationException(
@@ -120,28 +116,7 @@ public class NdfTransformationStrategy extends TransformationStrategy {
             }
         }
 
-        return new RecordProcessingResult(allStgMrxExtDmcs, allMurexTrades);
-    }
-
-    private MurexTrade buildMurexTrade(List<TransformedMurexTrade> trades) {
-
-        MurexTrade murexTrade = murexTradeRecordMapper.toMurexTrade(trades.getFirst());
-        trades.forEach(tradeLeg -> {
-
-            final MurexTradeLeg murexTradeLeg = murexTradeRecordMapper.toMurexTradeLeg(tradeLeg);
-            final MurexTradeLegComponent murexTradeLegComponent = murexTradeRecordMapper.toMurexTradeLegComponent(tradeLeg);
-            final MurexTradeLegAdditionalFields murexTradeLegAdditionalFields = murexTradeRecordMapper.toMurexTradeLegAdditionalFields(tradeLeg);
-
-            murexTradeLeg.setComponents(List.of(murexTradeLegComponent));
-            murexTradeLeg.setAdditionalFields(murexTradeLegAdditionalFields);
-
-            if (NEAR_LEG_TYPE.equals(tradeLeg.getLegIdentificationType())) {
-                murexTrade.setNearLeg(murexTradeLeg);
-            } else {
-                murexTrade.setFarLeg(murexTradeLeg);
-            }
-        });
-        return murexTrade;
+        return new RecordProcessingResult(allStgMrxExtDmcs, allBookedTrades);
     }
 
     private List<StgMrxExtDmcDto> generaStgMurexExtDmcRecords(
@@ -158,15 +133,14 @@ public class NdfTransformationStrategy extends TransformationStrategy {
      * Process NDF transformation for a single MurexBookConfig
      * Determines the transformation case and applies appropriate logic
      */
-    private TransformationResult processNdfTransformation(MurexBookingConfig config,
+    private TransformationResult processNdfTransformation(CompiledBookingPlan plan,
                                                           TransformationContext transformationContext) {
 
         // Generate unique trace ID for tracking
         final String traceId = TraceIdGenerator.generateTimestampBasedTraceId();
 
-        // Parse transformations array from MurexBookConfig
-        List<JsonNode> transformations = jsonParser
-                .parseTransformations(config.getTransformations());
+        final MurexBookingConfig config = plan.getConfig();
+        List<TransformationStep> transformations = plan.getTransformations();
 
         if (transformations.isEmpty()) {
             throw new TransformationException(
@@ -176,19 +150,19 @@ public class NdfTransformationStrategy extends TransformationStrategy {
         }
 
         // Validate we have exactly 2 records in GroupedRecord for NDF
-        List<AggregatedDataResponse> records = transformationContext.getGroupedRecord().getRecords();
-        if (records.size() != 2) {
+        GroupedRecord groupedRecord = transformationContext.getGroupedRecord();
+        if (groupedRecord.getRecordCount() != 2) {
             throw new TransformationException(
-                    String.format("NDF transformation requires exactly 2 records in GroupedRecord, found: %s", records.size()),
+                    String.format("NDF transformation requires exactly 2 records in GroupedRecord, found: %s", groupedRecord.getRecordCount()),
                     getTransformationType()
             );
         }
 
         // Convert records to TransformedMurexTrade objects
-        List<TransformedMurexTrade> murexBookings = createBaseBookings(records, config.getMurexBookCode(), traceId);
+        List<TransformedMurexTrade> murexBookings = createBaseBookings(groupedRecord.getRecords(), config.getMurexBookCode(), traceId);
 
         // Determine transformation case and process accordingly
-        JsonNode ndfTransformation = findNdfTransformation(transformations);
+        TransformationStep ndfTransformation = findNdfTransformation(transformations);
         if (ndfTransformation == null) {
             throw new TransformationException("No NDF transformation found in transformations array", getTransformationType());
         }
@@ -197,11 +171,11 @@ public class NdfTransformationStrategy extends TransformationStrategy {
 
         return switch (transformationCase) {
             case BOTH_LEGS ->
-                    processBothLegsCase(murexBookings, ndfTransformation, config, transformationContext, traceId);
+                    processBothLegsCase(murexBookings, ndfTransformation, plan, transformationContext, traceId);
             case EMBEDDED_SPOT_LEG_ONLY ->
-                    processEmbeddedSpotLegOnlyCase(murexBookings, ndfTransformation, config, transformationContext, traceId);
+                    processEmbeddedSpotLegOnlyCase(murexBookings, ndfTransformation, plan, transformationContext, traceId);
             case DUAL_TRANSFORMATIONS ->
-                    processDualTransformationsCase(murexBookings, transformations, config, transformationContext, traceId);
+                    processDualTransformationsCase(murexBookings, transformations, plan, transformationContext, traceId);
         };
     }
 
@@ -210,8 +184,9 @@ public class NdfTransformationStrategy extends TransformationStrategy {
      */
     private List<TransformedMurexTrade> createBaseBookings(List<AggregatedDataResponse> records, String murexBookCode, String traceId) {
         List<TransformedMurexTrade> bookings = new ArrayList<>();
+        BaseBookingOverrides overrides = new BaseBookingOverrides(murexBookCode, traceId);
         for (AggregatedDataResponse record : records) {
-            TransformedMurexTrade transformedMurexTrade = dynamicMapper.mapToMurexTradeLeg(record, Map.of(FIELD_MUREX_BOOK_CODE, murexBookCode, FIELD_TRACE_ID, traceId));
+            TransformedMurexTrade transformedMurexTrade = dynamicMapper.mapToMurexTradeLeg(record, overrides);
             bookings.add(transformedMurexTrade);
         }
         return bookings;
@@ -220,10 +195,9 @@ public class NdfTransformationStrategy extends TransformationStrategy {
     /**
      * Find the NDF transformation node from the transformations array
      */
-    private JsonNode findNdfTransformation(List<JsonNode> transformations) {
+    private TransformationStep findNdfTransformation(List<TransformationStep> transformations) {
         return transformations.stream()
-                .filter(transformation -> transformation.has(REFERENCE_TRADE_FIELD))
-                .filter(transformation -> FX_NDF_TYPOLOGY.contains(transformation.get(REFERENCE_TRADE_FIELD).asText()))
+                .filter(TransformationStep::isNdfReferenceTrade)
                 .findFirst()
                 .orElse(null);
     }
@@ -231,8 +205,8 @@ public class NdfTransformationStrategy extends TransformationStrategy {
     /**
      * Determine which transformation case we're dealing with
      */
-    private TransformationCase determineTransformationCase(List<JsonNode> transformations,
-                                                           JsonNode ndfTransformation) {
+    private TransformationCase determineTransformationCase(List<TransformationStep> transformations,
+                                                           TransformationStep ndfTransformation) {
 
         // Case 3: Multiple transformations (NDF + FX Spot)
         if (transformations.size() > 1) {
@@ -240,19 +214,16 @@ public class NdfTransformationStrategy extends TransformationStrategy {
         }
 
         // Single transformation - check referenceSubTradeBuySell array
-        if (ndfTransformation.has(REFERENCE__SUB_TRADE_BUY_SELL_FIELD)) {
-            JsonNode subTrades = ndfTransformation.get(REFERENCE__SUB_TRADE_BUY_SELL_FIELD);
-
-            if (subTrades.isArray()) {
-                int subTradeCount = subTrades.size();
-
-                if (subTradeCount == 2) {
-                    // Case 1: Both legs (embeddedSpotLeg + forwardLeg)
-                    return TransformationCase.BOTH_LEGS;
-                } else if (subTradeCount == 1) {
-                    // Case 2: Forward leg only
-                    return TransformationCase.EMBEDDED_SPOT_LEG_ONLY;
-                }
+        List<SubTradeLeg> subTrades = ndfTransformation.getReferenceSubTrades();
+        if (subTrades != null) {
+            int subTradeCount = subTrades.size();
+
+            if (subTradeCount == 2) {
+                // Case 1: Both legs (embeddedSpotLeg + forwardLeg)
+                return TransformationCase.BOTH_LEGS;
+            } else if (subTradeCount == 1) {
+                // Case 2: Forward leg only
+                return TransformationCase.EMBEDDED_SPOT_LEG_ONLY;
             }
         }
 
@@ -264,8 +235,8 @@ public class NdfTransformationStrategy extends TransformationStrategy {
      * Both records get the same transformation applied
      */
     private TransformationResult processBothLegsCase(List<TransformedMurexTrade> murexBookings,
-                                                     JsonNode ndfTransformation,
-                                                     MurexBookingConfig config,
+                                                     TransformationStep ndfTransformation,
+                                                     CompiledBookingPlan plan,
                                                      TransformationContext transformationContext,
                                                      String traceId) {
 
@@ -287,24 +258,24 @@ public class NdfTransformationStrategy extends TransformationStrategy {
                 .toList();
 
         List<TransformedMurexTrade> transformedMurexTrades = Stream.of(embeddedSpotLeg, forwardLeg)
-                .map(leg -> applyNDFTransformation(leg, ndfTransformation, config, transformationContext))
+                .map(leg -> applyNDFTransformation(leg, ndfTransformation, plan, transformationContext))
                 .toList();
 
-        List<StgMrxExtDmcDto> stgMrxExtDmcDtos = generaStgMurexExtDmcRecords(transformedMurexTradesForDMC, config.getMurexBookCode(), transformationContext.getInstructionEventRuleId(), traceId);
+        List<StgMrxExtDmcDto> stgMrxExtDmcDtos = generaStgMurexExtDmcRecords(transformedMurexTradesForDMC, plan.getMurexBookCode(), transformationContext.getInstructionEventRuleId(), traceId);
 
         return new TransformationResult(transformedMurexTrades, stgMrxExtDmcDtos);
     }
 
     private TransformedMurexTrade applyNDFTransformation(
             TransformedMurexTrade booking,
-            JsonNode ndfTransformation,
-            MurexBookingConfig config,
+            TransformationStep ndfTransformation,
+            CompiledBookingPlan plan,
             TransformationContext transformationContext
     ) {
         try {
             TransformedMurexTrade transformedBooking = applyNdfTransformation(
-                    booking, ndfTransformation, config, transformationContext);
-            return applyTPSFieldTransformations(transformedBooking, config);
+                    booking, ndfTransformation, plan, transformationContext);
+            return applyTPSFieldTransformations(transformedBooking, plan);
         } catch (Exception e) {
             String message = String.format("Error applying transformation to booking %s : %s", booking.getContract(), e.getMessage());
             log.error(message);
@@ -317,8 +288,8 @@ public class NdfTransformationStrategy extends TransformationStrategy {
      * Case 2: Identify forwardLeg by latest valueDate and apply transformation only to that record
      */
     private TransformationResult processEmbeddedSpotLegOnlyCase(List<TransformedMurexTrade> murexBookings,
-                                                                JsonNode ndfTransformation,
-                                                                MurexBookingConfig config,
+                                                                TransformationStep ndfTransformation,
+                                                                CompiledBookingPlan plan,
                                                                 TransformationContext transformationContext,
                                                                 String traceId) {
 
@@ -332,11 +303,11 @@ public class NdfTransformationStrategy extends TransformationStrategy {
 
         // Apply transformation only to embedded spot leg
         TransformedMurexTrade transformedForwardLeg = applyNdfTransformation(
-                embeddedSpotLeg, ndfTransformation, config, transformationContext);
-        TransformedMurexTrade tpsFieldFilteredTrade = applyTPSFieldTransformations(transformedForwardLeg, config);
+                embeddedSpotLeg, ndfTransformation, plan, transformationContext);
+        TransformedMurexTrade tpsFieldFilteredTrade = applyTPSFieldTransformations(transformedForwardLeg, plan);
 
 
-        List<StgMrxExtDmcDto> stgMrxExtDmcDtos = generaStgMurexExtDmcRecords(transformedMurexTradesForDMC, config.getMurexBookCode(), transformationContext.getInstructionEventRuleId(), traceId);
+        List<StgMrxExtDmcDto> stgMrxExtDmcDtos = generaStgMurexExtDmcRecords(transformedMurexTradesForDMC, plan.getMurexBookCode(), transformationContext.getInstructionEventRuleId(), traceId);
 
         return new TransformationResult(List.of(tpsFieldFilteredTrade), stgMrxExtDmcDtos);
     }
@@ -362,8 +333,8 @@ public class NdfTransformationStrategy extends TransformationStrategy {
      * }]
      */
     private TransformationResult processDualTransformationsCase(List<TransformedMurexTrade> murexBookings,
-                                                                List<JsonNode> transformations,
-                                                                MurexBookingConfig config,
+                                                                List<TransformationStep> transformations,
+                                                                CompiledBookingPlan plan,
                                                                 TransformationContext transformationContext,
                                                                 String traceId) {
 
@@ -384,7 +355,7 @@ public class NdfTransformationStrategy extends TransformationStrategy {
                 .orElseThrow(() -> new BusinessException("Unable to identify embedded spot leg"));
 
         // Step 3: Locate matching FX Spot DTO using all available GroupedRecords
-        TransformedMurexTrade fxSpotDTO = locateFxSpotDTO(embeddedSpotLeg, config, transformationContext.getAllGroupedRecords());
+        TransformedMurexTrade fxSpotDTO = locateFxSpotDTO(embeddedSpotLeg, plan.getConfig(), transformationContext.getAllGroupedRecords());
 
         // Step 4: Apply inter-DTO field overrides
         TransformedMurexTrade modifiedEmbeddedSpotLeg = applyInterDtoFieldOverrides(
@@ -392,11 +363,11 @@ public class NdfTransformationStrategy extends TransformationStrategy {
 
         // Step 5: Apply standard transformations to modified embedded spot leg
         TransformedMurexTrade transformedEmbeddedSpotLeg = applyNdfTransformation(
-                modifiedEmbeddedSpotLeg, nodes.ndfTransformation, config, transformationContext);
+                modifiedEmbeddedSpotLeg, nodes.ndfTransformation, plan, transformationContext);
 
-        TransformedMurexTrade tpsFieldFilteredTrade = applyTPSFieldTransformations(transformedEmbeddedSpotLeg, config);
+        TransformedMurexTrade tpsFieldFilteredTrade = applyTPSFieldTransformations(transformedEmbeddedSpotLeg, plan);
 
-        List<StgMrxExtDmcDto> stgMrxExtDmcDtos = generaStgMurexExtDmcRecords(tradeLegInputForDMC, config.getMurexBookCode(), transformationContext.getInstructionEventRuleId(), traceId);
+        List<StgMrxExtDmcDto> stgMrxExtDmcDtos = generaStgMurexExtDmcRecords(tradeLegInputForDMC, plan.getMurexBookCode(), transformationContext.getInstructionEventRuleId(), traceId);
 
         return new TransformationResult(List.of(tpsFieldFilteredTrade), stgMrxExtDmcDtos);
     }
@@ -404,19 +375,15 @@ public class NdfTransformationStrategy extends TransformationStrategy {
     /**
      * Parse dual transformations array and extract NDF and FX Spot transformation nodes
      */
-    private DualTransformationNodes parseDualTransformations(List<JsonNode> transformations) {
-        JsonNode ndfTransformation = null;
-        JsonNode fxSpotTransformation = null;
-
-        for (JsonNode transformation : transformations) {
-            if (transformation.has(REFERENCE_TRADE_FIELD)) {
-                String referenceTrade = transformation.get(REFERENCE_TRADE_FIELD).asText();
-
-                if (FX_NDF_TYPOLOGY.contains(referenceTrade)) {
-                    ndfTransformation = transformation;
-                } else if (FX_SPOT_TYPOLOGY.equals(referenceTrade)) {
-                    fxSpotTransformation = transformation;
-                }
+    private DualTransformationNodes parseDualTransformations(List<TransformationStep> transformations) {
+        TransformationStep ndfTransformation = null;
+        TransformationStep fxSpotTransformation = null;
+
+        for (TransformationStep transformation : transformations) {
+            if (transformation.isNdfReferenceTrade()) {
+                ndfTransformation = transformation;
+            } else if (FX_SPOT_TYPOLOGY.equals(transformation.getReferenceTrade())) {
+                fxSpotTransformation = transformation;
             }
         }
 
@@ -462,7 +429,7 @@ public class NdfTransformationStrategy extends TransformationStrategy {
 
 
         // Found matching FX Spot record - convert to DTO
-        return dynamicMapper.mapToMurexTradeLeg(groupedRecord.getRecords().getFirst());
+        return dynamicMapper.mapToMurexTradeLeg(groupedRecord.getRows().getFirst().materialize());
     }
 
 
@@ -501,16 +468,15 @@ public class NdfTransformationStrategy extends TransformationStrategy {
      */
     private void applyFxSpotOverrides(TransformedMurexTrade embeddedSpotLeg,
                                       TransformedMurexTrade fxSpotDTO,
-                                      JsonNode fxSpotTransformation) {
+                                      TransformationStep fxSpotTransformation) {
 
-        if (!fxSpotTransformation.has(REFERENCE_TRADE_BUY_SELL_FIELD)) {
+        BuySellFlags buySell = fxSpotTransformation.getReferenceTradeBuySell();
+        if (buySell == null) {
             return;
         }
 
-        JsonNode buySellNode = fxSpotTransformation.get(REFERENCE_TRADE_BUY_SELL_FIELD);
-
         // Apply buy override (currency1 from FX Spot)
-        if (buySellNode.has(TRADE_BUY_FIELD) && buySellNode.get(TRADE_BUY_FIELD).asBoolean()) {
+        if (buySell.isBuy()) {
             String originalCurrency = embeddedSpotLeg.getCurr1();
             embeddedSpotLeg.setCurr1(fxSpotDTO.getCurr1());
 
@@ -518,7 +484,7 @@ public class NdfTransformationStrategy extends TransformationStrategy {
         }
 
         // Apply sell override (currency2 from FX Spot)
-        if (buySellNode.has(TRADE_SELL_FIELD) && buySellNode.get(TRADE_SELL_FIELD).asBoolean()) {
+        if (buySell.isSell()) {
             String originalCurrency = embeddedSpotLeg.getCurr2();
             embeddedSpotLeg.setCurr2(fxSpotDTO.getCurr2());
 
@@ -535,23 +501,19 @@ public class NdfTransformationStrategy extends TransformationStrategy {
      */
     private void applyNdfOverrides(TransformedMurexTrade embeddedSpotLeg,
                                    TransformedMurexTrade forwardLeg,
-                                   JsonNode ndfTransformation) {
-
-        if (!ndfTransformation.has(REFERENCE__SUB_TRADE_BUY_SELL_FIELD)) {
-            return;
-        }
+                                   TransformationStep ndfTransformation) {
 
-        JsonNode subTradeBuySellArray = ndfTransformation.get(REFERENCE__SUB_TRADE_BUY_SELL_FIELD);
+        List<SubTradeLeg> subTradeBuySellList = ndfTransformation.getReferenceSubTrades();
 
-        if (!subTradeBuySellArray.isArray() || subTradeBuySellArray.isEmpty()) {
+        if (subTradeBuySellList == null || subTradeBuySellList.isEmpty()) {
             return;
         }
 
         // Use the first (and typically only) sub-trade for dual transformations
-        JsonNode subTradeBuySell = subTradeBuySellArray.get(0);
+        SubTradeLeg subTradeBuySell = subTradeBuySellList.getFirst();
 
         // Apply buy override (currency1 from NDF forward)
-        if (subTradeBuySell.has(TRADE_BUY_FIELD) && subTradeBuySell.get(TRADE_BUY_FIELD).asBoolean()) {
+        if (subTradeBuySell.isBuy()) {
             String originalCurrency = embeddedSpotLeg.getCurr1();
             embeddedSpotLeg.setCurr1(forwardLeg.getCurr1());
 
@@ -559,7 +521,7 @@ public class NdfTransformationStrategy extends TransformationStrategy {
         }
 
         // Apply sell override (currency2 from NDF forward)
-        if (subTradeBuySell.has(TRADE_SELL_FIELD) && subTradeBuySell.get(TRADE_SELL_FIELD).asBoolean()) {
+        if (subTradeBuySell.isSell()) {
             String originalCurrency = embeddedSpotLeg.getCurr2();
             embeddedSpotLeg.setCurr2(forwardLeg.getCurr2());
 
@@ -571,10 +533,10 @@ public class NdfTransformationStrategy extends TransformationStrategy {
      * Data holder class for dual transformation nodes
      */
     private static class DualTransformationNodes {
-        final JsonNode ndfTransformation;
-        final JsonNode fxSpotTransformation;
+        final TransformationStep ndfTransformation;
+        final TransformationStep fxSpotTransformation;
 
-        public DualTransformationNodes(JsonNode ndfTransformation, JsonNode fxSpotTransformation) {
+        public DualTransformationNodes(TransformationStep ndfTransformation, TransformationStep fxSpotTransformation) {
             this.ndfTransformation = ndfTransformation;
             this.fxSpotTransformation = fxSpotTransformation;
         }
@@ -600,8 +562,8 @@ public class NdfTransformationStrategy extends TransformationStrategy {
      * Follows FX Spot transformation standards with NDF-specific adaptations
      */
     private TransformedMurexTrade applyNdfTransformation(TransformedMurexTrade booking,
-                                                         JsonNode ndfTransformation,
-                                                         MurexBookingConfig config,
+                                                         TransformationStep ndfTransformation,
+                                                         CompiledBookingPlan plan,
                                                          TransformationContext transformationContext) {
 
         // Create a copy of the leg record for transformation
@@ -612,7 +574,7 @@ public class NdfTransformationStrategy extends TransformationStrategy {
             applyIndividualTransformation(transformedRecord, ndfTransformation, transformationContext);
 
             // Apply output customizations
-            applyOutputCustomizations(transformedRecord, config);
+            applyOutputCustomizations(transformedRecord, plan);
 
         } catch (Exception e) {
             throw new TransformationException(
@@ -1,32 +1,28 @@
 package com.ruchira.murex.strategy;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.ruchira.murex.config.TransformationFieldConfig;
 import com.ruchira.murex.mapper.DynamicMapper;
 import com.ruchira.murex.dto.StgMrxExtDmcDto;
 import com.ruchira.murex.exception.TransformationException;
-import com.ruchira.murex.mapper.MurexTradeRecordMapper;
-import com.ruchira.murex.model.MurexBookingConfig;
+import com.ruchira.murex.mapper.FusedBookingMapper;
+import com.ruchira.murex.model.ExchangeRateTable;
 import com.ruchira.murex.model.RecordProcessingResult;
-import com.ruchira.murex.model.trade.MurexTrade;
+import com.ruchira.murex.model.trade.BookedTrade;
 import com.ruchira.murex.model.TransformedMurexTrade;
 import com.ruchira.murex.model.TransformationContext;
-import com.ruchira.murex.parser.JsonParser;
+import com.ruchira.murex.model.plan.CompiledBookingPlan;
+import com.ruchira.murex.model.plan.OutputCustomizationPlan;
+import com.ruchira.murex.model.plan.TransformationStep;
 import com.ruchira.murex.service.StgMrxExtProcessingService;
 import com.ruchira.murex.parser.DynamicFieldParser;
-import com.ruchira.murex.util.CloneUtils;
+import com.ruchira.murex.util.ProjectionPlan;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
-import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.mapstruct.Named;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.util.*;
-import java.util.stream.Collectors;
 
 import static com.ruchira.murex.constant.Constants.*;
 import static java.math.BigDecimal.ZERO;
@@ -38,13 +34,18 @@ import static java.math.BigDecimal.ZERO;
 @RequiredArgsConstructor
 public abstract class TransformationStrategy {
 
-    protected final MurexTradeRecordMapper murexTradeRecordMapper;
+    protected final FusedBookingMapper fusedBookingMapper;
     protected final DynamicMapper dynamicMapper;
     protected final DynamicFieldParser fieldMapper;
-    protected final JsonParser jsonParser;
-    protected final TransformationFieldConfig transformationFieldConfig;
     protected final StgMrxExtProcessingService stgMrxExtProcessingService;
-    protected final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * Typologies handled by this strategy
+     * Registered once at startup by {@link TransformationStrategyFactory}; a typology may belong to one strategy only
+     *
+     * @return Non-empty set of supported typologies
+     */
+    public abstract Set<String> getSupportedTypologies();
 
     /**
      * Check if this strategy can handle the given typology
@@ -52,7 +53,9 @@ public abstract class TransformationStrategy {
      * @param typology The typology to check
      * @return true if this strategy supports the typology
      */
-    public abstract boolean supports(String typology);
+    public boolean supports(String typology) {
+        return getSupportedTypologies().contains(typology);
+    }
 
     /**
      * Applies a transformation strategy to generate booking  and related trade details.
@@ -67,7 +70,7 @@ public abstract class TransformationStrategy {
      * @return A pair consisting of:
      * <ul>
      *     <li>List of {@link StgMrxExtDmcDto} booking DTOs generated from before applying the transformation</li>
-     *     <li>List of {@link MurexTrade} trade details produced alongside the DTOs</li>
+     *     <li>List of {@link BookedTrade} trades (persisted and downstream trees) produced alongside the DTOs</li>
      * </ul>
      */
     public abstract RecordProcessingResult process(TransformationContext transformationContext);
@@ -79,16 +82,14 @@ public abstract class TransformationStrategy {
      */
     public abstract String getTransformationType();
 
-    public void applyIndividualTransformation(TransformedMurexTrade booking, JsonNode transformation,
+    public void applyIndividualTransformation(TransformedMurexTrade booking, TransformationStep transformation,
                                               TransformationContext transformationContext) {
 
-        boolean flipCurrency = transformation.has(FLIP_CURRENCY_TRANSFORMATION_KEY) &&
-                transformation.get(FLIP_CURRENCY_TRANSFORMATION_KEY).asBoolean();
-        boolean outboundCurrencyChange = transformation.has(OUTBOUND_CURRENCY_CHANGE_TRANSFORMATION_KEY) &&
-                transformation.get(OUTBOUND_CURRENCY_CHANGE_TRANSFORMATION_KEY).asBoolean();
+        boolean flipCurrency = transformation.isFlipCurrency();
+        boolean outboundCurrencyChange = transformation.isOutboundCurrencyChange();
 
 
-        BigDecimal exchangeRate = determineExchangeRate(transformation, booking, flipCurrency);
+        BigDecimal exchangeRate = determineExchangeRate(transformation, booking, flipCurrency, transformationContext.getExchangeRateTable());
 
         if (flipCurrency) {
             applyFlipCurrencyLogic(booking, exchangeRate, transformationContext.getCurrenciesInFamily());
@@ -120,34 +121,23 @@ public abstract class TransformationStrategy {
         }
     }
 
-    public BigDecimal determineExchangeRate(JsonNode transformation, TransformedMurexTrade booking, boolean flipCurrency) {
-        String exchangeRatesConfig = null;
-
-        if (transformation.has(EXCHANGE_RATE_TYPE_TRANSFORMATION_KEY)) {
-            exchangeRatesConfig = transformation.get(EXCHANGE_RATE_TYPE_TRANSFORMATION_KEY).asText();
-        }
-
+    public BigDecimal determineExchangeRate(TransformationStep transformation, TransformedMurexTrade booking, boolean flipCurrency,
+                                            ExchangeRateTable exchangeRateTable) {
+        String rateType;
         BigDecimal rate;
 
-        if (exchangeRatesConfig != null && exchangeRatesConfig.startsWith(REF_TRADE_EXCHANGE_RATE)) {
-            booking.setExchangeRateType(REF_TRADE_EXCHANGE_RATE);
+        if (transformation.usesReferenceTradeRate()) {
+            rateType = REF_TRADE_EXCHANGE_RATE;
             rate = booking.getSpotRate();
-            if (rate == null) rate = ZERO;
-        } else if (exchangeRatesConfig != null && exchangeRatesConfig.startsWith(BLENDED_HISTORICAL_EXCHANGE_RATE)) {
-            booking.setExchangeRateType(BLENDED_HISTORICAL_EXCHANGE_RATE);
-            rate = booking.getHistoricalExchangeRate();
-            if (rate == null) rate = ZERO;
         } else {
-            booking.setExchangeRateType(BLENDED_HISTORICAL_EXCHANGE_RATE);
+            rateType = BLENDED_HISTORICAL_EXCHANGE_RATE;
             rate = booking.getHistoricalExchangeRate();
-            if (rate == null) rate = ZERO;
-        }
-
-        if (flipCurrency && rate.compareTo(ZERO) != 0) {
-            rate = BigDecimal.ONE.divide(rate, 6, RoundingMode.HALF_UP);
         }
+        booking.setExchangeRateType(rateType);
 
-        return rate;
+        // Reciprocals of rates shared across the run are computed once by the run's table; a fresh table would silently lose them
+        Objects.requireNonNull(exchangeRateTable, "exchangeRateTable is required; build it once per run");
+        return exchangeRateTable.resolve(rateType, booking, rate, flipCurrency);
     }
 
     private void applyNormalTransformationLogic(TransformedMurexTrade booking, BigDecimal exchangeRate, List<String> currenciesInFamily) {
@@ -185,130 +175,67 @@ public abstract class TransformationStrategy {
         }
     }
 
-    public void applyOutputCustomizations(TransformedMurexTrade booking, MurexBookingConfig config) {
-        try {
-            String tpsOutboundJson = config.getTpsOutbound();
-            if (tpsOutboundJson == null || tpsOutboundJson.trim().isEmpty()) {
-                return;
-            }
+    public void applyOutputCustomizations(TransformedMurexTrade booking, CompiledBookingPlan plan) {
+        OutputCustomizationPlan outputCustomization = plan.getOutputCustomization();
+        if (outputCustomization == null) {
+            return;
+        }
 
-            JsonNode tpsOutboundNode = objectMapper.readTree(tpsOutboundJson);
+        if (outputCustomization.getFailure() != null) {
+            throw new TransformationException("Error applying output customizations", getTransformationType(), outputCustomization.getFailure());
+        }
 
+        try {
             // Special handling for comment fields
-            applySpecialCommentHandling(booking, tpsOutboundNode, config);
+            applySpecialCommentHandling(booking, outputCustomization);
 
             // Apply general field customizations using dynamic mapping
-            fieldMapper.applyFieldMappings(booking, tpsOutboundNode, transformationFieldConfig.getIgnoreFields());
+            fieldMapper.applyFieldAssignments(booking, outputCustomization.getFieldAssignments());
 
         } catch (Exception e) {
             throw new TransformationException("Error applying output customizations", getTransformationType(), e);
         }
     }
 
-    private void applySpecialCommentHandling(TransformedMurexTrade booking, JsonNode tpsOutboundNode, MurexBookingConfig config) {
+    private void applySpecialCommentHandling(TransformedMurexTrade booking, OutputCustomizationPlan outputCustomization) {
         // Special handling for comment0 field with n-way concatenation
-        if (tpsOutboundNode.has(COMMENT_0_KEYWORD)) {
-            JsonNode comment0Array = tpsOutboundNode.get(COMMENT_0_KEYWORD);
-
-            if (comment0Array.isArray()) {
-                List<String> values = new ArrayList<>();
-
-                for (JsonNode comment0Config : comment0Array) {
-                    if (comment0Config.has(FIELD_NAME_KEYWORD)) {
-                        // Handle multiple fieldName entries within the same config object
-                        JsonNode fieldNameNode = comment0Config.get(FIELD_NAME_KEYWORD);
-                        // Single fieldName
-                        String fieldName = fieldNameNode.asText();
-                        Object value = getFieldValueFromTable(booking, comment0Config, fieldName);
-                        if (value != null && !value.toString().trim().isEmpty()) {
-                            values.add(value.toString());
-                        }
-                    }
-                }
-
-                // N-way concatenation with " | " separator
-                if (!values.isEmpty()) {
-                    fieldMapper.setFieldValue(booking, COMMENT_0_KEYWORD, String.join(" | ", values));
-                }
-            }
+        List<String> comment0Values = collectCommentValues(booking, outputCustomization.getComment0Fields());
+        if (!comment0Values.isEmpty()) {
+            fieldMapper.setFieldValue(booking, COMMENT_0_KEYWORD, String.join(" | ", comment0Values));
         }
 
-        // Special handling for comment1 field
-        if (tpsOutboundNode.has(COMMENT_1_KEYWORD)) {
-            JsonNode comment1Array = tpsOutboundNode.get(COMMENT_1_KEYWORD);
-
-            if (comment1Array.isArray()) {
-                List<String> values = new ArrayList<>();
-
-                for (JsonNode comment1Config : comment1Array) {
-                    if (comment1Config.has(FIELD_NAME_KEYWORD)) {
-                        String fieldName = comment1Config.get(FIELD_NAME_KEYWORD).asText();
-                        Object value = getFieldValueFromTable(booking, comment1Config, fieldName);
-                        if (value != null && !value.toString().trim().isEmpty()) {
-                            values.add(value.toString());
-                        }
-                    }
-                }
-
-                // For comment1, use the first value or join if multiple
-                if (!values.isEmpty()) {
-                    fieldMapper.setFieldValue(booking, COMMENT_1_KEYWORD, values.size() == 1 ? values.getFirst() : String.join(" | ", values));
-                }
-            }
+        // Special handling for comment1 field: use the first value or join if multiple
+        List<String> comment1Values = collectCommentValues(booking, outputCustomization.getComment1Fields());
+        if (!comment1Values.isEmpty()) {
+            fieldMapper.setFieldValue(booking, COMMENT_1_KEYWORD, comment1Values.size() == 1 ? comment1Values.getFirst() : String.join(" | ", comment1Values));
         }
     }
 
-    /**
-     * Get field value considering the table context from configuration
-     *
-     * @param booking   The TransformedMurexTrade object
-     * @param config    The configuration node containing table and fieldName
-     * @param fieldName The field name to retrieve
-     * @return The field value or special handling based on table context
-     */
-    private Object getFieldValueFromTable(TransformedMurexTrade booking, JsonNode config, String fieldName) {
-        String table = config.has(TABLE_KEYWORD) ? config.get(TABLE_KEYWORD).asText() : null;
-
-        // Handle different table contexts currently support fields from
-        // Entity Table and MurexBookCode from MurexBookCode table
-        if (MUREX_BOOK_CODE_TABLE_KEYWORD.equals(table) && FIELD_MUREX_BOOK_CODE.equals(fieldName)) {
-            // For murexBookCode table, return the murexBookCode value
-            return fieldMapper.getFieldValue(booking, FIELD_MUREX_BOOK_CODE);
+    private List<String> collectCommentValues(TransformedMurexTrade booking, List<String> fieldNames) {
+        List<String> values = new ArrayList<>();
+        for (String fieldName : fieldNames) {
+            Object value = fieldMapper.getFieldValue(booking, fieldName);
+            if (value != null && !value.toString().trim().isEmpty()) {
+                values.add(value.toString());
+            }
         }
-
-        // Default: get field value directly from booking
-        return fieldMapper.getFieldValue(booking, fieldName);
+        return values;
     }
 
-    public TransformedMurexTrade applyTPSFieldTransformations(TransformedMurexTrade booking, MurexBookingConfig config) {
+    public TransformedMurexTrade applyTPSFieldTransformations(TransformedMurexTrade booking, CompiledBookingPlan plan) {
 
         try {
-            String transformations = config.getTransformations();
-            if (ObjectUtils.isEmpty(transformations)) {
+            ProjectionPlan<TransformedMurexTrade> tpsProjection = plan.getTpsProjection();
+            if (tpsProjection == null) {
                 return booking;
             }
-            JsonNode transformationNode = jsonParser.getFirstTransformation(transformations);
-
-            Set<String> tpdFieldSet = new HashSet<>();
 
-            JsonNode tpsFields = transformationNode.get(TPS_FIELDS_KEYWORD);
-            tpdFieldSet.addAll(jsonArrayToStringSet(tpsFields));
-            tpdFieldSet.addAll(transformationFieldConfig.getIncludeFields());
-
-            return CloneUtils.cloneWithFields(booking, TransformedMurexTrade.class, tpdFieldSet);
+            return tpsProjection.apply(booking);
         } catch (Exception e) {
             throw new TransformationException("Error applying output customizations", getTransformationType(), e);
         }
     }
 
-    public Set<String> jsonArrayToStringSet(JsonNode node) {
-        Object obj = fieldMapper.extractValueFromJsonNode(node);
-        if (!(obj instanceof List<?> list)) return Set.of();
-        return list.stream()
-                .map(Object::toString)
-                .collect(Collectors.toSet());
-    }
-
     @Data
     @AllArgsConstructor
     public class TransformationResult {
@@ -0,0 +1,30 @@
+package com.ruchira.murex.strategy;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Actuator endpoint listing the active transformation engines
+ * Exposed at {@code GET /actuator/transformationStrategies} as typology -> strategy class
+ */
+@Component
+@Endpoint(id = "transformationStrategies")
+@RequiredArgsConstructor
+public class TransformationStrategyEndpoint {
+
+    private final TransformationStrategyFactory strategyFactory;
+
+    @ReadOperation
+    public Map<String, String> strategies() {
+        Map<String, String> registry = new LinkedHashMap<>();
+        strategyFactory.getRegistry()
+                .forEach((typology, strategy) -> registry.put(typology, ClassUtils.getUserClass(strategy).getSimpleName()));
+        return registry;
+    }
+}
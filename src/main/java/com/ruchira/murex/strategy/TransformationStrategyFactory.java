@@ -1,21 +1,32 @@
 package com.ruchira.murex.strategy;
 
 import com.ruchira.murex.exception.TransformationException;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 
 /**
  * Factory for transformation strategies
  * Implements Factory pattern for dynamic strategy selection
+ * <p>
+ * The typology registry is built once at startup from {@link TransformationStrategy#getSupportedTypologies()},
+ * so dispatch is a single map lookup. Startup fails if two strategies declare the same typology.
  */
 @Component
-@RequiredArgsConstructor
+@Slf4j
 public class TransformationStrategyFactory {
 
     private final List<TransformationStrategy> strategies;
+    private final Map<String, TransformationStrategy> strategiesByTypology;
+
+    public TransformationStrategyFactory(final List<TransformationStrategy> strategies) {
+        this.strategies = List.copyOf(strategies);
+        this.strategiesByTypology = buildRegistry(this.strategies);
+    }
 
     /**
      * Get appropriate transformation strategy for the given typology
@@ -25,14 +36,14 @@ public class TransformationStrategyFactory {
      * @throws TransformationException if no strategy found
      */
     public TransformationStrategy getStrategy(String typology) {
-        Optional<TransformationStrategy> strategy = strategies.stream()
-                .filter(s -> s.supports(typology))
-                .findFirst();
-
-        return strategy.orElseThrow(() ->
-                new TransformationException(
-                        String.format("No transformation strategy found for typology: %s", typology)
-                ));
+        TransformationStrategy strategy = typology == null ? null : strategiesByTypology.get(typology);
+
+        if (strategy == null) {
+            throw new TransformationException(
+                    String.format("No transformation strategy found for typology: %s", typology)
+            );
+        }
+        return strategy;
     }
 
     /**
@@ -41,7 +52,7 @@ public class TransformationStrategyFactory {
      * @return List of all registered strategies
      */
     public List<TransformationStrategy> getAllStrategies() {
-        return List.copyOf(strategies);
+        return strategies;
     }
 
     /**
@@ -51,7 +62,36 @@ public class TransformationStrategyFactory {
      * @return true if strategy exists
      */
     public boolean hasStrategy(String typology) {
-        return strategies.stream().anyMatch(s -> s.supports(typology));
+        return typology != null && strategiesByTypology.containsKey(typology);
+    }
+
+    /**
+     * Get the typology registry
+     *
+     * @return Unmodifiable map of typology -> registered strategy
+     */
+    public Map<String, TransformationStrategy> getRegistry() {
+        return strategiesByTypology;
+    }
+
+    private static Map<String, TransformationStrategy> buildRegistry(List<TransformationStrategy> strategies) {
+        Map<String, TransformationStrategy> registry = new LinkedHashMap<>();
+
+        for (TransformationStrategy strategy : strategies) {
+            for (String typology : strategy.getSupportedTypologies()) {
+                TransformationStrategy existing = registry.putIfAbsent(typology, strategy);
+                if (existing != null) {
+                    throw new TransformationException(
+                            String.format("Duplicate transformation strategy for typology %s: %s and %s",
+                                    typology, existing.getClass().getSimpleName(), strategy.getClass().getSimpleName()),
+                            typology
+                    );
+                }
+            }
+        }
+
+        log.info("Registered transformation strategies for typologies: {}", registry.keySet());
+        return Collections.unmodifiableMap(registry);
     }
 
-}
\ No newline at end of file
+}
@@ -2,7 +2,6 @@ package com.ruchira.murex.util;
 
 import com.ruchira.murex.exception.BusinessException;
 import lombok.experimental.UtilityClass;
-import org.springframework.beans.BeanWrapperImpl;
 
 import java.util.Set;
 
@@ -11,7 +10,7 @@ public class CloneUtils {
 
     /**
      * Clones an object including only the provided set of fields.
-     * Uses Apache Commons PropertyUtils (getter/setter access).
+     * Uses the {@link ProjectionPlan} compiled once per (source class, target class, field set).
      *
      * @param source         The source object
      * @param targetClass    The class of the target object
@@ -23,24 +22,23 @@ public class CloneUtils {
         if (source == null) return null;
 
         try {
-            T target = targetClass.getDeclaredConstructor().newInstance();
-
-            BeanWrapperImpl sourceWrapper = new BeanWrapperImpl(source);
-            BeanWrapperImpl targetWrapper = new BeanWrapperImpl(target);
-
-            for (String field : includedFields) {
-                if (sourceWrapper.isReadableProperty(field) && targetWrapper.isWritableProperty(field)) {
-                    Object value = sourceWrapper.getPropertyValue(field);
-                    targetWrapper.setPropertyValue(field, value);
-                }
-            }
-
-            return target;
-
+            return projectionPlan(source.getClass(), targetClass, includedFields).apply(source);
         } catch (Exception e) {
             throw new BusinessException("Failed to clone object with selected fields", e);
         }
     }
 
-
+    /**
+     * Returns the cached projection plan for the given classes and field set, for callers that clone
+     * repeatedly with the same fields and want to skip the cache lookup
+     *
+     * @param sourceClass    The class of the source objects
+     * @param targetClass    The class of the target objects
+     * @param includedFields Set of field names to include in the clone
+     * @param <T>            Type of the object
+     * @return Compiled projection plan
+     */
+    public static <T> ProjectionPlan<T> projectionPlan(Class<?> sourceClass, Class<T> targetClass, Set<String> includedFields) {
+        return ProjectionPlan.of(sourceClass, targetClass, includedFields);
+    }
 }
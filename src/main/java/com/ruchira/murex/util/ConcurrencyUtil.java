@@ -6,12 +6,22 @@ import lombok.extern.slf4j.Slf4j;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.StructuredTaskScope;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
 @UtilityClass
 @Slf4j
 public class ConcurrencyUtil {
 
+    /**
+     * Queued by a failing task of {@link #processAllOrNoneInCompletionOrder} to wake the consuming thread
+     */
+    private static final Completion<?> FAILED = new Completion<>(null);
+
     /**
      * Processes a collection of items in parallel using structured concurrency.
      * <p>
@@ -26,19 +36,161 @@ public class ConcurrencyUtil {
      */
     public static <T, R> List<R> processAllOrNone(List<T> records,
                                                   RecordTask<T, R> task) throws Exception {
-        try (var scope = new StructuredTaskScope.ShutdownOnFailure()) {
-            List<StructuredTaskScope.Subtask<R>> futures = new ArrayList<>();
+        return processAllOrNone(records::forEach, task);
+    }
+
+    /**
+     * Processes a collection of items in parallel using structured concurrency,
+     * running at most {@code maxConcurrency} tasks at the same time.
+     * <p>
+     * Each item still gets its own virtual thread; the limit only gates how many of them
+     * execute the task concurrently (e.g. to stay within a connection pool).
+     * All-or-none semantics are the same as {@link #processAllOrNone(List, RecordTask)}.
+     *
+     * @param records        List of records (e.g. List<T>)
+     * @param maxConcurrency maximum number of tasks running at once
+     * @param task           the processing logic for each item
+     * @param <T>            Type of record
+     * @throws Exception If any processing task fails
+     */
+    public static <T, R> List<R> processAllOrNone(List<T> records,
+                                                  int maxConcurrency,
+                                                  RecordTask<T, R> task) throws Exception {
+        Semaphore permits = new Semaphore(Math.max(1, maxConcurrency));
+        return processAllOrNone(records, record -> {
+            permits.acquire();
+            try {
+                return task.process(record);
+            } finally {
+                permits.release();
+            }
+        });
+    }
 
-            for (var record : records) {
-                futures.add(scope.fork(() -> {
+    /**
+     * Processes a collection of items in parallel using structured concurrency, running at most
+     * {@code maxConcurrency} tasks at the same time, and hands each result to {@code resultConsumer}
+     * on the calling thread as soon as its task completes.
+     * <p>
+     * Completed results wait in a queue of {@code maxConcurrency} entries; when the consumer falls behind,
+     * finished tasks block on handing over their result (and keep their permit), so at most about twice
+     * {@code maxConcurrency} results are held at once. Results are consumed in completion order.
+     * <p>
+     * All-or-none semantics:
+     * - If any task throws an exception, all remaining tasks are cancelled, no further results are consumed
+     * (results still queued are discarded) and the failure is rethrown.
+     * - If the consumer throws, all remaining tasks are cancelled and the consumer's exception is rethrown.
+     *
+     * @param records        List of records (e.g. List<T>)
+     * @param maxConcurrency maximum number of tasks running at once
+     * @param task           the processing logic for each item
+     * @param resultConsumer callback receiving each non-null result on the calling thread
+     * @param <T>            Type of record
+     * @throws Exception If any processing task fails
+     */
+    public static <T, R> void processAllOrNoneInCompletionOrder(List<T> records,
+                                                                int maxConcurrency,
+                                                                RecordTask<T, R> task,
+                                                                Consumer<R> resultConsumer) throws Exception {
+        int concurrency = Math.max(1, maxConcurrency);
+        Semaphore permits = new Semaphore(concurrency);
+        BlockingQueue<Completion<?>> completed = new ArrayBlockingQueue<>(concurrency);
+        AtomicBoolean failed = new AtomicBoolean();
+
+        try (var scope = new StructuredTaskScope.ShutdownOnFailure()) {
+            for (T record : records) {
+                scope.fork(() -> {
+                    boolean handedOver = false;
                     try {
-                        return task.process(record);
+                        permits.acquire();
+                        try {
+                            completed.put(new Completion<>(task.process(record)));
+                            handedOver = true;
+                            return null;
+                        } finally {
+                            permits.release();
+                        }
                     } catch (Exception e) {
                         log.error("Processing failed for item: {}", record, e);
                         throw e;
+                    } finally {
+                        if (!handedOver) {
+                            failed.set(true);
+                            // Never blocks: if the queue is full, the consumer sees the flag on its next take
+                            completed.offer(FAILED);
+                        }
                     }
-                }));
+                });
             }
+
+            try {
+                for (int consumed = 0; consumed < records.size(); consumed++) {
+                    Completion<?> completion = completed.take();
+                    if (completion == FAILED || failed.get() || scope.isShutdown()) {
+                        completed.clear(); // a task failed; the failure is rethrown below
+                        break;
+                    }
+                    @SuppressWarnings("unchecked")
+                    R result = (R) completion.result();
+                    if (result != null) {
+                        resultConsumer.accept(result);
+                    }
+                }
+            } catch (Exception e) {
+                scope.shutdown();
+                scope.join();
+                throw e;
+            }
+
+            scope.join();
+            scope.throwIfFailed();
+        } catch (Exception ex) {
+            log.error("One or more tasks failed in processAllOrNoneInCompletionOrder: {}", ex.getMessage(), ex);
+            throw ex;
+        }
+    }
+
+    /**
+     * Processes items in parallel as they are produced by {@code source}, using structured concurrency.
+     * <p>
+     * Each emitted item is forked immediately, so processing overlaps with production
+     * (e.g. rows still being streamed from the database).
+     * <p>
+     * All-or-none semantics:
+     * - If any task throws an exception, all remaining tasks are cancelled and
+     * items emitted afterwards are no longer forked.
+     * - If the source itself fails, running tasks are cancelled and the source failure is rethrown.
+     *
+     * @param source producer emitting items on the calling thread
+     * @param task   the processing logic for each item
+     * @param <T>    Type of record
+     * @throws Exception If the source or any processing task fails
+     */
+    public static <T, R> List<R> processAllOrNone(RecordSource<T> source,
+                                                  RecordTask<T, R> task) throws Exception {
+        try (var scope = new StructuredTaskScope.ShutdownOnFailure()) {
+            List<StructuredTaskScope.Subtask<R>> futures = new ArrayList<>();
+
+            try {
+                source.emit(record -> {
+                    if (scope.isShutdown()) {
+                        return; // a task already failed; the failure is rethrown below
+                    }
+                    futures.add(scope.fork(() -> {
+                        try {
+                            return task.process(record);
+                        } catch (Exception e) {
+                            log.error("Processing failed for item: {}", record, e);
+                            throw e;
+                        }
+                    }));
+                });
+            } catch (Exception e) {
+                scope.shutdown();
+                scope.join();
+                throw e;
+            }
+
             scope.join();
             scope.throwIfFailed();
 
@@ -54,6 +206,12 @@ public class ConcurrencyUtil {
         }
     }
 
+    /**
+     * Result of one task of {@link #processAllOrNoneInCompletionOrder}, possibly {@code null}
+     */
+    private record Completion<R>(R result) {
+    }
+
     /**
      * Functional interface for tasks that throw checked exceptions.
      */
@@ -61,4 +219,12 @@ public class ConcurrencyUtil {
     public interface RecordTask<T, R> {
         R process(T item) throws Exception;
     }
+
+    /**
+     * Functional interface for producers that push items to a sink on the calling thread.
+     */
+    @FunctionalInterface
+    public interface RecordSource<T> {
+        void emit(Consumer<T> sink) throws Exception;
+    }
 }
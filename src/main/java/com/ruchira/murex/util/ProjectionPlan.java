@@ -0,0 +1,128 @@
+package com.ruchira.murex.util;
+
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compiled copy routine projecting a fixed set of properties from a source class onto a new target instance
+ * <p>
+ * Plans are compiled once per {@code (source class, target class, field set)} and cached. Compilation
+ * resolves the target constructor and drops fields that are not readable on the source or not writable
+ * on the target, so applying a plan is a constructor call followed by a loop of getter/setter handle
+ * invocations. Fields whose types differ between source and target are copied with the same coercion
+ * as {@link PropertyAccessorTable.PropertyAccessor#set(Object, Object)}.
+ *
+ * @param <T> Type of the projected object
+ */
+public final class ProjectionPlan<T> {
+
+    private static final Map<ProjectionKey, ProjectionPlan<?>> PLANS = new ConcurrentHashMap<>();
+
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+
+    private final Class<T> targetClass;
+    private final MethodHandle constructor;
+    private final MethodHandle[] directGetters;
+    private final MethodHandle[] directSetters;
+    private final PropertyAccessorTable.PropertyAccessor[] coercedSources;
+    private final PropertyAccessorTable.PropertyAccessor[] coercedTargets;
+
+    private ProjectionPlan(Class<?> sourceClass, Class<T> targetClass, Set<String> includedFields) {
+        this.targetClass = targetClass;
+        this.constructor = resolveConstructor(targetClass);
+
+        PropertyAccessorTable sourceTable = PropertyAccessorTable.forClass(sourceClass);
+        PropertyAccessorTable targetTable = PropertyAccessorTable.forClass(targetClass);
+
+        List<MethodHandle> getters = new ArrayList<>();
+        List<MethodHandle> setters = new ArrayList<>();
+        List<PropertyAccessorTable.PropertyAccessor> sources = new ArrayList<>();
+        List<PropertyAccessorTable.PropertyAccessor> targets = new ArrayList<>();
+
+        for (String field : includedFields) {
+            PropertyAccessorTable.PropertyAccessor sourceAccessor = sourceTable.accessor(field);
+            PropertyAccessorTable.PropertyAccessor targetAccessor = targetTable.accessor(field);
+            if (sourceAccessor == null || !sourceAccessor.isReadable()
+                    || targetAccessor == null || !targetAccessor.isWritable()) {
+                continue;
+            }
+
+            if (targetAccessor.getPropertyType().isAssignableFrom(sourceAccessor.getPropertyType())) {
+                getters.add(sourceAccessor.getGetter());
+                setters.add(targetAccessor.getSetter());
+            } else {
+                sources.add(sourceAccessor);
+                targets.add(targetAccessor);
+            }
+        }
+
+        this.directGetters = getters.toArray(new MethodHandle[0]);
+        this.directSetters = setters.toArray(new MethodHandle[0]);
+        this.coercedSources = sources.toArray(new PropertyAccessorTable.PropertyAccessor[0]);
+        this.coercedTargets = targets.toArray(new PropertyAccessorTable.PropertyAccessor[0]);
+    }
+
+    /**
+     * Returns the cached plan for the given classes and field set, compiling it on first use
+     *
+     * @param sourceClass    Class of the objects being projected
+     * @param targetClass    Class of the projected objects, must have a no-arg constructor
+     * @param includedFields Field names to copy; should be immutable as it is part of the cache key
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ProjectionPlan<T> of(Class<?> sourceClass, Class<T> targetClass, Set<String> includedFields) {
+        return (ProjectionPlan<T>) PLANS.computeIfAbsent(
+                new ProjectionKey(sourceClass, targetClass, includedFields),
+                key -> new ProjectionPlan<>(key.sourceClass(), key.targetClass(), key.includedFields()));
+    }
+
+    /**
+     * Creates a new target instance holding the projected fields of the source
+     *
+     * @param source Object to project; {@code null} yields {@code null}
+     */
+    public T apply(Object source) {
+        if (source == null) {
+            return null;
+        }
+
+        try {
+            Object target = (Object) constructor.invokeExact();
+            for (int i = 0; i < directGetters.length; i++) {
+                directSetters[i].invokeExact(target, (Object) directGetters[i].invokeExact(source));
+            }
+            for (int i = 0; i < coercedSources.length; i++) {
+                coercedTargets[i].set(target, coercedSources[i].get(source));
+            }
+            return targetClass.cast(target);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(String.format("Failed to project %s", targetClass.getSimpleName()), e);
+        }
+    }
+
+    private static MethodHandle resolveConstructor(Class<?> targetClass) {
+        try {
+            Constructor<?> noArgConstructor = targetClass.getDeclaredConstructor();
+            ReflectionUtils.makeAccessible(noArgConstructor);
+            return MethodHandles.lookup()
+                    .unreflectConstructor(noArgConstructor)
+                    .asType(CONSTRUCTOR_TYPE);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException(String.format("No accessible no-arg constructor on %s", targetClass.getName()), e);
+        }
+    }
+
+    private record ProjectionKey(Class<?> sourceClass, Class<?> targetClass, Set<String> includedFields) {
+    }
+}
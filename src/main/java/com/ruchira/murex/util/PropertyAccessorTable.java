@@ -0,0 +1,206 @@
+package com.ruchira.murex.util;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.SimpleTypeConverter;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.NumberUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Per-class table of precompiled property getters and setters
+ * <p>
+ * Built once per class on first use from the JavaBeans property descriptors (the same property names
+ * {@code BeanWrapperImpl} resolves) and cached in a {@link ClassValue}. Getters and setters are
+ * {@link MethodHandle}s adapted to {@code (Object) -> Object} and {@code (Object, Object) -> void},
+ * so property access needs no introspection or wrapper allocation.
+ * <p>
+ * Values are coerced to the property type explicitly: assignable values are set as is, numbers are
+ * converted between number types, non-blank strings are parsed into numbers, and primitive wrappers
+ * are rendered into strings. Any other conversion (blank strings and dates included) falls back to
+ * Spring's {@link SimpleTypeConverter}, which applies the same rules {@code BeanWrapperImpl} did.
+ */
+public final class PropertyAccessorTable {
+
+    private static final ClassValue<PropertyAccessorTable> TABLES = new ClassValue<>() {
+        @Override
+        protected PropertyAccessorTable computeValue(Class<?> type) {
+            return new PropertyAccessorTable(type);
+        }
+    };
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Class<?> type;
+    private final Map<String, PropertyAccessor> accessors;
+
+    private PropertyAccessorTable(Class<?> type) {
+        this.type = type;
+
+        Map<String, PropertyAccessor> table = new HashMap<>();
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        for (PropertyDescriptor descriptor : BeanUtils.getPropertyDescriptors(type)) {
+            MethodHandle getter = unreflect(lookup, descriptor.getReadMethod(), GETTER_TYPE);
+            MethodHandle setter = unreflect(lookup, descriptor.getWriteMethod(), SETTER_TYPE);
+            if (getter != null || setter != null) {
+                table.put(descriptor.getName(),
+                        new PropertyAccessor(descriptor.getName(), descriptor.getPropertyType(), getter, setter));
+            }
+        }
+        this.accessors = Collections.unmodifiableMap(table);
+    }
+
+    /**
+     * @param type Bean class
+     * @return The accessor table of the class, built on first use
+     */
+    public static PropertyAccessorTable forClass(Class<?> type) {
+        return TABLES.get(type);
+    }
+
+    /**
+     * @param propertyName Simple property name
+     * @return Accessor of the property, or {@code null} when the class has no such property
+     */
+    public PropertyAccessor accessor(String propertyName) {
+        return accessors.get(propertyName);
+    }
+
+    public boolean isReadable(String propertyName) {
+        PropertyAccessor accessor = accessors.get(propertyName);
+        return accessor != null && accessor.isReadable();
+    }
+
+    public boolean isWritable(String propertyName) {
+        PropertyAccessor accessor = accessors.get(propertyName);
+        return accessor != null && accessor.isWritable();
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    private static MethodHandle unreflect(MethodHandles.Lookup lookup, Method method, MethodType targetType) {
+        if (method == null) {
+            return null;
+        }
+        try {
+            // Same access rules as BeanWrapperImpl, which makes non-public accessors accessible
+            ReflectionUtils.makeAccessible(method);
+            return lookup.unreflect(method).asType(targetType);
+        } catch (IllegalAccessException | RuntimeException e) {
+            throw new IllegalStateException(String.format("Cannot access %s of %s", method.getName(), method.getDeclaringClass().getName()), e);
+        }
+    }
+
+    /**
+     * Precompiled getter/setter pair of a single property
+     */
+    public static final class PropertyAccessor {
+
+        private final String name;
+        private final Class<?> propertyType;
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+
+        private PropertyAccessor(String name, Class<?> propertyType, MethodHandle getter, MethodHandle setter) {
+            this.name = name;
+            this.propertyType = propertyType;
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Class<?> getPropertyType() {
+            return propertyType;
+        }
+
+        public boolean isReadable() {
+            return getter != null;
+        }
+
+        MethodHandle getGetter() {
+            return getter;
+        }
+
+        MethodHandle getSetter() {
+            return setter;
+        }
+
+        public boolean isWritable() {
+            return setter != null;
+        }
+
+        public Object get(Object target) {
+            if (getter == null) {
+                throw new IllegalStateException(String.format("Property %s is not readable", name));
+            }
+            try {
+                return (Object) getter.invokeExact(target);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(String.format("Failed to read property %s", name), e);
+            }
+        }
+
+        /**
+         * Sets the property, coercing the value to the property type
+         */
+        public void set(Object target, Object value) {
+            if (setter == null) {
+                throw new IllegalStateException(String.format("Property %s is not writable", name));
+            }
+            Object coerced = coerce(value);
+            try {
+                setter.invokeExact(target, coerced);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(String.format("Failed to write property %s", name), e);
+            }
+        }
+
+        private Object coerce(Object value) {
+            if (value == null) {
+                if (propertyType.isPrimitive()) {
+                    throw new IllegalArgumentException(
+                            String.format("Cannot set null on primitive property %s", name));
+                }
+                return null;
+            }
+
+            Class<?> targetType = ClassUtils.resolvePrimitiveIfNecessary(propertyType);
+            if (targetType.isInstance(value)) {
+                return value;
+            }
+
+            if (String.class == targetType && ClassUtils.isPrimitiveOrWrapper(value.getClass())) {
+                return value.toString();
+            }
+            if (Number.class.isAssignableFrom(targetType)) {
+                @SuppressWarnings("unchecked")
+                Class<? extends Number> numberType = (Class<? extends Number>) targetType;
+                if (value instanceof Number number) {
+                    return NumberUtils.convertNumberToTargetClass(number, numberType);
+                }
+                if (value instanceof String text && !text.isBlank()) {
+                    return NumberUtils.parseNumber(text.trim(), numberType);
+                }
+            }
+            return new SimpleTypeConverter().convertIfNecessary(value, propertyType);
+        }
+    }
+}
@@ -1,30 +1,109 @@
 package com.ruchira.murex.util;
 
 import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
 
-import java.time.Instant;
-import java.util.UUID;
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Utility class for generating unique trace IDs for DMC records
- * Provides multiple strategies for trace ID generation
+ * <p>
+ * IDs keep the original layout, {@code HAWK-<epoch seconds>-hhhh-hhhh-hhhh}, with the 48 hex bits
+ * composed Snowflake-style instead of taken from a random UUID:
+ * <ul>
+ *   <li>10 bits node id – distinguishes instances, configured through {@code app.trace-id.node-id}</li>
+ *   <li>38 bits sequence – a process-wide counter advanced with a single fetch-and-add</li>
+ * </ul>
+ * An ID is unique as long as node ids are unique and an instance issues fewer than 2^38 IDs within one
+ * second. IDs of one node sort by time and then issue order. Generation takes no lock and draws no
+ * random bytes, so it does not contend when many virtual threads generate IDs at once.
  */
 @UtilityClass
+@Slf4j
 public class TraceIdGenerator {
 
-    private final AtomicLong counter = new AtomicLong(0);
     private static final String PREFIX = "HAWK-";
+    private static final int NODE_ID_BITS = 10;
+    private static final int SEQUENCE_BITS = 38;
+    public static final int MAX_NODE_ID = (1 << NODE_ID_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private static final AtomicLong sequence = new AtomicLong();
+    private static volatile long nodeBits = (long) defaultNodeId() << SEQUENCE_BITS;
+
+    /**
+     * Sets the node id of this instance
+     *
+     * @param nodeId Value between 0 and {@link #MAX_NODE_ID}, unique across running instances
+     */
+    public static void setNodeId(int nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException(String.format("Trace id node id must be between 0 and %d, got %d", MAX_NODE_ID, nodeId));
+        }
+        nodeBits = (long) nodeId << SEQUENCE_BITS;
+    }
+
+    public static int getNodeId() {
+        return (int) (nodeBits >>> SEQUENCE_BITS);
+    }
 
     /**
-     * Generate a unique trace ID using timestamp and counter
-     * Format: HAWK-13477593729-4561-178873-27773
+     * Generate a unique trace ID using timestamp, node id and sequence
+     * Format: HAWK-1747759372-0c40-0000-1a2b
      *
      * @return Unique trace ID string with timestamp
      */
-    public String generateTimestampBasedTraceId() {
-        long currentTime = Instant.now().getEpochSecond();
-        return PREFIX.concat(String.valueOf(currentTime)).concat(UUID.randomUUID().toString().substring(8, 23));
+    public static String generateTimestampBasedTraceId() {
+        long epochSecond = System.currentTimeMillis() / 1000;
+        long bits = nodeBits | (sequence.getAndIncrement() & SEQUENCE_MASK);
+
+        int secondDigits = decimalDigits(epochSecond);
+        byte[] id = new byte[PREFIX.length() + secondDigits + 15];
+        int position = PREFIX.length();
+        for (int i = 0; i < position; i++) {
+            id[i] = (byte) PREFIX.charAt(i);
+        }
+
+        for (int i = position + secondDigits - 1; i >= position; i--) {
+            id[i] = (byte) ('0' + epochSecond % 10);
+            epochSecond /= 10;
+        }
+        position += secondDigits;
+
+        // Three dash-separated groups of four hex digits, most significant first
+        for (int group = 2; group >= 0; group--) {
+            id[position++] = '-';
+            for (int digit = 3; digit >= 0; digit--) {
+                id[position++] = HEX_DIGITS[(int) (bits >>> (group * 16 + digit * 4)) & 0xF];
+            }
+        }
+        return new String(id, StandardCharsets.ISO_8859_1);
+    }
+
+    private static int decimalDigits(long value) {
+        int digits = 1;
+        while (value >= 10) {
+            value /= 10;
+            digits++;
+        }
+        return digits;
     }
 
-}
\ No newline at end of file
+    /**
+     * Node id used until one is configured, derived from host name and process id. It is not guaranteed
+     * to differ between instances, so deployments running more than one instance set it explicitly.
+     */
+    private static int defaultNodeId() {
+        try {
+            String identity = InetAddress.getLocalHost().getHostName() + "/" + ManagementFactory.getRuntimeMXBean().getName();
+            return (identity.hashCode() & Integer.MAX_VALUE) % (MAX_NODE_ID + 1);
+        } catch (Exception e) {
+            log.warn("Could not derive trace id node id from host, using 0: {}", e.getMessage());
+            return 0;
+        }
+    }
+}
@@ -177,12 +177,21 @@ CREATE TABLE h_stg_mrx_ext_dmc (
     trace_id VARCHAR(100),
     instruction_rule_id VARCHAR(100),
     murex_book_code VARCHAR(100),
+    run_id VARCHAR(100),
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    INDEX idx_h_stg_mrx_ext_dmc_run_id (run_id)
 )ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
+-- Work table of the DMC write-behind stage. A running instruction commits its rows here as it
+-- transforms, then moves them into h_stg_mrx_ext_dmc by run_id inside the run's own transaction,
+-- so readers of h_stg_mrx_ext_dmc only ever see complete runs. Rows left behind by a crashed run
+-- are purged once older than app.persistence.dmc-pending-retention-hours.
+CREATE TABLE h_stg_mrx_ext_dmc_pending LIKE h_stg_mrx_ext_dmc;
+CREATE INDEX idx_h_stg_mrx_ext_dmc_pending_created_at ON h_stg_mrx_ext_dmc_pending (created_at);
+
 CREATE TABLE h_murex_booking (
-    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    id BIGINT PRIMARY KEY,
     trade_reference VARCHAR(100) NOT NULL,
     trade_execution_date DATE NOT NULL,
     trade_execution_time DATETIME NOT NULL,
@@ -197,12 +206,13 @@ CREATE TABLE h_murex_booking (
     split_cross CHAR(1),
     split_spot_swap CHAR(1),
     family_grp_type VARCHAR(50),
+    murex_booking_record LONGTEXT,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
 )ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
 CREATE TABLE h_murex_trade_leg (
-    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    id BIGINT PRIMARY KEY,
     trade_id BIGINT NOT NULL,
     leg_type ENUM('NEAR','FAR') NOT NULL,
     deal_ccy VARCHAR(10),
@@ -235,7 +245,7 @@ CREATE TABLE h_murex_trade_leg (
 )ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
 CREATE TABLE h_murex_trade_leg_component (
-    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    id BIGINT PRIMARY KEY,
     trade_leg_id BIGINT NOT NULL,
     currency_pair VARCHAR(10),
     market_spot_rate DECIMAL(20,8),
@@ -245,3 +255,196 @@ CREATE TABLE h_murex_trade_leg_component (
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
     FOREIGN KEY (trade_leg_id) REFERENCES h_murex_trade_leg(id) ON DELETE CASCADE
 );
+
+-- Groups transformed per business date, instruction event and currency, with a SHA-256
+-- fingerprint of their input rows. Incremental runs skip groups whose fingerprint is unchanged.
+CREATE TABLE h_processed_contract_ledger (
+    business_date VARCHAR(20) NOT NULL,
+    instruction_event VARCHAR(100) NOT NULL,
+    currency VARCHAR(20) NOT NULL,
+    contract VARCHAR(100) NOT NULL,
+    comment_0 VARCHAR(255) NOT NULL,
+    rule_id VARCHAR(100) NOT NULL,
+    input_fingerprint CHAR(64) NOT NULL,
+    processed_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    PRIMARY KEY (business_date, instruction_event, currency, contract, comment_0, rule_id)
+)ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- Next unallocated id per booking table. The application reserves ids in blocks
+-- (app.persistence.id-block-size) and assigns them to bookings, legs and components
+-- in memory, so whole trade trees are inserted without reading back generated keys.
+-- The booking tables have no AUTO_INCREMENT: every writer, including manual fixes and
+-- other jobs, must take its ids from this table (advance next_value under
+-- SELECT ... FOR UPDATE) or it will collide with ranges already handed out.
+CREATE TABLE h_id_allocation (
+    sequence_name VARCHAR(64) PRIMARY KEY,
+    next_value BIGINT NOT NULL
+)ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+INSERT INTO h_id_allocation (sequence_name, next_value)
+SELECT 'h_murex_booking', COALESCE(MAX(id), 0) + 1 FROM h_murex_booking
+UNION ALL
+SELECT 'h_murex_trade_leg', COALESCE(MAX(id), 0) + 1 FROM h_murex_trade_leg
+UNION ALL
+SELECT 'h_murex_trade_leg_component', COALESCE(MAX(id), 0) + 1 FROM h_murex_trade_leg_component;
+
+
+-- ---------------------------------------------------------------------------
+-- Lookup structures for aggregatedDataFetch.ftl
+--
+-- The aggregated fetch joins apportionment, entity and staging rows on
+-- normalised values. These persisted columns, the comment token table and the
+-- latest-trace table let it use plain equality joins on indexed columns.
+-- ---------------------------------------------------------------------------
+
+-- Case-normalised entity ids (replaces LOWER(ha.entity_id) = LOWER(he.entity_id))
+ALTER TABLE h_entity
+    ADD COLUMN entity_id_norm VARCHAR(100) AS (LOWER(entity_id)) PERSISTENT,
+    ADD INDEX idx_h_entity_entity_id_norm (entity_id_norm),
+    ADD INDEX idx_h_entity_entity_id (entity_id);
+
+ALTER TABLE h_apportionment
+    ADD COLUMN entity_id_norm VARCHAR(100) AS (LOWER(entity_id)) PERSISTENT,
+    ADD INDEX idx_h_apportionment_trace (exposure_currency, instruction_date, trace_id, entity_id_norm);
+
+ALTER TABLE h_net_asset_value
+    ADD INDEX idx_h_net_asset_value_entity_nav (entity_id, nav_type, business_date);
+
+-- Space-stripped, lower-cased comment (matches the tokens in h_entity_comment_token)
+ALTER TABLE stg_mrx_ext
+    ADD COLUMN comment0_norm VARCHAR(255) AS (LOWER(REPLACE(comment0, ' ', ''))) PERSISTENT,
+    ADD INDEX idx_stg_mrx_ext_contract_date (contract, dl_businessdate),
+    ADD INDEX idx_stg_mrx_ext_comment0_norm (comment0_norm);
+
+-- One row per comma-separated entry of h_entity.murex_comment, normalised like comment0_norm
+CREATE TABLE h_entity_comment_token (
+    comment_token VARCHAR(255) NOT NULL,
+    entity_id VARCHAR(100) NOT NULL,
+    PRIMARY KEY (comment_token, entity_id),
+    INDEX idx_h_entity_comment_token_entity (entity_id)
+)ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- Latest apportionment trace per (exposure_currency, instruction_date)
+CREATE TABLE h_apportionment_latest_trace (
+    exposure_currency VARCHAR(10) NOT NULL,
+    instruction_date DATE NOT NULL,
+    trace_id VARCHAR(100) NOT NULL,
+    PRIMARY KEY (exposure_currency, instruction_date)
+)ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+DELIMITER $$
+
+CREATE PROCEDURE refresh_h_entity_comment_token(IN p_entity_id VARCHAR(100))
+BEGIN
+    DELETE FROM h_entity_comment_token WHERE entity_id = p_entity_id;
+
+    INSERT INTO h_entity_comment_token (comment_token, entity_id)
+    WITH RECURSIVE tokens (entity_id, token, remainder) AS (
+        SELECT src.entity_id,
+               SUBSTRING_INDEX(src.comment_list, ',', 1),
+               IF(LOCATE(',', src.comment_list) > 0, SUBSTRING(src.comment_list, LOCATE(',', src.comment_list) + 1), NULL)
+        FROM (
+            SELECT entity_id, LOWER(REPLACE(murex_comment, ' ', '')) AS comment_list
+            FROM h_entity
+            WHERE entity_id = p_entity_id
+              AND murex_comment IS NOT NULL
+        ) src
+        UNION ALL
+        SELECT entity_id,
+               SUBSTRING_INDEX(remainder, ',', 1),
+               IF(LOCATE(',', remainder) > 0, SUBSTRING(remainder, LOCATE(',', remainder) + 1), NULL)
+        FROM tokens
+        WHERE remainder IS NOT NULL
+    )
+    SELECT DISTINCT token, entity_id
+    FROM tokens;
+END$$
+
+CREATE PROCEDURE refresh_h_apportionment_latest_trace(IN p_exposure_currency VARCHAR(10), IN p_instruction_date DATE)
+BEGIN
+    DELETE FROM h_apportionment_latest_trace
+    WHERE exposure_currency = p_exposure_currency
+      AND instruction_date = p_instruction_date;
+
+    INSERT INTO h_apportionment_latest_trace (exposure_currency, instruction_date, trace_id)
+    SELECT exposure_currency, instruction_date, MAX(trace_id)
+    FROM h_apportionment
+    WHERE exposure_currency = p_exposure_currency
+      AND instruction_date = p_instruction_date
+      AND trace_id IS NOT NULL
+    GROUP BY exposure_currency, instruction_date;
+END$$
+
+CREATE TRIGGER trg_h_entity_comment_token_ai AFTER INSERT ON h_entity
+FOR EACH ROW
+BEGIN
+    CALL refresh_h_entity_comment_token(NEW.entity_id);
+END$$
+
+CREATE TRIGGER trg_h_entity_comment_token_au AFTER UPDATE ON h_entity
+FOR EACH ROW
+BEGIN
+    CALL refresh_h_entity_comment_token(NEW.entity_id);
+    IF NOT (OLD.entity_id <=> NEW.entity_id) THEN
+        CALL refresh_h_entity_comment_token(OLD.entity_id);
+    END IF;
+END$$
+
+CREATE TRIGGER trg_h_entity_comment_token_ad AFTER DELETE ON h_entity
+FOR EACH ROW
+BEGIN
+    CALL refresh_h_entity_comment_token(OLD.entity_id);
+END$$
+
+CREATE TRIGGER trg_h_apportionment_latest_trace_ai AFTER INSERT ON h_apportionment
+FOR EACH ROW
+BEGIN
+    CALL refresh_h_apportionment_latest_trace(NEW.exposure_currency, NEW.instruction_date);
+END$$
+
+CREATE TRIGGER trg_h_apportionment_latest_trace_au AFTER UPDATE ON h_apportionment
+FOR EACH ROW
+BEGIN
+    CALL refresh_h_apportionment_latest_trace(NEW.exposure_currency, NEW.instruction_date);
+    IF NOT (OLD.exposure_currency <=> NEW.exposure_currency AND OLD.instruction_date <=> NEW.instruction_date) THEN
+        CALL refresh_h_apportionment_latest_trace(OLD.exposure_currency, OLD.instruction_date);
+    END IF;
+END$$
+
+CREATE TRIGGER trg_h_apportionment_latest_trace_ad AFTER DELETE ON h_apportionment
+FOR EACH ROW
+BEGIN
+    CALL refresh_h_apportionment_latest_trace(OLD.exposure_currency, OLD.instruction_date);
+END$$
+
+DELIMITER ;
+
+-- Backfill from rows loaded before the triggers existed
+INSERT INTO h_entity_comment_token (comment_token, entity_id)
+WITH RECURSIVE tokens (entity_id, token, remainder) AS (
+    SELECT src.entity_id,
+           SUBSTRING_INDEX(src.comment_list, ',', 1),
+           IF(LOCATE(',', src.comment_list) > 0, SUBSTRING(src.comment_list, LOCATE(',', src.comment_list) + 1), NULL)
+    FROM (
+        SELECT entity_id, LOWER(REPLACE(murex_comment, ' ', '')) AS comment_list
+        FROM h_entity
+        WHERE entity_id IS NOT NULL
+          AND murex_comment IS NOT NULL
+    ) src
+    UNION ALL
+    SELECT entity_id,
+           SUBSTRING_INDEX(remainder, ',', 1),
+           IF(LOCATE(',', remainder) > 0, SUBSTRING(remainder, LOCATE(',', remainder) + 1), NULL)
+    FROM tokens
+    WHERE remainder IS NOT NULL
+)
+SELECT DISTINCT token, entity_id
+FROM tokens;
+
+INSERT INTO h_apportionment_latest_trace (exposure_currency, instruction_date, trace_id)
+SELECT exposure_currency, instruction_date, MAX(trace_id)
+FROM h_apportionment
+WHERE exposure_currency IS NOT NULL
+  AND instruction_date IS NOT NULL
+  AND trace_id IS NOT NULL
+GROUP BY exposure_currency, instruction_date;
@@ -1,10 +1,14 @@
-<#-- Input parameters expected in the model:
+<#-- Named bind parameters expected in the model (values are bound, never rendered):
     businessDate        : string (e.g. '2025-08-20')
-    contractList        : list of strings (e.g. ['123456','123457'])
+    contractList        : list of strings (e.g. ['123456','123457']), expanded into the IN-list by the driver
     typologyMx3         : string (e.g. 'FX Swap')
     inputCurrency       : string (e.g. 'HKD')
     USDCurrency         : string (e.g. 'USD')
     tradingPortf        : string (e.g. 'SG BANK SFX')
+
+    Joins rely on the lookup structures defined in create.sql:
+    stg_mrx_ext.comment0_norm, h_entity_comment_token, h_entity/h_apportionment.entity_id_norm
+    and h_apportionment_latest_trace.
 -->
 
 SELECT
@@ -105,40 +109,34 @@ SELECT
     he.entity_type as entityType,
     he.entity_id as entityId,
     he.murex_comment as murexComment
-FROM h_apportionment ha
+FROM stg_mrx_ext hstg
+JOIN h_entity_comment_token hct
+    ON hct.comment_token = hstg.comment0_norm
 JOIN h_entity he
-    ON LOWER(ha.entity_id) = LOWER(he.entity_id)
+    ON he.entity_id = hct.entity_id
+JOIN h_apportionment_latest_trace hlt
+    ON hlt.exposure_currency = :inputCurrency
+   AND hlt.instruction_date = :businessDate
+JOIN h_apportionment ha
+    ON ha.exposure_currency = hlt.exposure_currency
+   AND ha.instruction_date = hlt.instruction_date
+   AND ha.trace_id = hlt.trace_id
+   AND ha.entity_id_norm = he.entity_id_norm
 JOIN h_net_asset_value hn
     ON hn.entity_id = he.entity_id
    AND hn.nav_type  = ha.nav_type
-   AND hn.business_date = '${businessDate}'
-JOIN stg_mrx_ext hstg
-    ON hstg.contract IN (
-        <#list contractList as c>
-            '${c}'<#if c_has_next>,</#if>
-        </#list>
-    )
-   AND hstg.dl_businessdate = '${businessDate}'
-   AND FIND_IN_SET(
-        LOWER(REPLACE(hstg.comment0, ' ', '')) COLLATE utf8mb4_unicode_ci,
-        LOWER(REPLACE(he.murex_comment, ' ', '')) COLLATE utf8mb4_unicode_ci
-    ) > 0
-WHERE ha.exposure_currency = '${inputCurrency}'
-  AND ha.instruction_date = '${businessDate}'
-  AND ha.trace_id = (
-                SELECT MAX(hap.trace_id)
-                FROM h_apportionment hap
-                WHERE hap.exposure_currency = ha.exposure_currency
-                    AND hap.instruction_date = ha.instruction_date
-       )
+   AND hn.business_date = :businessDate
+WHERE hstg.contract IN (:contractList)
+  AND hstg.dl_businessdate = :businessDate
   AND (
-        hstg.typology_mx3 <> '${typologyMx3}'
+        hstg.typology_mx3 <> :typologyMx3
         OR (
-            hstg.typology_mx3 = '${typologyMx3}'
-            AND hstg.trading_portf = '${tradingPortf}'
+            hstg.typology_mx3 = :typologyMx3
+            AND hstg.trading_portf = :tradingPortf
             AND (
-                   (hstg.curr_2 = '${inputCurrency}' AND hstg.curr_1 = '${USDCurrency}')
-                OR (hstg.curr_1 = '${inputCurrency}' AND hstg.curr_2 = '${USDCurrency}')
+                   (hstg.curr_2 = :inputCurrency AND hstg.curr_1 = :USDCurrency)
+                OR (hstg.curr_1 = :inputCurrency AND hstg.curr_2 = :USDCurrency)
             )
         )
-  );
\ No newline at end of file
+  )
+ORDER BY BINARY hstg.contract, BINARY hstg.comment0, BINARY ha.nav_type;
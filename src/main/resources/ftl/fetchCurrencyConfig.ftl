@@ -1,4 +1,4 @@
-<#-- Input parameters expected in the model:
+<#-- Named bind parameters expected in the model:
     isActive           : int    (e.g. 1)
     currency      : string (e.g. HKD)
 -->
@@ -8,5 +8,5 @@ SELECT
     functional_currency as functionalCurrency,
     currency_category as currencyCategory
 FROM currency
-WHERE functional_currency = '${currency}'
-AND is_active = '${isActive}'
\ No newline at end of file
+WHERE functional_currency = :currency
+AND is_active = :isActive
\ No newline at end of file
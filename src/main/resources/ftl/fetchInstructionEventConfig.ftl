@@ -1,5 +1,5 @@
 <#--
-Input parameters expected in the model:
+Named bind parameters expected in the model:
     businessEvent       : string (e.g. 'Inception')
     hedgingInstrument   : string e.g.  'FX Spot')
     hedgeMethod          : string (e.g. 'COH')
@@ -19,18 +19,18 @@ SELECT
 FROM h_business_event_config
 WHERE 1=1
 <#if businessEvent??>
-  AND business_event = '${businessEvent}'
+  AND business_event = :businessEvent
 </#if>
 <#if hedgeMethod??>
-  AND hedge_method = '${hedgeMethod}'
+  AND hedge_method = :hedgeMethod
 </#if>
 <#if hedgingInstrument??>
-  AND hedging_instrument = '${hedgingInstrument}'
+  AND hedging_instrument = :hedgingInstrument
 </#if>
 <#if currencyType??>
-  AND currency_type = '${currencyType}'
+  AND currency_type = :currencyType
 </#if>
 <#if status??>
-  AND status = ${status}
+  AND status = :status
 </#if>
 ORDER BY nav_type
\ No newline at end of file
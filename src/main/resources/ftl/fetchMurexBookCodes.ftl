@@ -1,5 +1,5 @@
 <#--
-Input parameters expected in the model:
+Named bind parameters expected in the model:
     ruleId : string (e.g. 'RULE_1')
 -->
 
@@ -12,5 +12,5 @@ FROM murex_book_config mcfg
 WHERE mcfg.murex_book_code IN (
     SELECT rbm.mx_booking_code
     FROM rule_mx_book_map rbm
-    WHERE rbm.rule_id = '${ruleId}'
+    WHERE rbm.rule_id = :ruleId
 )
\ No newline at end of file
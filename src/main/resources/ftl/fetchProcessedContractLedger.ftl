@@ -0,0 +1,15 @@
+<#-- Named bind parameters expected in the model:
+    businessDate     : string
+    instructionEvent : string
+    currency         : string
+-->
+
+SELECT
+    contract as contract,
+    comment_0 as comment0,
+    rule_id as ruleId,
+    input_fingerprint as inputFingerprint
+FROM h_processed_contract_ledger
+WHERE business_date = :businessDate
+  AND instruction_event = :instructionEvent
+  AND currency = :currency
@@ -0,0 +1,8 @@
+<#-- Named bind parameters expected in the model:
+    sequenceName : string (row of h_id_allocation locked by idAllocationSelectForUpdate.ftl)
+    blockSize    : long (number of ids reserved)
+-->
+
+UPDATE h_id_allocation
+SET next_value = next_value + :blockSize
+WHERE sequence_name = :sequenceName
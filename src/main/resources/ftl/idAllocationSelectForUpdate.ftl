@@ -0,0 +1,9 @@
+<#-- Named bind parameters expected in the model:
+    sequenceName : string (row of h_id_allocation to reserve from)
+-->
+
+SELECT
+    next_value as nextValue
+FROM h_id_allocation
+WHERE sequence_name = :sequenceName
+FOR UPDATE
@@ -1,4 +1,5 @@
 INSERT INTO h_murex_booking (
+    id,
     trade_reference,
     trade_execution_date,
     trade_execution_time,
@@ -15,6 +16,7 @@ INSERT INTO h_murex_booking (
     family_grp_type,
     murex_booking_record
 ) VALUES (
+    :id,
     :tradeReference,
     :tradeExecutionDate,
     :tradeExecutionTime,
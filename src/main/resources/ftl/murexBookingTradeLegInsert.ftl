@@ -1,4 +1,5 @@
 INSERT INTO h_murex_trade_leg (
+    id,
     trade_id,
     leg_type,
     deal_ccy,
@@ -26,6 +27,7 @@ INSERT INTO h_murex_trade_leg (
     comment1,
     comment2
 ) VALUES (
+    :id,
     :tradeId,
     :legType,
     :dealCcy,
@@ -0,0 +1,26 @@
+<#-- Named bind parameters expected per batch entry:
+    businessDate, instructionEvent, currency : string (run scope)
+    contract, comment0, ruleId               : string (processed group)
+    inputFingerprint                         : string (SHA-256 hex of the group's input rows)
+-->
+
+INSERT INTO h_processed_contract_ledger (
+    business_date,
+    instruction_event,
+    currency,
+    contract,
+    comment_0,
+    rule_id,
+    input_fingerprint
+) VALUES (
+    :businessDate,
+    :instructionEvent,
+    :currency,
+    :contract,
+    :comment0,
+    :ruleId,
+    :inputFingerprint
+)
+ON DUPLICATE KEY UPDATE
+    input_fingerprint = VALUES(input_fingerprint),
+    processed_at = CURRENT_TIMESTAMP
@@ -87,7 +87,8 @@ INSERT INTO h_stg_mrx_ext_dmc (
     historical_exchange_rate,
     trace_id,
     instruction_rule_id,
-    murex_book_code
+    murex_book_code,
+    run_id
 ) VALUES (
     :txnId,
     :mxProdCd,
@@ -177,5 +178,6 @@ INSERT INTO h_stg_mrx_ext_dmc (
     :historicalExchangeRate,
     :traceId,
     :instructionRuleId,
-    :murexBookCode
+    :murexBookCode,
+    :runId
 );
@@ -0,0 +1,6 @@
+<#-- Named bind parameters expected in the model:
+    runId : string (run whose pending DMC rows are removed)
+-->
+
+DELETE FROM h_stg_mrx_ext_dmc_pending
+WHERE run_id = :runId
@@ -0,0 +1,6 @@
+<#-- Named bind parameters expected in the model:
+    retentionHours : integer (pending DMC rows older than this are left over from crashed runs)
+-->
+
+DELETE FROM h_stg_mrx_ext_dmc_pending
+WHERE created_at < NOW() - INTERVAL :retentionHours HOUR
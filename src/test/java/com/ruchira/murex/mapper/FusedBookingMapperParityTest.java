@@ -0,0 +1,123 @@
+package com.ruchira.murex.mapper;
+
+import com.ruchira.murex.kafka.model.HAWKMurexBookingRecord;
+import com.ruchira.murex.kafka.model.HAWKMurexBookingTradeLeg;
+import com.ruchira.murex.model.TransformedMurexTrade;
+import com.ruchira.murex.model.trade.BookedTrade;
+import com.ruchira.murex.model.trade.MurexTrade;
+import com.ruchira.murex.model.trade.MurexTradeLeg;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.ruchira.murex.constant.Constants.BLENDED_HISTORICAL_EXCHANGE_RATE;
+import static com.ruchira.murex.constant.Constants.FAR_LEG_TYPE;
+import static com.ruchira.murex.constant.Constants.NEAR_LEG_TYPE;
+import static com.ruchira.murex.constant.Constants.SPOT_OUTBOUND_GROUP;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that {@link FusedBookingMapper} produces the same trade trees as the reference chain
+ * {@link MurexTradeRecordMapper} then {@link HawkMurexBookingMapper}
+ */
+class FusedBookingMapperParityTest {
+
+    private final MurexTradeRecordMapper murexTradeRecordMapper = Mappers.getMapper(MurexTradeRecordMapper.class);
+    private final HawkMurexBookingMapper hawkMurexBookingMapper = Mappers.getMapper(HawkMurexBookingMapper.class);
+    private final FusedBookingMapper fusedBookingMapper = new FusedBookingMapper();
+
+    @Test
+    void singleLegMatchesReferenceMappers() {
+        TransformedMurexTrade spot = transformedTrade(SPOT_OUTBOUND_GROUP, "B", NEAR_LEG_TYPE);
+        spot.setExchangeRateType(BLENDED_HISTORICAL_EXCHANGE_RATE);
+
+        BookedTrade fused = fusedBookingMapper.mapSingleLeg(spot);
+        MurexTrade reference = referenceMurexTrade(List.of(spot));
+
+        assertThat(fused.getMurexTrade()).usingRecursiveComparison().isEqualTo(reference);
+        assertThat(fused.getHawkBookingRecord()).usingRecursiveComparison().isEqualTo(referenceHawkRecord(reference));
+    }
+
+    @Test
+    void nearAndFarLegsMatchReferenceMappers() {
+        TransformedMurexTrade near = transformedTrade("SWAP", "B", NEAR_LEG_TYPE);
+        TransformedMurexTrade far = transformedTrade("SWAP", "S", FAR_LEG_TYPE);
+        far.setValueDte(LocalDate.of(2025, 9, 17));
+        far.setFwswPoints(new BigDecimal("0.00125"));
+
+        BookedTrade fused = fusedBookingMapper.mapLegs(List.of(near, far));
+        MurexTrade reference = referenceMurexTrade(List.of(near, far));
+
+        assertThat(fused.getMurexTrade()).usingRecursiveComparison().isEqualTo(reference);
+        assertThat(fused.getHawkBookingRecord()).usingRecursiveComparison().isEqualTo(referenceHawkRecord(reference));
+    }
+
+    private MurexTrade referenceMurexTrade(List<TransformedMurexTrade> trades) {
+        MurexTrade murexTrade = murexTradeRecordMapper.toMurexTrade(trades.getFirst());
+        trades.forEach(tradeLeg -> {
+            MurexTradeLeg murexTradeLeg = murexTradeRecordMapper.toMurexTradeLeg(tradeLeg);
+            murexTradeLeg.setComponents(List.of(murexTradeRecordMapper.toMurexTradeLegComponent(tradeLeg)));
+            murexTradeLeg.setAdditionalFields(murexTradeRecordMapper.toMurexTradeLegAdditionalFields(tradeLeg));
+            if (NEAR_LEG_TYPE.equals(tradeLeg.getLegIdentificationType())) {
+                murexTrade.setNearLeg(murexTradeLeg);
+            } else {
+                murexTrade.setFarLeg(murexTradeLeg);
+            }
+        });
+        return murexTrade;
+    }
+
+    private HAWKMurexBookingRecord referenceHawkRecord(MurexTrade murexTrade) {
+        HAWKMurexBookingRecord hawkRecord = hawkMurexBookingMapper.toHawkMurexBooking(murexTrade);
+        if (murexTrade.getNearLeg() != null) {
+            hawkRecord.setNearLeg(referenceHawkLeg(murexTrade.getNearLeg()));
+        }
+        if (murexTrade.getFarLeg() != null) {
+            hawkRecord.setFarLeg(referenceHawkLeg(murexTrade.getFarLeg()));
+        }
+        return hawkRecord;
+    }
+
+    private HAWKMurexBookingTradeLeg referenceHawkLeg(MurexTradeLeg tradeLeg) {
+        HAWKMurexBookingTradeLeg leg = hawkMurexBookingMapper.toHawkMurexTradeLeg(tradeLeg);
+        leg.setComponents(hawkMurexBookingMapper.toHawkMurexTradeLegComponents(tradeLeg.getComponents()));
+        leg.setAdditionalFields(hawkMurexBookingMapper.toHawkMurexTradeLegAdditionalFields(tradeLeg.getAdditionalFields()));
+        return leg;
+    }
+
+    private static TransformedMurexTrade transformedTrade(String outboundProduct, String bsIndicator, String legType) {
+        TransformedMurexTrade trade = new TransformedMurexTrade();
+        trade.setTraceId("TRC-20250815-0001");
+        trade.setTxnId("TXN-778812");
+        trade.setTransDte(LocalDate.of(2025, 8, 15));
+        trade.setDealTime(LocalDateTime.of(2025, 8, 15, 10, 42, 7));
+        trade.setValueDte(LocalDate.of(2025, 8, 19));
+        trade.setFixDate(LocalDate.of(2025, 8, 18));
+        trade.setOutboundProduct(outboundProduct);
+        trade.setFamilyGrpType("CURR");
+        trade.setTradingPortf("HKG_FX_HEDGE");
+        trade.setCtpy("SGP_TREASURY");
+        trade.setBsIndicator(bsIndicator);
+        trade.setCurr1("USD");
+        trade.setCurr2("HKD");
+        trade.setBuyTransAmt(new BigDecimal("1250000.00"));
+        trade.setSellTransAmt(new BigDecimal("9781250.00"));
+        trade.setInitPrice(new BigDecimal("7.8250"));
+        trade.setSpotRate(new BigDecimal("7.8231"));
+        trade.setHistoricalExchangeRate(new BigDecimal("7.8012"));
+        trade.setMarketSpotRate1(new BigDecimal("7.8240"));
+        trade.setFwswPoints(new BigDecimal("0.00042"));
+        trade.setInstrumentCode("USD/HKD");
+        trade.setSourceSystem("HAWK");
+        trade.setTraderId("TR042");
+        trade.setComment0("NIH-2025-08");
+        trade.setComment1("Net investment hedge");
+        trade.setComment2("Rebalance");
+        trade.setLegIdentificationType(legType);
+        return trade;
+    }
+}
@@ -0,0 +1,173 @@
+package com.ruchira.murex.repository.rowmapper;
+
+import com.ruchira.murex.model.AggregatedDataResponse;
+import com.ruchira.murex.model.Currency;
+import com.ruchira.murex.model.InstructionEventConfig;
+import com.ruchira.murex.model.MurexBookingConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.BeanUtils;
+import org.springframework.jdbc.core.BeanPropertyRowMapper;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.beans.PropertyDescriptor;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Checks that the index-based mappers of {@link EntityRowMappers} populate every property exactly as
+ * {@link BeanPropertyRowMapper} does, for rows with values and rows of SQL {@code NULL}s
+ */
+class EntityRowMappersParityTest {
+
+    @Test
+    void aggregatedDataMatchesBeanPropertyRowMapper() throws SQLException {
+        List<PropertyDescriptor> properties = writableProperties(AggregatedDataResponse.class);
+        assertThat(properties).hasSize(94);
+
+        assertParity(AggregatedDataResponse.class, properties, EntityRowMappers::aggregatedDataRowMapper);
+    }
+
+    @Test
+    void murexBookingConfigMatchesBeanPropertyRowMapper() throws SQLException {
+        assertParity(MurexBookingConfig.class, writableProperties(MurexBookingConfig.class),
+                EntityRowMappers::murexBookingConfigRowMapper);
+    }
+
+    @Test
+    void instructionEventConfigMatchesBeanPropertyRowMapper() throws SQLException {
+        assertParity(InstructionEventConfig.class, writableProperties(InstructionEventConfig.class),
+                EntityRowMappers::instructionEventConfigRowMapper);
+    }
+
+    @Test
+    void currencyMatchesBeanPropertyRowMapper() throws SQLException {
+        assertParity(Currency.class, writableProperties(Currency.class), EntityRowMappers::currencyRowMapper);
+    }
+
+    @Test
+    void unknownColumnsAreIgnoredAndColumnOrderDoesNotMatter() throws SQLException {
+        List<String> labels = List.of("unmapped_column", "CURRENCY_CATEGORY", "functional_currency", "originalCurrency");
+        Object[] values = {"ignored", "G10", "USD", "HKD"};
+
+        ResultSet rs = resultSet(labels, values);
+        Currency indexed = EntityRowMappers.currencyRowMapper().mapRow(rs, 0);
+        Currency reference = BeanPropertyRowMapper.newInstance(Currency.class).mapRow(resultSet(labels, values), 0);
+
+        assertThat(indexed).usingRecursiveComparison().isEqualTo(reference);
+        assertThat(indexed.getOriginalCurrency()).isEqualTo("HKD");
+    }
+
+    private static <T> void assertParity(Class<T> type, List<PropertyDescriptor> properties,
+                                         Supplier<RowMapper<T>> indexedMapper) throws SQLException {
+        List<String> labels = properties.stream().map(pd -> underscoreName(pd.getName())).toList();
+        Object[] values = new Object[properties.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = sampleValue(properties.get(i).getPropertyType(), i);
+        }
+        Object[] nulls = new Object[properties.size()];
+
+        // One mapper per query, reused across rows, as the repository does
+        RowMapper<T> indexed = indexedMapper.get();
+        RowMapper<T> reference = BeanPropertyRowMapper.newInstance(type);
+
+        T indexedRow = indexed.mapRow(resultSet(labels, values), 0);
+        T referenceRow = reference.mapRow(resultSet(labels, values), 0);
+        assertThat(referenceRow).hasNoNullFieldsOrProperties();
+        assertThat(indexedRow).usingRecursiveComparison().isEqualTo(referenceRow);
+
+        T indexedNullRow = indexed.mapRow(resultSet(labels, nulls), 1);
+        T referenceNullRow = reference.mapRow(resultSet(labels, nulls), 1);
+        assertThat(indexedNullRow).usingRecursiveComparison().isEqualTo(referenceNullRow);
+    }
+
+    private static List<PropertyDescriptor> writableProperties(Class<?> type) {
+        return Arrays.stream(BeanUtils.getPropertyDescriptors(type))
+                .filter(pd -> pd.getWriteMethod() != null)
+                .toList();
+    }
+
+    private static Object sampleValue(Class<?> propertyType, int index) {
+        if (propertyType == String.class) {
+            return "value-" + index;
+        }
+        if (propertyType == BigDecimal.class) {
+            return new BigDecimal(index + ".125");
+        }
+        if (propertyType == LocalDate.class) {
+            return LocalDate.of(2025, 1, 1).plusDays(index);
+        }
+        if (propertyType == LocalDateTime.class) {
+            return LocalDateTime.of(2025, 1, 1, 9, 30).plusMinutes(index);
+        }
+        if (propertyType == Long.class) {
+            return 1000L + index;
+        }
+        if (propertyType == Byte.class) {
+            return (byte) index;
+        }
+        throw new IllegalArgumentException("No sample value for " + propertyType);
+    }
+
+    /**
+     * Same column naming as {@code BeanPropertyRowMapper#underscoreName}: an underscore before each upper case letter
+     */
+    private static String underscoreName(String property) {
+        StringBuilder name = new StringBuilder();
+        for (char c : property.toCharArray()) {
+            if (Character.isUpperCase(c)) {
+                name.append('_').append(Character.toLowerCase(c));
+            } else {
+                name.append(c);
+            }
+        }
+        return name.toString();
+    }
+
+    /**
+     * Mocked single-row result set answering the typed getters from {@code values}, with the JDBC null semantics
+     * of {@link ResultSet#wasNull()} and zero defaults for primitive getters
+     */
+    private static ResultSet resultSet(List<String> labels, Object[] values) throws SQLException {
+        ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        when(metaData.getColumnCount()).thenReturn(labels.size());
+        when(metaData.getColumnLabel(anyInt())).thenAnswer(inv -> labels.get(inv.<Integer>getArgument(0) - 1));
+        when(metaData.getColumnName(anyInt())).thenAnswer(inv -> labels.get(inv.<Integer>getArgument(0) - 1));
+
+        boolean[] lastWasNull = new boolean[1];
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getMetaData()).thenReturn(metaData);
+        when(rs.wasNull()).thenAnswer(inv -> lastWasNull[0]);
+        when(rs.getString(anyInt())).thenAnswer(inv -> read(values, inv.getArgument(0), lastWasNull));
+        when(rs.getBigDecimal(anyInt())).thenAnswer(inv -> read(values, inv.getArgument(0), lastWasNull));
+        when(rs.getObject(anyInt())).thenAnswer(inv -> read(values, inv.getArgument(0), lastWasNull));
+        when(rs.getObject(anyInt(), any(Class.class))).thenAnswer(inv -> read(values, inv.getArgument(0), lastWasNull));
+        when(rs.getLong(anyInt())).thenAnswer(inv -> {
+            Object value = read(values, inv.getArgument(0), lastWasNull);
+            return value == null ? 0L : ((Number) value).longValue();
+        });
+        when(rs.getByte(anyInt())).thenAnswer(inv -> {
+            Object value = read(values, inv.getArgument(0), lastWasNull);
+            return value == null ? (byte) 0 : ((Number) value).byteValue();
+        });
+        return rs;
+    }
+
+    private static Object read(Object[] values, int index, boolean[] lastWasNull) {
+        Object value = values[index - 1];
+        lastWasNull[0] = value == null;
+        return value;
+    }
+}
@@ -0,0 +1,202 @@
+package com.ruchira.murex.service;
+
+import com.ruchira.murex.dto.InstructionRequestDto;
+import com.ruchira.murex.freemaker.FtlQueryBuilder;
+import com.ruchira.murex.freemaker.ParameterizedQuery;
+import com.ruchira.murex.model.AggregatedDataResponse;
+import com.ruchira.murex.model.GroupedRecord;
+import com.ruchira.murex.model.batch.TradeRowBatch;
+import com.ruchira.murex.repository.GenericJdbcDataRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static com.ruchira.murex.constant.Constants.FETCH_PROCESSED_CONTRACT_LEDGER_FTL_FILE;
+import static com.ruchira.murex.constant.Constants.FX_NDF_TYPOLOGY;
+import static com.ruchira.murex.constant.Constants.FX_SPOT_TYPOLOGY;
+import static com.ruchira.murex.constant.Constants.UPSERT_PROCESSED_CONTRACT_LEDGER_FTL_FILE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs a full run followed by an incremental run through {@link ProcessedContractLedger}, feeding the rows the
+ * first run recorded back as the ledger of the second
+ */
+class ProcessedContractLedgerTest {
+
+    private static final String RULE_ID = "RULE-1";
+    private static final String UPSERT_SQL = "UPSERT LEDGER";
+    private static final String FETCH_SQL = "FETCH LEDGER";
+
+    private final GenericJdbcDataRepository repository = mock(GenericJdbcDataRepository.class);
+    private final FtlQueryBuilder ftlQueryBuilder = mock(FtlQueryBuilder.class);
+    private final ProcessedContractLedger ledger = new ProcessedContractLedger(repository, ftlQueryBuilder);
+
+    @BeforeEach
+    void setUp() {
+        when(ftlQueryBuilder.buildQuery(anyMap(), eq(UPSERT_PROCESSED_CONTRACT_LEDGER_FTL_FILE))).thenReturn(UPSERT_SQL);
+        when(ftlQueryBuilder.buildParameterizedQuery(anyMap(), eq(FETCH_PROCESSED_CONTRACT_LEDGER_FTL_FILE)))
+                .thenReturn(new ParameterizedQuery(FETCH_SQL, new MapSqlParameterSource()));
+    }
+
+    @Test
+    void fullRunLoadsNothingAndSkipsNothing() {
+        GroupedRecord group = group("C1", "NIH-1", "NAV", "FX Swap", "100.00");
+
+        ProcessedContractLedger.Run run = ledger.open(request(false));
+
+        assertThat(run.isUnchanged(run.entryFor(group, RULE_ID, List.of()))).isFalse();
+        verify(repository, never()).fetchData(anyString(), any(SqlParameterSource.class), any(RowMapper.class));
+    }
+
+    @Test
+    void incrementalRunSkipsUnchangedGroupsAndProcessesChangedAndNewOnes() throws SQLException {
+        GroupedRecord unchanged = group("C1", "NIH-1", "NAV", "FX Swap", "100.00", "250.50");
+        GroupedRecord changed = group("C2", "NIH-1", "NAV", "FX Swap", "300.00");
+        SqlParameterSource[] recorded = fullRun(List.of(unchanged, changed), List.of());
+
+        GroupedRecord unchangedReordered = group("C1", "NIH-1", "NAV", "FX Swap", "250.50", "100.00");
+        GroupedRecord changedNow = group("C2", "NIH-1", "NAV", "FX Swap", "300.01");
+        GroupedRecord added = group("C3", "NIH-1", "NAV", "FX Swap", "50.00");
+        ProcessedContractLedger.Run run = openIncremental(recorded);
+
+        assertThat(run.isUnchanged(run.entryFor(unchangedReordered, RULE_ID, List.of()))).isTrue();
+        assertThat(run.isUnchanged(run.entryFor(changedNow, RULE_ID, List.of()))).isFalse();
+        assertThat(run.isUnchanged(run.entryFor(added, RULE_ID, List.of()))).isFalse();
+        assertThat(run.isUnchanged(run.entryFor(unchangedReordered, "RULE-2", List.of()))).isFalse();
+    }
+
+    @Test
+    void changedSpotGroupInvalidatesTheNdfGroupsMatchingIt() throws SQLException {
+        GroupedRecord ndf = group("NDF-1", "NIH-1", "NAV", FX_NDF_TYPOLOGY, "1000.00");
+        GroupedRecord matchingSpot = group("SPOT-1", "NIH-1", "NAV", FX_SPOT_TYPOLOGY, "400.00");
+        GroupedRecord otherSpot = group("SPOT-2", "NIH-2", "NAV", FX_SPOT_TYPOLOGY, "700.00");
+        List<GroupedRecord> spots = List.of(matchingSpot, otherSpot);
+        SqlParameterSource[] recorded = fullRun(List.of(ndf, matchingSpot, otherSpot), spots);
+
+        // Only the spot group of another comment0 changes: the NDF group is still unchanged
+        List<GroupedRecord> otherSpotChanged = List.of(matchingSpot, group("SPOT-2", "NIH-2", "NAV", FX_SPOT_TYPOLOGY, "701.00"));
+        ProcessedContractLedger.Run run = openIncremental(recorded);
+        assertThat(run.isUnchanged(run.entryFor(ndf, RULE_ID, otherSpotChanged))).isTrue();
+
+        // The spot group the NDF leg is matched against changes: both are processed again
+        GroupedRecord matchingSpotChanged = group("SPOT-1", "NIH-1", "NAV", FX_SPOT_TYPOLOGY, "401.00");
+        List<GroupedRecord> matchingSpotChangedList = List.of(matchingSpotChanged, otherSpot);
+        run = openIncremental(recorded);
+        assertThat(run.isUnchanged(run.entryFor(matchingSpotChanged, RULE_ID, matchingSpotChangedList))).isFalse();
+        assertThat(run.isUnchanged(run.entryFor(ndf, RULE_ID, matchingSpotChangedList))).isFalse();
+    }
+
+    @Test
+    void groupsWithAFailedTradeAreLeftOutOfTheCommit() {
+        GroupedRecord published = group("C1", "NIH-1", "NAV", "FX Swap", "100.00");
+        GroupedRecord partlyFailed = group("C2", "NIH-1", "NAV", "FX Swap", "200.00");
+        ProcessedContractLedger.Run run = ledger.open(request(false));
+
+        run.markProcessed(run.entryFor(published, RULE_ID, List.of()), List.of("T1"));
+        run.markProcessed(run.entryFor(partlyFailed, RULE_ID, List.of()), List.of("T2", "T3"));
+        run.commit(Set.of("T3"));
+
+        SqlParameterSource[] committed = captureCommit();
+        assertThat(committed).hasSize(1);
+        assertThat(committed[0].getValue("contract")).isEqualTo("C1");
+        assertThat(committed[0].getValue("ruleId")).isEqualTo(RULE_ID);
+        assertThat(committed[0].getValue("businessDate")).isEqualTo("2025-08-15");
+    }
+
+    @Test
+    void nothingIsWrittenWhenEveryGroupHasAFailedTrade() {
+        ProcessedContractLedger.Run run = ledger.open(request(false));
+        run.markProcessed(run.entryFor(group("C1", "NIH-1", "NAV", "FX Swap", "100.00"), RULE_ID, List.of()), List.of("T1"));
+
+        run.commit(Set.of("T1"));
+
+        verify(repository, never()).executeBatch(anyString(), any(SqlParameterSource[].class));
+    }
+
+    private SqlParameterSource[] fullRun(List<GroupedRecord> groups, List<GroupedRecord> spotGroups) {
+        ProcessedContractLedger.Run run = ledger.open(request(false));
+        int trade = 0;
+        for (GroupedRecord group : groups) {
+            run.markProcessed(run.entryFor(group, RULE_ID, spotGroups), List.of("T" + trade++));
+        }
+        run.commit(Set.of());
+        SqlParameterSource[] recorded = captureCommit();
+        reset(repository);
+        return recorded;
+    }
+
+    private SqlParameterSource[] captureCommit() {
+        ArgumentCaptor<SqlParameterSource[]> captor = ArgumentCaptor.forClass(SqlParameterSource[].class);
+        verify(repository).executeBatch(eq(UPSERT_SQL), captor.capture());
+        return captor.getValue();
+    }
+
+    /**
+     * Opens an incremental run whose ledger query returns {@code ledgerRows}, read through the ledger's row mapper
+     */
+    @SuppressWarnings("unchecked")
+    private ProcessedContractLedger.Run openIncremental(SqlParameterSource[] ledgerRows) throws SQLException {
+        reset(repository);
+        when(repository.fetchData(eq(FETCH_SQL), any(SqlParameterSource.class), any(RowMapper.class))).thenAnswer(inv -> {
+            RowMapper<Object> rowMapper = inv.getArgument(2);
+            List<Object> rows = new ArrayList<>();
+            for (SqlParameterSource ledgerRow : ledgerRows) {
+                rows.add(rowMapper.mapRow(resultSet(ledgerRow), rows.size()));
+            }
+            return rows;
+        });
+        return ledger.open(request(true));
+    }
+
+    private static ResultSet resultSet(SqlParameterSource ledgerRow) throws SQLException {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getString(anyString())).thenAnswer(inv -> (String) ledgerRow.getValue(inv.getArgument(0)));
+        return rs;
+    }
+
+    private static InstructionRequestDto request(boolean incremental) {
+        InstructionRequestDto dto = new InstructionRequestDto();
+        dto.setBusinessDate("2025-08-15");
+        dto.setInstructionEvent("Inception");
+        dto.setCurrency("HKD");
+        dto.setIncremental(incremental);
+        return dto;
+    }
+
+    private static GroupedRecord group(String contract, String comment0, String navType, String typology, String... amounts) {
+        List<AggregatedDataResponse> rows = Arrays.stream(amounts)
+                .map(amount -> {
+                    AggregatedDataResponse row = new AggregatedDataResponse();
+                    row.setContract(contract);
+                    row.setComment0(comment0);
+                    row.setNavType(navType);
+                    row.setTypologyMx3(typology);
+                    row.setCurr1("USD");
+                    row.setCurr2("HKD");
+                    row.setBuyTransAmt(new BigDecimal(amount));
+                    return row;
+                })
+                .toList();
+        return new GroupedRecord(contract, comment0, navType, typology, TradeRowBatch.of(rows));
+    }
+}
@@ -0,0 +1,157 @@
+package com.ruchira.murex.service;
+
+import com.ruchira.murex.config.PersistenceConfig;
+import com.ruchira.murex.dto.StgMrxExtDmcDto;
+import com.ruchira.murex.exception.BusinessException;
+import com.ruchira.murex.freemaker.FtlSqlQueryBuilder;
+import com.ruchira.murex.repository.GenericJdbcDataRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.MariaDBContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.spy;
+
+/**
+ * Runs the DMC bulk writer against a MariaDB container: LOAD DATA LOCAL INFILE, the fallback to chunked
+ * inserts when the driver refuses local files, and the row-count check after a load
+ */
+class StgMrxExtDmcBulkWriterTest {
+
+    private static MariaDBContainer<?> mariaDb;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PersistenceConfig persistenceConfig = new PersistenceConfig();
+    private final FtlSqlQueryBuilder ftlQueryBuilder = new FtlSqlQueryBuilder();
+
+    @BeforeAll
+    static void startDatabase() {
+        assumeTrue(DockerClientFactory.instance().isDockerAvailable(), "Docker is required for the MariaDB container");
+        mariaDb = new MariaDBContainer<>(DockerImageName.parse("mariadb:11.4"))
+                .withCommand("--local-infile=1")
+                .withInitScript("create.sql");
+        mariaDb.start();
+    }
+
+    @AfterAll
+    static void stopDatabase() {
+        if (mariaDb != null) {
+            mariaDb.stop();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        ftlQueryBuilder.init();
+        persistenceConfig.setDmcChunkSize(2);
+        persistenceConfig.setDmcBulkLoadEnabled(true);
+        persistenceConfig.setDmcBulkLoadThreshold(3);
+        jdbc(true).update("DELETE FROM h_stg_mrx_ext_dmc");
+    }
+
+    @Test
+    void loadsRowsWithLoadDataWhenThresholdIsReached() {
+        StgMrxExtDmcBulkWriter writer = writer(repository(true));
+
+        writer.write(rows(5));
+
+        assertThat(rowCount()).isEqualTo(5);
+        assertThat(meterRegistry.get(StgMrxExtDmcBulkWriter.LOAD_TIMER).timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(StgMrxExtDmcBulkWriter.CHUNK_TIMER).timer().count()).isZero();
+
+        Map<String, Object> first = jdbc(true).queryForMap(
+                "SELECT txn_id, ctpy, buy_trans_amt, value_dte, curr2 FROM h_stg_mrx_ext_dmc ORDER BY txn_id LIMIT 1");
+        assertThat(first.get("txn_id")).isEqualTo("TXN-0");
+        assertThat(first.get("ctpy")).isEqualTo("Quote \" comma , backslash \\ line\nbreak");
+        assertThat((BigDecimal) first.get("buy_trans_amt")).isEqualByComparingTo("1250000.125");
+        assertThat(first.get("value_dte")).isEqualTo(java.sql.Date.valueOf(LocalDate.of(2025, 8, 19)));
+        assertThat(first.get("curr2")).isNull();
+    }
+
+    @Test
+    void insertsInChunksWhenTheLoadIsRefused() {
+        StgMrxExtDmcBulkWriter writer = writer(repository(false));
+
+        writer.write(rows(5));
+
+        assertThat(rowCount()).isEqualTo(5);
+        assertThat(meterRegistry.get(StgMrxExtDmcBulkWriter.LOAD_TIMER).timer().count()).isZero();
+        assertThat(meterRegistry.get(StgMrxExtDmcBulkWriter.CHUNK_TIMER).timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    void insertsInChunksBelowTheThreshold() {
+        StgMrxExtDmcBulkWriter writer = writer(repository(true));
+
+        writer.write(rows(2));
+
+        assertThat(rowCount()).isEqualTo(2);
+        assertThat(meterRegistry.get(StgMrxExtDmcBulkWriter.LOAD_TIMER).timer().count()).isZero();
+    }
+
+    @Test
+    void failsInsteadOfFallingBackWhenTheLoadReportsFewerRows() {
+        GenericJdbcDataRepository repository = spy(repository(true));
+        doReturn(4).when(repository).executeUpdate(startsWith("LOAD DATA"));
+        StgMrxExtDmcBulkWriter writer = writer(repository);
+
+        assertThatThrownBy(() -> writer.write(rows(5)))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Bulk load wrote 4 of 5 DMC rows");
+        assertThat(meterRegistry.get(StgMrxExtDmcBulkWriter.CHUNK_TIMER).timer().count()).isZero();
+    }
+
+    private StgMrxExtDmcBulkWriter writer(GenericJdbcDataRepository repository) {
+        return new StgMrxExtDmcBulkWriter(repository, ftlQueryBuilder, persistenceConfig, meterRegistry);
+    }
+
+    private static GenericJdbcDataRepository repository(boolean allowLocalInfile) {
+        return new GenericJdbcDataRepository(new NamedParameterJdbcTemplate(dataSource(allowLocalInfile)));
+    }
+
+    private static JdbcTemplate jdbc(boolean allowLocalInfile) {
+        return new JdbcTemplate(dataSource(allowLocalInfile));
+    }
+
+    private static DriverManagerDataSource dataSource(boolean allowLocalInfile) {
+        return new DriverManagerDataSource(mariaDb.getJdbcUrl() + "?allowLocalInfile=" + allowLocalInfile,
+                mariaDb.getUsername(), mariaDb.getPassword());
+    }
+
+    private static int rowCount() {
+        return jdbc(true).queryForObject("SELECT COUNT(*) FROM h_stg_mrx_ext_dmc", Integer.class);
+    }
+
+    private static List<StgMrxExtDmcDto> rows(int count) {
+        List<StgMrxExtDmcDto> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            StgMrxExtDmcDto dto = new StgMrxExtDmcDto();
+            dto.setTxnId("TXN-" + i);
+            dto.setCtpy("Quote \" comma , backslash \\ line\nbreak");
+            dto.setBuyTransAmt(new BigDecimal("1250000.125").add(BigDecimal.valueOf(i)));
+            dto.setValueDte(LocalDate.of(2025, 8, 19).plusDays(i));
+            dto.setCurr1("USD");
+            dto.setRunId("RUN-TEST");
+            rows.add(dto);
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,69 @@
+package com.ruchira.murex.util;
+
+import com.ruchira.murex.model.TransformedMurexTrade;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TPS projection of one booking: the BeanWrapperImpl clone it replaced, {@link CloneUtils#cloneWithFields} with its
+ * plan cache lookup, and the plan resolved up front as TransformationStrategy holds it.
+ * <p>
+ * Run from the test classpath with {@link #main(String[])}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProjectionPlanBenchmark {
+
+    private static final Set<String> TPS_FIELDS = Set.of("traceId", "txnId", "transDte", "dealTime", "valueDte",
+            "tradingPortf", "ctpy", "bsIndicator", "curr1", "curr2", "buyTransAmt", "sellTransAmt", "initPrice",
+            "spotRate", "fwswPoints", "instrumentCode", "comment0", "comment1", "comment2");
+
+    private TransformedMurexTrade trade;
+    private ProjectionPlan<TransformedMurexTrade> plan;
+
+    @Setup
+    public void setUp() {
+        trade = ProjectionPlanTest.populatedTrade();
+        plan = ProjectionPlan.of(TransformedMurexTrade.class, TransformedMurexTrade.class, TPS_FIELDS);
+    }
+
+    @Benchmark
+    public TransformedMurexTrade beanWrapperClone() {
+        return ProjectionPlanTest.referenceClone(trade, TransformedMurexTrade.class, TPS_FIELDS);
+    }
+
+    @Benchmark
+    public TransformedMurexTrade cloneWithFields() {
+        return CloneUtils.cloneWithFields(trade, TransformedMurexTrade.class, TPS_FIELDS);
+    }
+
+    @Benchmark
+    public TransformedMurexTrade resolvedPlan() {
+        return plan.apply(trade);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ProjectionPlanBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
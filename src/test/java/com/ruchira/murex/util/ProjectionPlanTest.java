@@ -0,0 +1,158 @@
+package com.ruchira.murex.util;
+
+import com.ruchira.murex.model.TransformedMurexTrade;
+import lombok.Data;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.BeanWrapperImpl;
+
+import java.beans.PropertyDescriptor;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that a {@link ProjectionPlan} produces the same object as the reflective
+ * {@code CloneUtils.cloneWithFields} it replaced, which copied each field through a pair of {@link BeanWrapperImpl}s
+ */
+class ProjectionPlanTest {
+
+    @Test
+    void projectsEveryTradeFieldLikeBeanWrapperClone() {
+        TransformedMurexTrade trade = populatedTrade();
+        Set<String> allFields = Arrays.stream(BeanUtils.getPropertyDescriptors(TransformedMurexTrade.class))
+                .map(PropertyDescriptor::getName)
+                .collect(Collectors.toUnmodifiableSet());
+
+        TransformedMurexTrade projected = ProjectionPlan.of(TransformedMurexTrade.class, TransformedMurexTrade.class, allFields)
+                .apply(trade);
+
+        assertThat(projected).isNotSameAs(trade);
+        assertThat(projected).usingRecursiveComparison()
+                .isEqualTo(referenceClone(trade, TransformedMurexTrade.class, allFields));
+        assertThat(projected).usingRecursiveComparison().isEqualTo(trade);
+    }
+
+    @Test
+    void projectsTpsFieldSubsetLikeBeanWrapperClone() {
+        TransformedMurexTrade trade = populatedTrade();
+        Set<String> tpsFields = Set.of("traceId", "txnId", "transDte", "dealTime", "buyTransAmt", "sellTransAmt",
+                "curr1", "curr2", "comment0", "notATradeField", "class");
+
+        TransformedMurexTrade projected = ProjectionPlan.of(TransformedMurexTrade.class, TransformedMurexTrade.class, tpsFields)
+                .apply(trade);
+
+        assertThat(projected).usingRecursiveComparison()
+                .isEqualTo(referenceClone(trade, TransformedMurexTrade.class, tpsFields));
+        assertThat(projected.getTxnId()).isEqualTo(trade.getTxnId());
+        assertThat(projected.getCtpy()).isNull();
+    }
+
+    @Test
+    void projectsNullFieldsLikeBeanWrapperClone() {
+        TransformedMurexTrade trade = new TransformedMurexTrade();
+        trade.setTxnId("TXN-1");
+        Set<String> fields = Set.of("txnId", "buyTransAmt", "valueDte");
+
+        TransformedMurexTrade projected = ProjectionPlan.of(TransformedMurexTrade.class, TransformedMurexTrade.class, fields)
+                .apply(trade);
+
+        assertThat(projected).usingRecursiveComparison().isEqualTo(referenceClone(trade, TransformedMurexTrade.class, fields));
+    }
+
+    @Test
+    void coercesMismatchedTypesLikeBeanWrapperClone() {
+        Source source = new Source();
+        source.setAmount(1250000.125d);
+        source.setCount(42);
+        source.setLabel("HKG_FX_HEDGE");
+        source.setValueDate(LocalDate.of(2025, 8, 19));
+        source.setSourceOnly("ignored");
+        Set<String> fields = Set.of("amount", "count", "label", "valueDate", "sourceOnly", "targetOnly");
+
+        Target projected = ProjectionPlan.of(Source.class, Target.class, fields).apply(source);
+
+        assertThat(projected).usingRecursiveComparison().isEqualTo(referenceClone(source, Target.class, fields));
+        assertThat(projected.getAmount()).isEqualByComparingTo("1250000.125");
+        assertThat(projected.getCount()).isEqualTo(42L);
+    }
+
+    @Test
+    void nullSourceProjectsToNull() {
+        assertThat(ProjectionPlan.of(Source.class, Target.class, Set.of("label")).apply(null)).isNull();
+    }
+
+    @Test
+    void planIsCompiledOncePerClassesAndFieldSet() {
+        Set<String> fields = Set.of("txnId", "curr1");
+
+        assertThat(ProjectionPlan.of(TransformedMurexTrade.class, TransformedMurexTrade.class, fields))
+                .isSameAs(ProjectionPlan.of(TransformedMurexTrade.class, TransformedMurexTrade.class, Set.of("curr1", "txnId")));
+    }
+
+    /**
+     * The cloneWithFields implementation that {@link ProjectionPlan} replaced
+     */
+    static <T> T referenceClone(Object source, Class<T> targetClass, Set<String> includedFields) {
+        T target = BeanUtils.instantiateClass(targetClass);
+        BeanWrapperImpl sourceWrapper = new BeanWrapperImpl(source);
+        BeanWrapperImpl targetWrapper = new BeanWrapperImpl(target);
+        for (String field : includedFields) {
+            if (sourceWrapper.isReadableProperty(field) && targetWrapper.isWritableProperty(field)) {
+                targetWrapper.setPropertyValue(field, sourceWrapper.getPropertyValue(field));
+            }
+        }
+        return target;
+    }
+
+    /**
+     * Trade with every writable property set to a distinct value of its type
+     */
+    static TransformedMurexTrade populatedTrade() {
+        TransformedMurexTrade trade = new TransformedMurexTrade();
+        BeanWrapperImpl wrapper = new BeanWrapperImpl(trade);
+        int index = 0;
+        for (PropertyDescriptor descriptor : BeanUtils.getPropertyDescriptors(TransformedMurexTrade.class)) {
+            if (descriptor.getWriteMethod() == null) {
+                continue;
+            }
+            index++;
+            Class<?> type = descriptor.getPropertyType();
+            Object value;
+            if (type == BigDecimal.class) {
+                value = new BigDecimal(index + ".0125");
+            } else if (type == LocalDate.class) {
+                value = LocalDate.of(2025, 8, 1).plusDays(index);
+            } else if (type == LocalDateTime.class) {
+                value = LocalDateTime.of(2025, 8, 15, 10, 0).plusMinutes(index);
+            } else {
+                value = descriptor.getName() + "-" + index;
+            }
+            wrapper.setPropertyValue(descriptor.getName(), value);
+        }
+        return trade;
+    }
+
+    @Data
+    public static class Source {
+        private Double amount;
+        private Integer count;
+        private String label;
+        private LocalDate valueDate;
+        private String sourceOnly;
+    }
+
+    @Data
+    public static class Target {
+        private BigDecimal amount;
+        private long count;
+        private String label;
+        private LocalDate valueDate;
+        private String targetOnly;
+    }
+}
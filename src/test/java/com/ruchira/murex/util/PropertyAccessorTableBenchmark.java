@@ -0,0 +1,87 @@
+package com.ruchira.murex.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.beans.BeanWrapperImpl;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Property get/set through {@link PropertyAccessorTable} against a {@link BeanWrapperImpl} per call, the way
+ * DynamicFieldParser used it before; {@code coerce*} benchmarks set a Double into a BigDecimal property.
+ * <p>
+ * Run from the test classpath with {@link #main(String[])}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PropertyAccessorTableBenchmark {
+
+    private PropertyAccessorTableTest.Sample sample;
+    private PropertyAccessorTable.PropertyAccessor labelAccessor;
+    private PropertyAccessorTable.PropertyAccessor amountAccessor;
+    private final Double amount = 1250000.125d;
+
+    @Setup
+    public void setUp() {
+        sample = new PropertyAccessorTableTest.Sample();
+        sample.setLabel("HKG_FX_HEDGE");
+        labelAccessor = PropertyAccessorTable.forClass(PropertyAccessorTableTest.Sample.class).accessor("label");
+        amountAccessor = PropertyAccessorTable.forClass(PropertyAccessorTableTest.Sample.class).accessor("amount");
+    }
+
+    @Benchmark
+    public Object getBeanWrapper() {
+        return new BeanWrapperImpl(sample).getPropertyValue("label");
+    }
+
+    @Benchmark
+    public Object getAccessorTable() {
+        return PropertyAccessorTable.forClass(sample.getClass()).accessor("label").get(sample);
+    }
+
+    @Benchmark
+    public Object getResolvedAccessor() {
+        return labelAccessor.get(sample);
+    }
+
+    @Benchmark
+    public BigDecimal coerceBeanWrapper() {
+        new BeanWrapperImpl(sample).setPropertyValue("amount", amount);
+        return sample.getAmount();
+    }
+
+    @Benchmark
+    public BigDecimal coerceAccessorTable() {
+        PropertyAccessorTable.forClass(sample.getClass()).accessor("amount").set(sample, amount);
+        return sample.getAmount();
+    }
+
+    @Benchmark
+    public BigDecimal coerceResolvedAccessor() {
+        amountAccessor.set(sample, amount);
+        return sample.getAmount();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(PropertyAccessorTableBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
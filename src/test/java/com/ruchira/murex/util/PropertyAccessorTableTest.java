@@ -0,0 +1,143 @@
+package com.ruchira.murex.util;
+
+import lombok.Data;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.BeanWrapperImpl;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+/**
+ * Checks that {@link PropertyAccessorTable.PropertyAccessor#set(Object, Object)} coerces values exactly as
+ * {@link BeanWrapperImpl#setPropertyValue(String, Object)} does, including the conversions both refuse
+ */
+class PropertyAccessorTableTest {
+
+    private static final Object FAILED = new Object() {
+        @Override
+        public String toString() {
+            return "<conversion failed>";
+        }
+    };
+
+    static Stream<Arguments> coercions() {
+        return Stream.of(
+                arguments("amount", new BigDecimal("1.50")),
+                arguments("amount", 0.1d),
+                arguments("amount", 7),
+                arguments("amount", 1234567890123L),
+                arguments("amount", "1.25"),
+                arguments("amount", " 2.75 "),
+                arguments("amount", ""),
+                arguments("amount", "   "),
+                arguments("amount", "abc"),
+                arguments("amount", null),
+                arguments("rate", new BigDecimal("1.5")),
+                arguments("rate", "2.5"),
+                arguments("rate", ""),
+                arguments("quantity", 12L),
+                arguments("quantity", "  "),
+                arguments("quantity", null),
+                arguments("count", 5L),
+                arguments("count", 3.9d),
+                arguments("count", "12"),
+                arguments("count", ""),
+                arguments("count", null),
+                arguments("count", 10_000_000_000L),
+                arguments("total", 7),
+                arguments("total", " 42 "),
+                arguments("price", 2),
+                arguments("price", "3.5"),
+                arguments("flag", Boolean.TRUE),
+                arguments("flag", "true"),
+                arguments("flag", "yes"),
+                arguments("flag", ""),
+                arguments("label", "text"),
+                arguments("label", 42),
+                arguments("label", 1.5d),
+                arguments("label", true),
+                arguments("label", 'c'),
+                arguments("label", new BigDecimal("9.99")),
+                arguments("label", LocalDate.of(2025, 8, 19)),
+                arguments("valueDate", LocalDate.of(2025, 8, 19)),
+                arguments("valueDate", "2025-08-19"),
+                arguments("valueDate", ""),
+                arguments("valueDate", null),
+                arguments("dealTime", LocalDateTime.of(2025, 8, 15, 10, 42, 7)),
+                arguments("dealTime", "2025-08-15T10:42:07")
+        );
+    }
+
+    @ParameterizedTest(name = "{0} <- {1}")
+    @MethodSource("coercions")
+    void setCoercesLikeBeanWrapperImpl(String property, Object value) {
+        PropertyAccessorTable.PropertyAccessor accessor = PropertyAccessorTable.forClass(Sample.class).accessor(property);
+
+        Object actual = outcome(() -> {
+            Sample sample = new Sample();
+            accessor.set(sample, value);
+            return accessor.get(sample);
+        });
+        Object expected = outcome(() -> {
+            BeanWrapperImpl wrapper = new BeanWrapperImpl(new Sample());
+            wrapper.setPropertyValue(property, value);
+            return wrapper.getPropertyValue(property);
+        });
+
+        assertThat(actual).isEqualTo(expected);
+        if (actual != null && actual != FAILED) {
+            assertThat(actual).hasSameClassAs(expected);
+        }
+    }
+
+    @Test
+    void exposesTheSamePropertiesAsBeanWrapperImpl() {
+        PropertyAccessorTable table = PropertyAccessorTable.forClass(Sample.class);
+        BeanWrapperImpl wrapper = new BeanWrapperImpl(new Sample());
+
+        for (String property : new String[]{"amount", "count", "label", "valueDate", "readOnly", "missing"}) {
+            assertThat(table.isReadable(property)).as(property).isEqualTo(wrapper.isReadableProperty(property));
+            assertThat(table.isWritable(property)).as(property).isEqualTo(wrapper.isWritableProperty(property));
+        }
+    }
+
+    @Test
+    void tableIsBuiltOncePerClass() {
+        assertThat(PropertyAccessorTable.forClass(Sample.class)).isSameAs(PropertyAccessorTable.forClass(Sample.class));
+    }
+
+    private static Object outcome(Supplier<Object> supplier) {
+        try {
+            return supplier.get();
+        } catch (RuntimeException e) {
+            return FAILED;
+        }
+    }
+
+    @Data
+    public static class Sample {
+        private BigDecimal amount;
+        private Double rate;
+        private Integer quantity;
+        private int count;
+        private long total;
+        private double price;
+        private boolean flag;
+        private String label;
+        private LocalDate valueDate;
+        private LocalDateTime dealTime;
+
+        public String getReadOnly() {
+            return "fixed";
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.ruchira.murex.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Trace id throughput with every available core generating at once, against the random UUID based ids they
+ * replaced, whose shared SecureRandom serialises concurrent callers.
+ * <p>
+ * Run from the test classpath with {@link #main(String[])}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(Threads.MAX)
+@Fork(1)
+public class TraceIdGeneratorBenchmark {
+
+    @Benchmark
+    public String sequenceTraceId() {
+        return TraceIdGenerator.generateTimestampBasedTraceId();
+    }
+
+    @Benchmark
+    public String uuidTraceId() {
+        long currentTime = System.currentTimeMillis() / 1000;
+        return "HAWK-".concat(String.valueOf(currentTime)).concat(UUID.randomUUID().toString().substring(8, 23));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TraceIdGeneratorBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,122 @@
+package com.ruchira.murex.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Checks the {@code HAWK-<epoch seconds>-hhhh-hhhh-hhhh} layout of {@link TraceIdGenerator} ids and their
+ * uniqueness when many virtual threads generate them at once
+ */
+class TraceIdGeneratorTest {
+
+    private static final Pattern TRACE_ID = Pattern.compile("HAWK-(\\d+)-([0-9a-f]{4})-([0-9a-f]{4})-([0-9a-f]{4})");
+
+    private int originalNodeId;
+
+    @BeforeEach
+    void rememberNodeId() {
+        originalNodeId = TraceIdGenerator.getNodeId();
+    }
+
+    @AfterEach
+    void restoreNodeId() {
+        TraceIdGenerator.setNodeId(originalNodeId);
+    }
+
+    @Test
+    void keepsTheTimestampAndThreeHexGroupsLayout() {
+        long before = System.currentTimeMillis() / 1000;
+        String traceId = TraceIdGenerator.generateTimestampBasedTraceId();
+        long after = System.currentTimeMillis() / 1000;
+
+        Matcher matcher = TRACE_ID.matcher(traceId);
+        assertThat(matcher.matches()).as(traceId).isTrue();
+        assertThat(Long.parseLong(matcher.group(1))).isBetween(before, after);
+        // Same length as the UUID based ids it replaced: prefix, seconds and 15 characters of groups
+        assertThat(traceId).hasSize("HAWK-".length() + matcher.group(1).length() + 15);
+    }
+
+    @Test
+    void encodesTheNodeIdInTheLeadingBits() {
+        TraceIdGenerator.setNodeId(TraceIdGenerator.MAX_NODE_ID);
+        assertThat(nodeIdOf(TraceIdGenerator.generateTimestampBasedTraceId())).isEqualTo(TraceIdGenerator.MAX_NODE_ID);
+
+        TraceIdGenerator.setNodeId(5);
+        assertThat(nodeIdOf(TraceIdGenerator.generateTimestampBasedTraceId())).isEqualTo(5);
+        assertThat(TraceIdGenerator.getNodeId()).isEqualTo(5);
+    }
+
+    @Test
+    void idsOfOneSecondSortInIssueOrder() {
+        String first = TraceIdGenerator.generateTimestampBasedTraceId();
+        String second = TraceIdGenerator.generateTimestampBasedTraceId();
+
+        if (secondsOf(first) == secondsOf(second)) {
+            assertThat(second).isGreaterThan(first);
+        }
+    }
+
+    @Test
+    void rejectsNodeIdsOutOfRange() {
+        assertThatThrownBy(() -> TraceIdGenerator.setNodeId(-1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TraceIdGenerator.setNodeId(TraceIdGenerator.MAX_NODE_ID + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void idsAreUniqueAcrossConcurrentVirtualThreads() throws Exception {
+        final int threads = 2_000;
+        final int idsPerThread = 500;
+        Set<String> ids = ConcurrentHashMap.newKeySet(threads * idsPerThread);
+        CountDownLatch start = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>(threads);
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < idsPerThread; i++) {
+                        String id = TraceIdGenerator.generateTimestampBasedTraceId();
+                        assertThat(ids.add(id)).as("duplicate %s", id).isTrue();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        assertThat(ids).hasSize(threads * idsPerThread);
+        assertThat(ids).allMatch(id -> TRACE_ID.matcher(id).matches());
+    }
+
+    private static int nodeIdOf(String traceId) {
+        Matcher matcher = TRACE_ID.matcher(traceId);
+        assertThat(matcher.matches()).isTrue();
+        // The first group holds bits 47..32; the node id is bits 47..38
+        return Integer.parseInt(matcher.group(2), 16) >>> 6;
+    }
+
+    private static long secondsOf(String traceId) {
+        Matcher matcher = TRACE_ID.matcher(traceId);
+        assertThat(matcher.matches()).isTrue();
+        return Long.parseLong(matcher.group(1));
+    }
+}